@@ -0,0 +1,82 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BowlingGame#calculateScores} and {@link BowlingGame#calculateStatistics} over a batch of random
+ * games for different pool sizes and chunk sizes, to show how the batch scales with cores.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchScoringBenchmark
+{
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    @Param({"1024", "4096", "16384"})
+    private int chunkSize;
+
+    private BowlingGame bowlingGame;
+    private List<String> games;
+    private ForkJoinPool pool;
+
+    /**
+     * Creates the batch of games and the {@link ForkJoinPool}.
+     */
+    @Setup
+    public void setUp()
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        games = Arrays.asList(GameCorpus.RANDOM.createGames(1_000_000, 42L));
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Shuts down the {@link ForkJoinPool}.
+     */
+    @TearDown
+    public void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#calculateScores(List, ForkJoinPool, int)}.
+     * @return The scores.
+     */
+    @Benchmark
+    public int[] calculateScores()
+    {
+        return bowlingGame.calculateScores(games, pool, chunkSize);
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#calculateStatistics(List, ForkJoinPool, int)}.
+     * @return The statistics.
+     */
+    @Benchmark
+    public GameStatistics calculateStatistics()
+    {
+        return bowlingGame.calculateStatistics(games, pool, chunkSize);
+    }
+}
@@ -0,0 +1,196 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for parsing, validating and scoring with {@link BowlingGame}. Each invocation handles the next game of
+ * the corpus so that branch prediction cannot learn a single game.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BowlingGameBenchmark
+{
+    private static final int CORPUS_SIZE = 1024;
+
+    @Param({"ALL_STRIKES", "ALL_SPARES", "ALL_GUTTERS", "RANDOM", "INVALID"})
+    private GameCorpus corpus;
+
+    private BowlingGame bowlingGame;
+    private String[] games;
+    private String[] firstFrames;
+    private FrameType[] firstFrameTypes;
+    private final int[] cumulativeScores = new int[10];
+    private int index;
+
+    /**
+     * Creates the corpus of games.
+     */
+    @Setup
+    public void setUp()
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        games = corpus.createGames(CORPUS_SIZE, 42L);
+        firstFrames = new String[CORPUS_SIZE];
+        firstFrameTypes = new FrameType[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++)
+        {
+            final String game = games[i];
+            final String firstFrame = game.substring(0, Math.max(game.indexOf('|'), 0));
+            try
+            {
+                firstFrameTypes[i] = bowlingGame.getFrameType(firstFrame);
+                firstFrames[i] = firstFrame;
+            }
+            catch (final IllegalArgumentException e)
+            {
+                // Invalid frames cannot reach getFrame through the parser, benchmark a gutter frame instead.
+                firstFrameTypes[i] = FrameType.PINS;
+                firstFrames[i] = "--";
+            }
+        }
+    }
+
+    /**
+     * @return The index of the next game of the corpus.
+     */
+    private int nextIndex()
+    {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return index;
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#calculateScore}.
+     * @return The score, or the hash of the failure.
+     */
+    @Benchmark
+    public int calculateScore()
+    {
+        final String game = games[nextIndex()];
+        try
+        {
+            return bowlingGame.calculateScore(game);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            return e.getMessage().hashCode();
+        }
+    }
+
+    /**
+     * Benchmarks the non-throwing {@link BowlingGame#evaluate}.
+     * @return The result.
+     */
+    @Benchmark
+    public ScoreResult evaluate()
+    {
+        return bowlingGame.evaluate(games[nextIndex()]);
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#tryCalculateFrameScores}, to compare with {@link #evaluate()}.
+     * @return The score.
+     */
+    @Benchmark
+    public int tryCalculateFrameScores()
+    {
+        return bowlingGame.tryCalculateFrameScores(games[nextIndex()], cumulativeScores);
+    }
+
+    /**
+     * Benchmarks the reference {@link BowlingGame#calculateScoreFromFrames}.
+     * @return The score, or the hash of the failure.
+     */
+    @Benchmark
+    public int calculateScoreFromFrames()
+    {
+        final String game = games[nextIndex()];
+        try
+        {
+            return bowlingGame.calculateScoreFromFrames(game);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            return e.getMessage().hashCode();
+        }
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#parseBowlingGame}, which includes the validation of the game.
+     * @return The parsed frames, or {@code null} on failure.
+     */
+    @Benchmark
+    public List<Frame> parseBowlingGame()
+    {
+        final String game = games[nextIndex()];
+        try
+        {
+            return bowlingGame.parseBowlingGame(game);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#getFrame} on the first frame of each game.
+     * @return The frame, or {@code null} on failure.
+     */
+    @Benchmark
+    public Frame getFrame()
+    {
+        final int i = nextIndex();
+        try
+        {
+            return bowlingGame.getFrame(firstFrames[i], firstFrameTypes[i]);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#getRollValue} on every roll of each game.
+     * @param blackhole The {@link Blackhole}.
+     */
+    @Benchmark
+    public void getRollValue(final Blackhole blackhole)
+    {
+        final String game = games[nextIndex()];
+        for (int i = 0; i < game.length(); i++)
+        {
+            final char roll = game.charAt(i);
+            if (roll != '|')
+            {
+                try
+                {
+                    blackhole.consume(bowlingGame.getRollValue(roll));
+                }
+                catch (final NumberFormatException e)
+                {
+                    blackhole.consume(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares finding the games of a range of keys with at least a given score in a {@link GameArchive} of one million
+ * random games with rescoring their text, as a report over flat files does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameArchiveBenchmark
+{
+    private static final int GAMES = 1_000_000;
+    private static final int GAMES_PER_DAY = 1_000;
+    private static final long FROM_DAY = 700;
+    private static final long TO_DAY = 790;
+    private static final int MIN_SCORE = 150;
+
+    private BowlingGame bowlingGame;
+    private String[] games;
+    private Path directory;
+    private GameArchive archive;
+
+    /**
+     * Appends the random games to an archive in a temporary directory, keyed by day.
+     * @throws IOException If the archive cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        games = GameCorpus.RANDOM.createGames(GAMES, 42L);
+        directory = Files.createTempDirectory("game-archive");
+        archive = GameArchive.open(directory, bowlingGame);
+        for (int i = 0; i < GAMES; i++)
+        {
+            archive.append(i / GAMES_PER_DAY, games[i]);
+        }
+    }
+
+    /**
+     * Closes the archive and deletes its directory.
+     * @throws IOException If the directory cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        archive.close();
+        try (Stream<Path> paths = Files.walk(directory))
+        {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+            {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Benchmarks {@link GameArchive#find}.
+     * @return The number of games found.
+     */
+    @Benchmark
+    public int archiveFind()
+    {
+        return archive.find(FROM_DAY, TO_DAY, MIN_SCORE, Integer.MAX_VALUE).length;
+    }
+
+    /**
+     * Benchmarks rescoring the games of the days with {@link BowlingGame#tryCalculateScore(CharSequence)}.
+     * @return The number of games found.
+     */
+    @Benchmark
+    public int rescoreText()
+    {
+        int found = 0;
+        for (int i = (int) FROM_DAY * GAMES_PER_DAY; i < (TO_DAY + 1) * GAMES_PER_DAY; i++)
+        {
+            if (bowlingGame.tryCalculateScore(games[i]) >= MIN_SCORE)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+}
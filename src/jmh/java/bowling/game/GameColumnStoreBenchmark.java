@@ -0,0 +1,65 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks bulk scoring and aggregation in a {@link GameColumnStore} of one million random games.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameColumnStoreBenchmark
+{
+    private static final int GAMES = 1_000_000;
+
+    private GameColumnStore store;
+
+    /**
+     * Fills the store with random games.
+     */
+    @Setup
+    public void setUp()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        store = new GameColumnStore(bowlingGame, GAMES);
+        for (final String game : GameCorpus.RANDOM.createGames(GAMES, 42L))
+        {
+            store.add(PackedGames.encode(bowlingGame, game));
+        }
+    }
+
+    /**
+     * Benchmarks {@link GameColumnStore#scoreAll()}.
+     * @return The score of the first game.
+     */
+    @Benchmark
+    public int scoreAll()
+    {
+        store.scoreAll();
+        return store.getScore(0);
+    }
+
+    /**
+     * Benchmarks {@link GameColumnStore#histogram}.
+     * @return The histogram.
+     */
+    @Benchmark
+    public long[] histogram()
+    {
+        return store.histogram(10);
+    }
+}
@@ -0,0 +1,147 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Random;
+
+/**
+ * Corpora of standard games used by the benchmarks.
+ */
+public enum GameCorpus
+{
+    /**
+     * Perfect games.
+     */
+    ALL_STRIKES
+    {
+        @Override
+        String createGame(@NonNull final Random random)
+        {
+            return "X|X|X|X|X|X|X|X|X|X||XX";
+        }
+    },
+
+    /**
+     * Games of spares with random first rolls.
+     */
+    ALL_SPARES
+    {
+        @Override
+        String createGame(@NonNull final Random random)
+        {
+            final StringBuilder game = new StringBuilder();
+            for (int frame = 0; frame < 10; frame++)
+            {
+                game.append(toSymbol(random.nextInt(10))).append('/').append('|');
+            }
+            return game.append('|').append(toSymbol(random.nextInt(10))).toString();
+        }
+    },
+
+    /**
+     * Games without a single pin knocked down.
+     */
+    ALL_GUTTERS
+    {
+        @Override
+        String createGame(@NonNull final Random random)
+        {
+            return "--|--|--|--|--|--|--|--|--|--||";
+        }
+    },
+
+    /**
+     * Random valid games.
+     */
+    RANDOM
+    {
+        @Override
+        String createGame(@NonNull final Random random)
+        {
+            final StringBuilder game = new StringBuilder();
+            int bonusRolls = 0;
+            for (int frame = 0; frame < 10; frame++)
+            {
+                final int firstRoll = random.nextInt(11);
+                if (firstRoll == 10)
+                {
+                    game.append('X');
+                    bonusRolls = 2;
+                }
+                else
+                {
+                    final int secondRoll = random.nextInt(11 - firstRoll);
+                    final boolean spare = firstRoll + secondRoll == 10;
+                    game.append(toSymbol(firstRoll)).append(spare ? '/' : toSymbol(secondRoll));
+                    bonusRolls = spare ? 1 : 0;
+                }
+                game.append('|');
+            }
+            game.append('|');
+            for (int roll = 0; roll < bonusRolls; roll++)
+            {
+                final int bonusRoll = random.nextInt(11);
+                game.append(bonusRoll == 10 ? 'X' : toSymbol(bonusRoll));
+            }
+            return game.toString();
+        }
+    },
+
+    /**
+     * Invalid games covering each {@link IllegalArgumentException} path of {@link BowlingGame#calculateScore}.
+     */
+    INVALID
+    {
+        @Override
+        String createGame(@NonNull final Random random)
+        {
+            return INVALID_GAMES[random.nextInt(INVALID_GAMES.length)];
+        }
+    };
+
+    private static final String[] INVALID_GAMES = {
+            "X|9-||",
+            "1-|2-|3-|4-|5-|6-|7-|8-|9-|1-|11||",
+            "1-|2-|3-|4-|5-|6-|7-|8-|9-|X||9",
+            "1-|2-|3-|4-|5-|6-|7-|8-|9-|1/||91",
+            "1-|2-|T|4-|5-|6-|7-|8-|9-|1-||",
+            "123|2-|3-|4-|5-|6-|7-|8-|9-|1-||",
+            "1-|2-|3-|99|5-|6-|7-|8-|9-|1-||",
+            "1-|2-|3-|9G|5-|6-|7-|8-|9-|1-||",
+            "1-|2-|3-|4-|5-|6-|7-|8-|9-|1-|"
+    };
+
+    /**
+     * Creates a game of this corpus.
+     * @param random The {@link Random}.
+     * @return The non-null game.
+     */
+    abstract String createGame(@NonNull Random random);
+
+    /**
+     * Creates the games of this corpus.
+     * @param size The number of games.
+     * @param seed The seed of the {@link Random}.
+     * @return The non-null array of games.
+     */
+    @NonNull
+    public String[] createGames(final int size, final long seed)
+    {
+        final Random random = new Random(seed);
+        final String[] games = new String[size];
+        for (int i = 0; i < size; i++)
+        {
+            games[i] = createGame(random);
+        }
+        return games;
+    }
+
+    /**
+     * @param pins The number of pins knocked down, less than ten.
+     * @return The symbol of the roll.
+     */
+    private static char toSymbol(final int pins)
+    {
+        return pins == 0 ? '-' : (char) ('0' + pins);
+    }
+}
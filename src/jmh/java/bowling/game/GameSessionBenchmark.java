@@ -0,0 +1,86 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the score range and target queries of {@link GameSession} over standard games in progress, stopped after
+ * a random number of rolls.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GameSessionBenchmark
+{
+    private static final int CORPUS_SIZE = 1024;
+
+    private GameSession[] sessions;
+    private int[] targets;
+    private int index;
+
+    /**
+     * Plays the games in progress and picks a target halfway between the lowest and highest final score of each.
+     */
+    @Setup
+    public void setUp()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(42L);
+        sessions = new GameSession[CORPUS_SIZE];
+        targets = new int[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++)
+        {
+            final GameSession session = bowlingGame.newSession();
+            for (int roll = random.nextInt(20); roll > 0 && !session.isComplete(); roll--)
+            {
+                session.roll(random.nextInt(session.getStandingPins() + 1));
+            }
+            sessions[i] = session;
+            targets[i] = (session.getMinimumScore() + session.getMaximumScore()) / 2;
+        }
+    }
+
+    /**
+     * @return The index of the next game of the corpus.
+     */
+    private int nextIndex()
+    {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return index;
+    }
+
+    /**
+     * Benchmarks {@link GameSession#getMaximumScore()}.
+     * @return The highest final score.
+     */
+    @Benchmark
+    public int getMaximumScore()
+    {
+        return sessions[nextIndex()].getMaximumScore();
+    }
+
+    /**
+     * Benchmarks {@link GameSession#getRollsToReach(int)}.
+     * @return The rolls.
+     */
+    @Benchmark
+    public int[] getRollsToReach()
+    {
+        final int game = nextIndex();
+        return sessions[game].getRollsToReach(targets[game]);
+    }
+}
@@ -0,0 +1,120 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scoring games held as bytes by decoding them to a {@link String} first with scoring them in place through
+ * the byte array and {@link ByteBuffer} overloads. Run with {@code -prof gc} to compare the allocation per call.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InputOverloadBenchmark
+{
+    private static final int CORPUS_SIZE = 1024;
+
+    @Param({"RANDOM", "INVALID"})
+    private GameCorpus corpus;
+
+    private BowlingGame bowlingGame;
+    private byte[] bytes;
+    private int[] offsets;
+    private int[] lengths;
+    private ByteBuffer directBuffer;
+    private StringBuilder[] builders;
+    private int index;
+
+    /**
+     * Packs the corpus into one byte array, like a pooled network buffer, and into a direct {@link ByteBuffer}.
+     */
+    @Setup
+    public void setUp()
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        final String[] games = corpus.createGames(CORPUS_SIZE, 42L);
+        final StringBuilder text = new StringBuilder();
+        offsets = new int[CORPUS_SIZE];
+        lengths = new int[CORPUS_SIZE];
+        builders = new StringBuilder[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++)
+        {
+            offsets[i] = text.length();
+            lengths[i] = games[i].length();
+            builders[i] = new StringBuilder(games[i]);
+            text.append(games[i]);
+        }
+        bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+        directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).clear();
+    }
+
+    /**
+     * @return The index of the next game of the corpus.
+     */
+    private int nextIndex()
+    {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return index;
+    }
+
+    /**
+     * Benchmarks decoding the bytes to a {@link String} and scoring it.
+     * @return The score.
+     */
+    @Benchmark
+    public int decodedString()
+    {
+        final int game = nextIndex();
+        return bowlingGame.tryCalculateScore(new String(bytes, offsets[game], lengths[game], StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#tryCalculateScore(byte[], int, int)}.
+     * @return The score.
+     */
+    @Benchmark
+    public int byteArray()
+    {
+        final int game = nextIndex();
+        return bowlingGame.tryCalculateScore(bytes, offsets[game], lengths[game]);
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#tryCalculateScore(ByteBuffer)} over a direct buffer.
+     * @return The score.
+     */
+    @Benchmark
+    public int directByteBuffer()
+    {
+        final int game = nextIndex();
+        directBuffer.limit(offsets[game] + lengths[game]).position(offsets[game]);
+        return bowlingGame.tryCalculateScore(directBuffer);
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#tryCalculateScore(CharSequence)} with a {@link StringBuilder}.
+     * @return The score.
+     */
+    @Benchmark
+    public int stringBuilder()
+    {
+        return bowlingGame.tryCalculateScore(builders[nextIndex()]);
+    }
+}
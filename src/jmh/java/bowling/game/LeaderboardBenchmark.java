@@ -0,0 +1,142 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares submitting games from many threads to a {@link Leaderboard} with funnelling the scores through a single
+ * synchronized sorted map. Run with {@code -t} to set the number of submitting threads, such as {@code -t 64}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeaderboardBenchmark
+{
+    private static final int CORPUS_SIZE = 1 << 16;
+    private static final int KEYS = 100_000;
+    private static final int TOP = 10;
+
+    private BowlingGame bowlingGame;
+    private String[] games;
+    private Leaderboard leaderboard;
+    private SynchronizedLeaderboard synchronizedLeaderboard;
+
+    /**
+     * Creates the corpus and the empty leaderboards, which fill up as the iterations run.
+     */
+    @Setup
+    public void setUp()
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        games = GameCorpus.RANDOM.createGames(CORPUS_SIZE, 42L);
+        leaderboard = new Leaderboard(bowlingGame);
+        synchronizedLeaderboard = new SynchronizedLeaderboard();
+    }
+
+    /**
+     * Benchmarks {@link Leaderboard#submit}.
+     * @return The score.
+     */
+    @Benchmark
+    public int leaderboard()
+    {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return leaderboard.submit(random.nextInt(KEYS), games[random.nextInt(CORPUS_SIZE)]);
+    }
+
+    /**
+     * Benchmarks scoring games and recording the scores in a single synchronized sorted map.
+     * @return The score.
+     */
+    @Benchmark
+    public int synchronizedSortedMap()
+    {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int score = bowlingGame.calculateScore(games[random.nextInt(CORPUS_SIZE)]);
+        synchronizedLeaderboard.submit(random.nextInt(KEYS), score);
+        return score;
+    }
+
+    /**
+     * Benchmarks {@link Leaderboard#submit} while another thread reads the top entries.
+     * @return The score.
+     */
+    @Benchmark
+    @Group("readWhileSubmitting")
+    @GroupThreads(7)
+    public int submitter()
+    {
+        return leaderboard();
+    }
+
+    /**
+     * Benchmarks {@link Leaderboard#getTop} while other threads submit games.
+     * @return The top entries.
+     */
+    @Benchmark
+    @Group("readWhileSubmitting")
+    @GroupThreads(1)
+    public List<Leaderboard.Entry> reader()
+    {
+        return leaderboard.getTop(TOP);
+    }
+
+    /**
+     * The best score per key in a sorted map guarded by a single lock, as a leaderboard wrapper would keep it.
+     */
+    private static final class SynchronizedLeaderboard
+    {
+        private final Map<Long, Integer> bestScores = new HashMap<>();
+        private final TreeMap<Long, Long> keysByRank = new TreeMap<>();
+
+        /**
+         * Records the score if it beats the best score of the key.
+         * @param key The key.
+         * @param score The score.
+         */
+        private synchronized void submit(final long key, final int score)
+        {
+            final Integer best = bestScores.get(key);
+            if (best != null && best >= score)
+            {
+                return;
+            }
+            if (best != null)
+            {
+                keysByRank.remove(toRank(key, best));
+            }
+            bestScores.put(key, score);
+            keysByRank.put(toRank(key, score), key);
+        }
+
+        /**
+         * @param key The key, less than 2^32.
+         * @param score The score.
+         * @return The sort key that orders from the highest score, and then by key.
+         */
+        private static long toRank(final long key, final int score)
+        {
+            return ((long) -score << Integer.SIZE) | key;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scoring under different {@link BowlingGame.Builder} rules. The STANDARD rule set is built with
+ * {@link BowlingGame#createStandardGame()}, so comparing it with earlier results shows what the configurable bonus
+ * rules cost the standard path.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RuleSetBenchmark
+{
+    private static final int CORPUS_SIZE = 1024;
+
+    /**
+     * The rule sets to benchmark.
+     */
+    public enum RuleSet
+    {
+        STANDARD
+        {
+            @Override
+            BowlingGame createBowlingGame()
+            {
+                return BowlingGame.createStandardGame();
+            }
+        },
+        FIVE_PIN
+        {
+            @Override
+            BowlingGame createBowlingGame()
+            {
+                return BowlingGame.newBuilder().withNumberOfPins(5).withStrikeBonusRolls(1).withSpareBonusRolls(2).build();
+            }
+        },
+        NO_BONUS
+        {
+            @Override
+            BowlingGame createBowlingGame()
+            {
+                return BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(0).build();
+            }
+        };
+
+        /**
+         * @return The non-null {@link BowlingGame} with the rules of this rule set.
+         */
+        abstract BowlingGame createBowlingGame();
+    }
+
+    @Param
+    private RuleSet ruleSet;
+
+    private BowlingGame bowlingGame;
+    private String[] games;
+    private int index;
+
+    /**
+     * Creates the {@link BowlingGame} and a corpus of random games played under its rules.
+     */
+    @Setup
+    public void setUp()
+    {
+        bowlingGame = ruleSet.createBowlingGame();
+        final Random random = new Random(42L);
+        games = new String[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++)
+        {
+            games[i] = playRandomGame(random);
+        }
+    }
+
+    /**
+     * Plays random rolls into a {@link GameSession} and writes them down with the standard symbols.
+     * @param random The {@link Random}.
+     * @return The game that was played.
+     */
+    private String playRandomGame(final Random random)
+    {
+        final int numberOfPins = bowlingGame.getNumberOfPins();
+        final GameSession session = bowlingGame.newSession();
+        final StringBuilder game = new StringBuilder();
+        int standingPins = numberOfPins;
+        boolean firstRoll = true;
+        while (!session.isComplete())
+        {
+            final int frameIndex = session.getFrameIndex();
+            final boolean bonusRoll = frameIndex == bowlingGame.getNumberOfFrames();
+            final int pins = random.nextInt(standingPins + 1);
+            session.roll(pins);
+            if (pins == standingPins && !firstRoll && !bonusRoll)
+            {
+                game.append('/');
+            }
+            else
+            {
+                game.append(pins == numberOfPins ? 'X' : pins == 0 ? '-' : (char) ('0' + pins));
+            }
+            final boolean frameComplete = session.getFrameIndex() != frameIndex;
+            standingPins = pins == standingPins || frameComplete ? numberOfPins : standingPins - pins;
+            firstRoll = frameComplete;
+            if (frameComplete)
+            {
+                game.append(session.getFrameIndex() == bowlingGame.getNumberOfFrames() ? "||" : "|");
+            }
+        }
+        return game.toString();
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#calculateScore}.
+     * @return The score.
+     */
+    @Benchmark
+    public int calculateScore()
+    {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return bowlingGame.calculateScore(games[index]);
+    }
+}
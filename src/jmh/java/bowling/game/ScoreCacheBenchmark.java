@@ -0,0 +1,70 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link ScoreCache} hit with scoring the same repeated games from scratch.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ScoreCacheBenchmark
+{
+    private static final int CORPUS_SIZE = 256;
+
+    private BowlingGame bowlingGame;
+    private ScoreCache cache;
+    private String[] games;
+    private int index;
+
+    /**
+     * Creates the corpus of repeated games and warms the cache with it.
+     */
+    @Setup
+    public void setUp()
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        cache = new ScoreCache(bowlingGame, CORPUS_SIZE);
+        games = GameCorpus.RANDOM.createGames(CORPUS_SIZE, 42L);
+        for (final String game : games)
+        {
+            cache.tryCalculateScore(game);
+        }
+    }
+
+    /**
+     * Benchmarks a {@link ScoreCache} hit.
+     * @return The score.
+     */
+    @Benchmark
+    public int cacheHit()
+    {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return cache.tryCalculateScore(games[index]);
+    }
+
+    /**
+     * Benchmarks scoring without the cache.
+     * @return The score.
+     */
+    @Benchmark
+    public int uncached()
+    {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return bowlingGame.tryCalculateScore(games[index]);
+    }
+}
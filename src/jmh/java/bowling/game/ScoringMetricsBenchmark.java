@@ -0,0 +1,103 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scoring with and without {@link ScoringMetrics}, on one thread and on several threads sharing the metrics.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScoringMetricsBenchmark
+{
+    private static final int CORPUS_SIZE = 1024;
+
+    /**
+     * The {@link BowlingGame} shared by every thread.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedGame
+    {
+        @Param({"false", "true"})
+        private boolean metricsEnabled;
+
+        @Param({"RANDOM", "INVALID"})
+        private GameCorpus corpus;
+
+        private BowlingGame bowlingGame;
+        private String[] games;
+
+        /**
+         * Creates the {@link BowlingGame}, with or without metrics, and the corpus.
+         */
+        @Setup
+        public void setUp()
+        {
+            final BowlingGame.Builder builder = BowlingGame.newBuilder();
+            if (metricsEnabled)
+            {
+                builder.withMetrics(new ScoringMetrics());
+            }
+            bowlingGame = builder.build();
+            games = corpus.createGames(CORPUS_SIZE, 42L);
+        }
+    }
+
+    /**
+     * The position of a thread in the corpus.
+     */
+    @State(Scope.Thread)
+    public static class Cursor
+    {
+        private int index;
+
+        /**
+         * @return The index of the next game.
+         */
+        int next()
+        {
+            index = (index + 1) & (CORPUS_SIZE - 1);
+            return index;
+        }
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#tryCalculateScore} on one thread.
+     * @param sharedGame The {@link SharedGame}.
+     * @param cursor The {@link Cursor}.
+     * @return The score.
+     */
+    @Benchmark
+    public int tryCalculateScore(final SharedGame sharedGame, final Cursor cursor)
+    {
+        return sharedGame.bowlingGame.tryCalculateScore(sharedGame.games[cursor.next()]);
+    }
+
+    /**
+     * Benchmarks {@link BowlingGame#tryCalculateScore} on eight threads recording to the same metrics.
+     * @param sharedGame The {@link SharedGame}.
+     * @param cursor The {@link Cursor}.
+     * @return The score.
+     */
+    @Benchmark
+    @Threads(8)
+    public int tryCalculateScoreContended(final SharedGame sharedGame, final Cursor cursor)
+    {
+        return sharedGame.bowlingGame.tryCalculateScore(sharedGame.games[cursor.next()]);
+    }
+}
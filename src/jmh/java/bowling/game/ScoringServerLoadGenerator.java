@@ -0,0 +1,243 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Runs a {@link ScoringServer} on the loopback interface and drives it with many concurrent lane connections from one
+ * client {@link Selector}, each keeping a fixed number of pipelined requests in flight. Reports the throughput and the
+ * latency percentiles from sending a request to reading its response. Each connection uses two file descriptors in
+ * this process, so the open file limit must exceed twice the number of connections.
+ * <p>
+ * Arguments, all optional: connections (10000), requests per connection (100), pipeline depth (8), server event loops
+ * (the number of processors). Run with:
+ * <pre>
+ * mvn -P benchmark compile exec:exec -Dbenchmark.mainClass=bowling.game.ScoringServerLoadGenerator -Djmh.args="10000 100 8"
+ * </pre>
+ */
+public final class ScoringServerLoadGenerator
+{
+    private static final int CORPUS_SIZE = 1024;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final byte[][] requests;
+    private final long[] latencies;
+    private final int requestsPerConnection;
+    private final int pipelineDepth;
+    private int latencyCount;
+
+    /**
+     * Constructor for {@link ScoringServerLoadGenerator}. Declared private to prevent direct instantiation.
+     * @param connections The number of connections.
+     * @param requestsPerConnection The number of requests sent by each connection.
+     * @param pipelineDepth The number of requests each connection keeps in flight.
+     */
+    private ScoringServerLoadGenerator(final int connections, final int requestsPerConnection, final int pipelineDepth)
+    {
+        final String[] games = GameCorpus.RANDOM.createGames(CORPUS_SIZE, 42L);
+        this.requests = new byte[CORPUS_SIZE][];
+        for (int i = 0; i < CORPUS_SIZE; i++)
+        {
+            requests[i] = (games[i] + '\n').getBytes(StandardCharsets.US_ASCII);
+        }
+        this.latencies = new long[connections * requestsPerConnection];
+        this.requestsPerConnection = requestsPerConnection;
+        this.pipelineDepth = pipelineDepth;
+    }
+
+    /**
+     * Runs the load generator.
+     * @param args The optional connections, requests per connection, pipeline depth and server event loops.
+     * @throws IOException If the server or a connection fails.
+     */
+    public static void main(final String[] args) throws IOException
+    {
+        final int connections = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        final int requestsPerConnection = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        final int pipelineDepth = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        final int eventLoops = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        try (ScoringServer server = new ScoringServer(BowlingGame.createStandardGame(), eventLoops))
+        {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            final ScoringServerLoadGenerator generator = new ScoringServerLoadGenerator(connections, requestsPerConnection, pipelineDepth);
+            // A short warm-up run lets the JIT compile the scoring and protocol paths before measuring.
+            new ScoringServerLoadGenerator(Math.min(connections, 100), requestsPerConnection, pipelineDepth).run(server.getLocalAddress(), Math.min(connections, 100));
+
+            final long startTime = System.nanoTime();
+            generator.run(server.getLocalAddress(), connections);
+            final long elapsedNanos = System.nanoTime() - startTime;
+            generator.report(connections, eventLoops, elapsedNanos);
+        }
+    }
+
+    /**
+     * Opens the connections and drives them until every request is answered.
+     * @param address The address of the server.
+     * @param connections The number of connections.
+     * @throws IOException If a connection fails.
+     */
+    private void run(@NonNull final InetSocketAddress address, final int connections) throws IOException
+    {
+        try (Selector selector = Selector.open())
+        {
+            for (int i = 0; i < connections; i++)
+            {
+                final SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.connect(address);
+                channel.register(selector, SelectionKey.OP_CONNECT, new Lane(channel, i));
+            }
+
+            int openLanes = connections;
+            while (openLanes > 0)
+            {
+                selector.select();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext())
+                {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (((Lane) key.attachment()).handle(key))
+                    {
+                        openLanes--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Prints the throughput and latency percentiles.
+     * @param connections The number of connections.
+     * @param eventLoops The number of server event loops.
+     * @param elapsedNanos The duration of the run.
+     */
+    private void report(final int connections, final int eventLoops, final long elapsedNanos)
+    {
+        Arrays.sort(latencies, 0, latencyCount);
+        System.out.printf("connections=%d requests=%d pipelineDepth=%d eventLoops=%d%n", connections, latencyCount, pipelineDepth, eventLoops);
+        System.out.printf("throughput=%.0f requests/s%n", latencyCount / (elapsedNanos / 1e9));
+        System.out.printf("latency p50=%.1f us p99=%.1f us p99.9=%.1f us max=%.1f us%n", percentile(50) / 1e3, percentile(99) / 1e3,
+                percentile(99.9) / 1e3, latencies[latencyCount - 1] / 1e3);
+    }
+
+    /**
+     * @param percentile The percentile.
+     * @return The latency in nanoseconds at the percentile of the sorted latencies.
+     */
+    private long percentile(final double percentile)
+    {
+        return latencies[Math.min((int) Math.ceil(latencyCount * percentile / 100) - 1, latencyCount - 1)];
+    }
+
+    /**
+     * A client connection keeping pipelined requests in flight.
+     */
+    private final class Lane
+    {
+        private final SocketChannel channel;
+        private final ByteBuffer output = ByteBuffer.allocate(BUFFER_SIZE);
+        private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+        private final long[] sendTimes = new long[pipelineDepth];
+        private int nextRequest;
+        private int sent;
+        private int received;
+
+        /**
+         * Constructor for {@link Lane}.
+         * @param channel The connecting {@link SocketChannel}.
+         * @param index The index of the lane, which picks its first game.
+         */
+        private Lane(@NonNull final SocketChannel channel, final int index)
+        {
+            this.channel = channel;
+            this.nextRequest = index;
+        }
+
+        /**
+         * Serves a ready key.
+         * @param key The selected {@link SelectionKey}.
+         * @return True if the lane has received every response and is closed, false otherwise.
+         * @throws IOException If the connection fails.
+         */
+        private boolean handle(@NonNull final SelectionKey key) throws IOException
+        {
+            if (key.isConnectable() && !channel.finishConnect())
+            {
+                return false;
+            }
+            if (key.isValid() && key.isReadable())
+            {
+                if (channel.read(input) < 0)
+                {
+                    throw new IOException("Server closed the connection.");
+                }
+                readResponses();
+            }
+            if (received == requestsPerConnection)
+            {
+                key.cancel();
+                channel.close();
+                return true;
+            }
+            sendRequests();
+            key.interestOps(output.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+            return false;
+        }
+
+        /**
+         * Records the latency of every complete response line.
+         */
+        private void readResponses()
+        {
+            final long now = System.nanoTime();
+            input.flip();
+            for (int i = input.position(); i < input.limit(); i++)
+            {
+                if (input.get(i) == '\n')
+                {
+                    latencies[latencyCount++] = now - sendTimes[received % pipelineDepth];
+                    received++;
+                    input.position(i + 1);
+                }
+            }
+            input.compact();
+        }
+
+        /**
+         * Buffers requests until the pipeline is full and writes what the channel accepts.
+         * @throws IOException If the connection fails.
+         */
+        private void sendRequests() throws IOException
+        {
+            final long now = System.nanoTime();
+            while (sent < requestsPerConnection && sent - received < pipelineDepth)
+            {
+                final byte[] request = requests[nextRequest++ & (CORPUS_SIZE - 1)];
+                if (output.remaining() < request.length)
+                {
+                    break;
+                }
+                output.put(request);
+                sendTimes[sent % pipelineDepth] = now;
+                sent++;
+            }
+            output.flip();
+            channel.write(output);
+            output.compact();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resuming the games in progress on thousands of lanes from a {@link SessionTable} with replaying the rolls
+ * of every lane into a new {@link GameSession}, as a restarted service does without the table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionTableBenchmark
+{
+    private static final int LANES = 4096;
+
+    private BowlingGame bowlingGame;
+    private int[][] rolls;
+    private Path directory;
+    private Path path;
+
+    /**
+     * Plays a game in progress on every lane, stopped after a random number of rolls, and saves the sessions to a
+     * table in a temporary directory.
+     * @throws IOException If the table cannot be written.
+     */
+    @Setup
+    public void setUp() throws IOException
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        directory = Files.createTempDirectory("session-table");
+        path = directory.resolve("lanes");
+        rolls = new int[LANES][];
+        final Random random = new Random(42L);
+        try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, LANES))
+        {
+            for (int lane = 0; lane < LANES; lane++)
+            {
+                final GameSession session = bowlingGame.newSession();
+                final int[] laneRolls = new int[random.nextInt(20)];
+                int rollCount = 0;
+                while (rollCount < laneRolls.length && !session.isComplete())
+                {
+                    laneRolls[rollCount] = random.nextInt(session.getStandingPins() + 1);
+                    session.roll(laneRolls[rollCount++]);
+                }
+                rolls[lane] = Arrays.copyOf(laneRolls, rollCount);
+                sessionTable.save(lane, session);
+            }
+            sessionTable.force();
+        }
+    }
+
+    /**
+     * Deletes the table and its directory.
+     * @throws IOException If the table cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        Files.delete(path);
+        Files.delete(directory);
+    }
+
+    /**
+     * Benchmarks opening the table and {@link SessionTable#restore restoring} every lane.
+     * @return The total score of the lanes.
+     * @throws IOException If the table cannot be opened.
+     */
+    @Benchmark
+    public long restoreTable() throws IOException
+    {
+        long totalScore = 0;
+        try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, LANES))
+        {
+            for (int lane = 0; lane < LANES; lane++)
+            {
+                totalScore += sessionTable.restore(lane).getScore();
+            }
+        }
+        return totalScore;
+    }
+
+    /**
+     * Benchmarks replaying the rolls of every lane into a new {@link GameSession}.
+     * @return The total score of the lanes.
+     */
+    @Benchmark
+    public long replayRolls()
+    {
+        long totalScore = 0;
+        for (int lane = 0; lane < LANES; lane++)
+        {
+            final GameSession session = bowlingGame.newSession();
+            for (final int roll : rolls[lane])
+            {
+                session.roll(roll);
+            }
+            totalScore += session.getScore();
+        }
+        return totalScore;
+    }
+}
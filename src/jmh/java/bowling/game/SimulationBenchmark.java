@@ -0,0 +1,121 @@
+package bowling.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares simulating one million games with a {@link GameSimulator}, for different pool sizes to show how it scales
+ * with cores, with formatting every random game as text and scoring it with {@link BowlingGame#tryCalculateScore}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulationBenchmark
+{
+    private static final int GAMES = 1_000_000;
+
+    private BowlingGame bowlingGame;
+    private GameSimulator simulator;
+    private long seed;
+
+    /**
+     * The {@link ForkJoinPool} of the parallel simulation.
+     */
+    @State(Scope.Benchmark)
+    public static class Pool
+    {
+        @Param({"1", "2", "4", "8"})
+        private int parallelism;
+
+        private ForkJoinPool pool;
+
+        /**
+         * Creates the {@link ForkJoinPool}.
+         */
+        @Setup
+        public void setUp()
+        {
+            pool = new ForkJoinPool(parallelism);
+        }
+
+        /**
+         * Shuts down the {@link ForkJoinPool}.
+         */
+        @TearDown
+        public void tearDown()
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Creates the {@link GameSimulator} with a uniform {@link RollModel}, like the random games of {@link GameCorpus}.
+     */
+    @Setup
+    public void setUp()
+    {
+        bowlingGame = BowlingGame.createStandardGame();
+        simulator = bowlingGame.newSimulator(RollModel.uniform());
+    }
+
+    /**
+     * Benchmarks {@link GameSimulator#simulate(long, long, ForkJoinPool, int)}.
+     * @param pool The {@link Pool} to simulate on.
+     * @return The statistics of the games.
+     */
+    @Benchmark
+    public GameStatistics simulate(final Pool pool)
+    {
+        return simulator.simulate(GAMES, seed++, pool.pool, GameSimulator.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Benchmarks {@link GameSimulator#simulateGame} on one thread.
+     * @return The total score of the games.
+     */
+    @Benchmark
+    public long simulateGames()
+    {
+        final SplittableRandom random = new SplittableRandom(seed++);
+        long totalScore = 0;
+        for (int game = 0; game < GAMES; game++)
+        {
+            totalScore += simulator.simulateGame(random);
+        }
+        return totalScore;
+    }
+
+    /**
+     * Benchmarks formatting random games as text and scoring them on one thread.
+     * @return The total score of the games.
+     */
+    @Benchmark
+    public long formatAndScore()
+    {
+        final Random random = new Random(seed++);
+        long totalScore = 0;
+        for (int game = 0; game < GAMES; game++)
+        {
+            totalScore += bowlingGame.tryCalculateScore(GameCorpus.RANDOM.createGame(random));
+        }
+        return totalScore;
+    }
+}
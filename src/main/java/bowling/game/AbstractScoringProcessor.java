@@ -0,0 +1,184 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Flow.Processor} that scores the games it receives with a {@link BowlingGame} and publishes a
+ * {@link ScoreResult} per game, in the order the games arrive. Demand is requested from upstream in batches: the
+ * first batch is requested once the processor has both its upstream subscription and a subscriber, so games are left
+ * upstream rather than scored for nobody, and half a batch more each time half a batch has been processed, so at most
+ * one batch is in flight. Publishing waits while a subscriber's buffer is full, which stops the processor from
+ * requesting more, so a slow subscriber holds memory to its buffer plus one batch. The wait is bounded by the offer
+ * timeout: a subscriber that stays full for longer fails the processor with an {@link IllegalStateException}, which
+ * cancels upstream and signals every subscriber, instead of stalling upstream indefinitely.
+ * @param <T> The type of item received from upstream.
+ */
+public abstract class AbstractScoringProcessor<T> extends SubmissionPublisher<ScoreResult> implements Flow.Processor<T, ScoreResult>
+{
+    /**
+     * The default number of items requested from upstream at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * The default longest time publishing a result waits for a full subscriber buffer, in milliseconds.
+     */
+    public static final long DEFAULT_OFFER_TIMEOUT_MILLIS = 10_000;
+
+    private final BowlingGame bowlingGame;
+    private final int batchSize;
+    private final int replenishSize;
+    private final long offerTimeoutMillis;
+    private final Object subscriptionLock = new Object();
+    private Flow.Subscription subscription;
+    private boolean requested;
+    private int processedSinceRequest;
+
+    /**
+     * Constructor for {@link AbstractScoringProcessor}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param executor The {@link Executor} delivering results to subscribers.
+     * @param maxBufferCapacity The maximum number of results buffered for each subscriber.
+     * @param batchSize The number of items requested from upstream at once.
+     * @param offerTimeoutMillis The longest time publishing a result waits for a full subscriber buffer, in
+     * milliseconds.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, or maxBufferCapacity, batchSize or
+     * offerTimeoutMillis is not positive.
+     * @throws NullPointerException If executor is {@code null}.
+     */
+    AbstractScoringProcessor(@NonNull final BowlingGame bowlingGame, @NonNull final Executor executor, final int maxBufferCapacity,
+                             final int batchSize, final long offerTimeoutMillis)
+    {
+        super(executor, maxBufferCapacity);
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be positive.");
+        Preconditions.checkArgument(offerTimeoutMillis > 0, "offerTimeoutMillis must be positive.");
+
+        this.bowlingGame = bowlingGame;
+        this.batchSize = batchSize;
+        this.replenishSize = Math.max(batchSize / 2, 1);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    @Override
+    public void onSubscribe(@NonNull final Flow.Subscription subscription)
+    {
+        synchronized (subscriptionLock)
+        {
+            if (this.subscription != null)
+            {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        requestFirstBatch();
+    }
+
+    /**
+     * Adds the subscriber, and requests the first batch from upstream if it is the first subscriber and the processor
+     * has subscribed upstream.
+     * @param subscriber The subscriber.
+     * @throws NullPointerException If subscriber is {@code null}.
+     */
+    @Override
+    public void subscribe(@NonNull final Flow.Subscriber<? super ScoreResult> subscriber)
+    {
+        super.subscribe(subscriber);
+        requestFirstBatch();
+    }
+
+    @Override
+    public void onNext(@NonNull final T item)
+    {
+        if (isClosed())
+        {
+            return;
+        }
+        process(item);
+        if (++processedSinceRequest == replenishSize)
+        {
+            processedSinceRequest = 0;
+            subscription.request(replenishSize);
+        }
+    }
+
+    @Override
+    public void onError(@NonNull final Throwable throwable)
+    {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete()
+    {
+        if (!isClosed())
+        {
+            finish();
+            close();
+        }
+    }
+
+    /**
+     * Scores the games of an item received from upstream with {@link #publish}.
+     * @param item The item.
+     */
+    abstract void process(@NonNull T item);
+
+    /**
+     * Scores anything left over when upstream completes. Does nothing by default.
+     */
+    void finish()
+    {
+    }
+
+    /**
+     * Scores the game and publishes its {@link ScoreResult}, waiting up to the offer timeout while a subscriber's
+     * buffer is full. If the result is dropped for a subscriber that stayed full, the processor fails.
+     * @param game The game.
+     */
+    final void publish(final CharSequence game)
+    {
+        if (isClosed())
+        {
+            return;
+        }
+        if (offer(bowlingGame.evaluate(game), offerTimeoutMillis, TimeUnit.MILLISECONDS, null) < 0)
+        {
+            fail(new IllegalStateException(String.format("A subscriber did not take a result within %s ms.", offerTimeoutMillis)));
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription and closes the processor with the given failure.
+     * @param throwable The failure.
+     */
+    final void fail(@NonNull final Throwable throwable)
+    {
+        subscription.cancel();
+        closeExceptionally(throwable);
+    }
+
+    /**
+     * Requests the first batch from upstream once there is both an upstream subscription and a subscriber. The request
+     * is made outside the lock, because upstream may deliver items from within it.
+     */
+    private void requestFirstBatch()
+    {
+        synchronized (subscriptionLock)
+        {
+            if (subscription == null || requested || !hasSubscribers())
+            {
+                return;
+            }
+            requested = true;
+        }
+        subscription.request(batchSize);
+    }
+}
@@ -0,0 +1,98 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable {@link CharSequence} view over a range of ASCII bytes in a {@link ByteBuffer} or a byte array, so that
+ * bytes can be scored in place without decoding them to a {@link String}. Bytes above 127 are mapped to their
+ * ISO-8859-1 characters.
+ */
+final class AsciiByteSequence implements CharSequence
+{
+    private ByteBuffer buffer;
+    private byte[] array;
+    private int offset;
+    private int length;
+
+    /**
+     * Points this view at the given range of bytes.
+     * @param buffer The {@link ByteBuffer}.
+     * @param offset The absolute index of the first byte.
+     * @param length The number of bytes.
+     * @return This {@link AsciiByteSequence}.
+     */
+    @NonNull
+    AsciiByteSequence wrap(@NonNull final ByteBuffer buffer, final int offset, final int length)
+    {
+        this.buffer = buffer;
+        this.array = null;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Points this view at the given range of bytes.
+     * @param array The byte array.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes.
+     * @return This {@link AsciiByteSequence}.
+     */
+    @NonNull
+    AsciiByteSequence wrap(@NonNull final byte[] array, final int offset, final int length)
+    {
+        this.buffer = null;
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Drops the references to the bytes, so that a view kept for reuse does not keep them reachable.
+     */
+    void release()
+    {
+        this.buffer = null;
+        this.array = null;
+        this.length = 0;
+    }
+
+    @Override
+    public int length()
+    {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index)
+    {
+        return (char) ((array != null ? array[offset + index] : buffer.get(offset + index)) & 0xFF);
+    }
+
+    @Override
+    @NonNull
+    public CharSequence subSequence(final int start, final int end)
+    {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    @NonNull
+    public String toString()
+    {
+        if (array != null)
+        {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+        {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
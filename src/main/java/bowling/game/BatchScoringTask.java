@@ -0,0 +1,57 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Scores a range of a List of games, splitting the range in half until it is no larger than the chunk size.
+ */
+final class BatchScoringTask extends RecursiveAction
+{
+    private static final long serialVersionUID = 1L;
+
+    private final transient BowlingGame bowlingGame;
+    private final transient List<? extends CharSequence> games;
+    private final int[] scores;
+    private final int chunkSize;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructor for {@link BatchScoringTask}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param games The random access List of games.
+     * @param scores The array receiving the score of each game.
+     * @param chunkSize The largest number of games scored without splitting.
+     * @param from The index of the first game, inclusive.
+     * @param to The index of the last game, exclusive.
+     */
+    BatchScoringTask(@NonNull final BowlingGame bowlingGame, @NonNull final List<? extends CharSequence> games, @NonNull final int[] scores,
+                     final int chunkSize, final int from, final int to)
+    {
+        this.bowlingGame = bowlingGame;
+        this.games = games;
+        this.scores = scores;
+        this.chunkSize = chunkSize;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute()
+    {
+        if (to - from <= chunkSize)
+        {
+            for (int i = from; i < to; i++)
+            {
+                scores[i] = bowlingGame.tryCalculateScore(games.get(i));
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        invokeAll(new BatchScoringTask(bowlingGame, games, scores, chunkSize, from, middle),
+                new BatchScoringTask(bowlingGame, games, scores, chunkSize, middle, to));
+    }
+}
@@ -0,0 +1,58 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Aggregates {@link GameStatistics} over a range of a List of games, splitting the range in half until it is no larger
+ * than the chunk size and combining the statistics of the halves.
+ */
+final class BatchStatisticsTask extends RecursiveTask<GameStatistics>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final transient BowlingGame bowlingGame;
+    private final transient List<? extends CharSequence> games;
+    private final int chunkSize;
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructor for {@link BatchStatisticsTask}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param games The random access List of games.
+     * @param chunkSize The largest number of games aggregated without splitting.
+     * @param from The index of the first game, inclusive.
+     * @param to The index of the last game, exclusive.
+     */
+    BatchStatisticsTask(@NonNull final BowlingGame bowlingGame, @NonNull final List<? extends CharSequence> games, final int chunkSize,
+                        final int from, final int to)
+    {
+        this.bowlingGame = bowlingGame;
+        this.games = games;
+        this.chunkSize = chunkSize;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected GameStatistics compute()
+    {
+        if (to - from <= chunkSize)
+        {
+            final GameStatistics statistics = new GameStatistics(bowlingGame);
+            for (int i = from; i < to; i++)
+            {
+                statistics.accept(games.get(i));
+            }
+            return statistics;
+        }
+        final int middle = (from + to) >>> 1;
+        final BatchStatisticsTask right = new BatchStatisticsTask(bowlingGame, games, chunkSize, middle, to);
+        right.fork();
+        final GameStatistics left = new BatchStatisticsTask(bowlingGame, games, chunkSize, from, middle).compute();
+        return left.combine(right.join());
+    }
+}
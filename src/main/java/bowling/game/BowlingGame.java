@@ -1,22 +1,78 @@
 package bowling.game;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import org.apache.commons.lang3.StringUtils;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Calculates the final score of a bowling game.
  */
 public class BowlingGame
 {
+    /**
+     * The score reported by the batch scoring methods for a game that is invalid.
+     */
+    public static final int INVALID_SCORE = -1;
+
+    /**
+     * The default number of games scored by a single fork-join task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /**
+     * The highest score a valid game of a configuration can reach for the game to be indexed by its score, as by
+     * {@link GameArchive}, {@link GameColumnStore} and {@link Leaderboard}, which hold a slot per score.
+     */
+    public static final int MAX_INDEXED_SCORE = (1 << 16) - 1;
+
+    /**
+     * The largest number of pins of a configuration. A roll of an open frame knocks down fewer pins than there are and
+     * is written as a single digit, so a roll of ten or more pins could only be written as a strike or a spare.
+     */
+    public static final int MAX_NUMBER_OF_PINS = 10;
+
+    private static final char FRAME_DELIMITER = '|';
+    private static final int INVALID_ROLL_VALUE = -1;
+    private static final int ASCII_SIZE = 128;
+    private static final int TOKEN_ROLL_BITS = 15;
+    private static final int TOKEN_ROLL_MASK = (1 << TOKEN_ROLL_BITS) - 1;
+    private static final int TOKEN_SPARE_FLAG = 1 << (2 * TOKEN_ROLL_BITS);
+    private static final int TOKEN_ERROR_FLAG = Integer.MIN_VALUE;
+    private static final long NO_ERROR = 0;
+    private static final long NOT_SCANNED = -1;
+    private static final GameError[] GAME_ERRORS = GameError.values();
+    private static final ThreadLocal<AsciiByteSequence> BYTE_VIEWS = ThreadLocal.withInitial(AsciiByteSequence::new);
+    private static final int MAX_BONUS_ROLLS = 2;
+
     private final int numberOfFrames;
     private final int numberOfPins;
     private final char strikeSymbol;
     private final char spareSymbol;
     private final char missSymbol;
+    private final int strikeBonusRolls;
+    private final int spareBonusRolls;
+    private final int strikeFirstRollBonus;
+    private final int strikeSecondRollMultiplier;
+    private final int spareFirstRollMultiplier;
+    private final int spareSecondRollMultiplier;
+    private final int[] rollValues;
+    private final byte[] symbolIndexes;
+    private final int alphabetSize;
+    private final int[] frameTokens;
+    private final FrameFlyweights frameFlyweights;
+    private final FrameScanner frameScanner;
+    private final ScoringMetrics metrics;
 
     /**
      * Creates a standard ten pin, ten frame {@link BowlingGame} with 'X' strike symbol, '/' spare symbol and '-' miss symbol.
@@ -25,41 +81,514 @@ public class BowlingGame
     @NonNull
     public static BowlingGame createStandardGame()
     {
-        return new BowlingGame(10, 10, 'X', '/', '-');
+        return newBuilder().build();
+    }
+
+    /**
+     * Creates a new {@link BowlingGame.Builder}, initialised with the standard rules.
+     * @return The non-null {@link BowlingGame.Builder}.
+     */
+    @NonNull
+    public static Builder newBuilder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Constructor for {@link BowlingGame}. Declared private to prevent direct instantiation. The bonus rules are
+     * resolved here into the multipliers the scorers apply, so that scoring does not branch on the rules.
+     * @param builder The {@link Builder}.
+     */
+    private BowlingGame(@NonNull final Builder builder)
+    {
+        this.numberOfFrames = builder.numberOfFrames;
+        this.numberOfPins = builder.numberOfPins;
+        this.strikeSymbol = builder.strikeSymbol;
+        this.spareSymbol = builder.spareSymbol;
+        this.missSymbol = builder.missSymbol;
+        this.strikeBonusRolls = builder.strikeBonusRolls;
+        this.spareBonusRolls = builder.spareBonusRolls;
+        this.strikeFirstRollBonus = Math.min(strikeBonusRolls, 1);
+        this.strikeSecondRollMultiplier = 1 + Math.max(strikeBonusRolls - 1, 0);
+        this.spareFirstRollMultiplier = 1 + Math.min(spareBonusRolls, 1);
+        this.spareSecondRollMultiplier = 1 + Math.max(spareBonusRolls - 1, 0);
+        this.metrics = builder.metrics;
+        this.frameFlyweights = FrameFlyweights.forNumberOfPins(numberOfPins);
+        this.frameScanner = new FrameScanner(strikeSymbol, spareSymbol, missSymbol);
+
+        this.rollValues = new int[ASCII_SIZE];
+        for (char roll = 0; roll < ASCII_SIZE; roll++)
+        {
+            rollValues[roll] = computeRollValue(roll);
+        }
+
+        final char[] alphabet = getRollAlphabet();
+        this.alphabetSize = alphabet.length;
+        this.symbolIndexes = new byte[ASCII_SIZE];
+        this.frameTokens = new int[alphabetSize * alphabetSize];
+        Arrays.fill(symbolIndexes, (byte) -1);
+        for (int first = 0; first < alphabetSize; first++)
+        {
+            symbolIndexes[alphabet[first]] = (byte) first;
+            for (int second = 0; second < alphabetSize; second++)
+            {
+                frameTokens[(first * alphabetSize) + second] = decodeFrame(alphabet[first], alphabet[second]);
+            }
+        }
+    }
+
+    /**
+     * Gets the distinct ASCII characters that can be rolls: the digits and the symbols.
+     * @return The non-null alphabet of rolls.
+     */
+    @NonNull
+    private char[] getRollAlphabet()
+    {
+        final StringBuilder alphabet = new StringBuilder();
+        for (char roll = 0; roll < ASCII_SIZE; roll++)
+        {
+            if (rollValues[roll] != INVALID_ROLL_VALUE)
+            {
+                alphabet.append(roll);
+            }
+        }
+        return alphabet.toString().toCharArray();
+    }
+
+    /**
+     * @return The positive number of frames, not counting the bonus frame.
+     */
+    public int getNumberOfFrames()
+    {
+        return numberOfFrames;
+    }
+
+    /**
+     * @return The positive number of pins.
+     */
+    public int getNumberOfPins()
+    {
+        return numberOfPins;
+    }
+
+    /**
+     * @return The number of rolls, between zero and two, whose pins are added to a strike as a bonus.
+     */
+    public int getStrikeBonusRolls()
+    {
+        return strikeBonusRolls;
+    }
+
+    /**
+     * @return The number of rolls, between zero and two, whose pins are added to a spare as a bonus.
+     */
+    public int getSpareBonusRolls()
+    {
+        return spareBonusRolls;
+    }
+
+    /**
+     * @return The highest score a valid game could have, which is every roll knocking down every pin and earning the
+     * larger number of bonus rolls.
+     */
+    long getScoreBound()
+    {
+        return (long) numberOfFrames * numberOfPins * (1 + Math.max(strikeBonusRolls, spareBonusRolls));
+    }
+
+    /**
+     * @return The highest score a valid game could have, as a slot index.
+     * @throws IllegalArgumentException If the highest score exceeds {@link #MAX_INDEXED_SCORE}.
+     */
+    int getIndexedScoreBound()
+    {
+        final long scoreBound = getScoreBound();
+        Preconditions.checkArgument(scoreBound <= MAX_INDEXED_SCORE, "bowlingGame cannot score above %s to be indexed by score.", MAX_INDEXED_SCORE);
+        return (int) scoreBound;
+    }
+
+    /**
+     * @return The {@link ScoringMetrics} this game records to, or {@code null} if it does not record.
+     */
+    @CheckForNull
+    public ScoringMetrics getMetrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * Starts a {@link GameSession} that scores a game of this configuration one roll at a time.
+     * @return The non-null, empty {@link GameSession}.
+     */
+    @NonNull
+    public GameSession newSession()
+    {
+        return new GameSession(numberOfFrames, numberOfPins, strikeBonusRolls, spareBonusRolls);
+    }
+
+    /**
+     * Creates a {@link GameSimulator} that simulates games of this configuration with rolls drawn from the given model.
+     * @param rollModel The thread-safe {@link RollModel} to draw rolls from.
+     * @return The non-null {@link GameSimulator}.
+     * @throws IllegalArgumentException If rollModel is {@code null}.
+     */
+    @NonNull
+    public GameSimulator newSimulator(@NonNull final RollModel rollModel)
+    {
+        Preconditions.checkArgument(rollModel != null, "rollModel cannot be null.");
+        return new GameSimulator(this, rollModel);
+    }
+
+    /**
+     * Calculates the score of the given game, reading any {@link CharSequence} such as a {@link StringBuilder} in
+     * place.
+     * @param game The game to calculate the score of.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If game is null, empty, blank, or invalid.
+     * @throws NumberFormatException If a roll is neither a symbol nor a digit.
+     */
+    public int calculateScore(@NonNull final CharSequence game)
+    {
+        final long outcome = evaluateSinglePass(game);
+        if (ScoreResult.isError(outcome))
+        {
+            throw createException(game, outcome);
+        }
+        return (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the game held as ASCII bytes in the given range of the array, reading them in place. The
+     * results and errors are those of {@link #calculateScore(CharSequence)} for the bytes decoded as ISO-8859-1, which
+     * for ASCII is the same {@link String}.
+     * @param bytes The array holding the game.
+     * @param offset The index of the first byte of the game.
+     * @param length The number of bytes of the game.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If bytes is null, the range is not within bytes, or the game is empty, blank, or
+     * invalid.
+     * @throws NumberFormatException If a roll is neither a symbol nor a digit.
+     */
+    public int calculateScore(@NonNull final byte[] bytes, final int offset, final int length)
+    {
+        final long outcome = evaluateSinglePass(bytes, offset, length);
+        if (ScoreResult.isError(outcome))
+        {
+            throw createException(bytes == null ? null : new AsciiByteSequence().wrap(bytes, offset, length), outcome);
+        }
+        return (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the game held as ASCII bytes from the position to the limit of the given buffer, reading
+     * them in place without moving the position. The results and errors are those of
+     * {@link #calculateScore(CharSequence)} for the bytes decoded as ISO-8859-1.
+     * @param buffer The buffer holding the game.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If buffer is null, or the game is empty, blank, or invalid.
+     * @throws NumberFormatException If a roll is neither a symbol nor a digit.
+     */
+    public int calculateScore(@NonNull final ByteBuffer buffer)
+    {
+        final long outcome = evaluateSinglePass(buffer);
+        if (ScoreResult.isError(outcome))
+        {
+            throw createException(buffer == null ? null : new AsciiByteSequence().wrap(buffer, buffer.position(), buffer.remaining()), outcome);
+        }
+        return (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the given game without throwing for an invalid game.
+     * @param game The game to calculate the score of.
+     * @return The non-negative score of the game, or {@link #INVALID_SCORE} if the game is null, empty, blank, or invalid.
+     */
+    public int tryCalculateScore(final CharSequence game)
+    {
+        final long outcome = evaluateSinglePass(game);
+        return ScoreResult.isError(outcome) ? INVALID_SCORE : (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the game held as ASCII bytes in the given range of the array, reading them in place and
+     * without throwing for an invalid game.
+     * @param bytes The array holding the game.
+     * @param offset The index of the first byte of the game.
+     * @param length The number of bytes of the game.
+     * @return The non-negative score of the game, or {@link #INVALID_SCORE} if bytes is null or the game is empty,
+     * blank, or invalid.
+     * @throws IllegalArgumentException If the range is not within bytes.
+     */
+    public int tryCalculateScore(final byte[] bytes, final int offset, final int length)
+    {
+        final long outcome = evaluateSinglePass(bytes, offset, length);
+        return ScoreResult.isError(outcome) ? INVALID_SCORE : (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the game held as ASCII bytes from the position to the limit of the given buffer, reading
+     * them in place without moving the position, and without throwing for an invalid game.
+     * @param buffer The buffer holding the game.
+     * @return The non-negative score of the game, or {@link #INVALID_SCORE} if buffer is null or the game is empty,
+     * blank, or invalid.
+     */
+    public int tryCalculateScore(final ByteBuffer buffer)
+    {
+        final long outcome = evaluateSinglePass(buffer);
+        return ScoreResult.isError(outcome) ? INVALID_SCORE : (int) outcome;
+    }
+
+    /**
+     * Scores the bytes through this thread's reusable view, so that no view is allocated per call. The view is
+     * released afterwards so that it does not keep the array reachable.
+     * @param bytes The array, or {@code null}.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes.
+     * @return The non-negative score of the game, or the encoded error as described in {@link ScoreResult}.
+     * @throws IllegalArgumentException If the range is not within bytes.
+     */
+    private long evaluateSinglePass(final byte[] bytes, final int offset, final int length)
+    {
+        if (bytes == null)
+        {
+            return evaluateSinglePass((CharSequence) null);
+        }
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= bytes.length - length,
+                "offset %s and length %s are not within %s bytes.", offset, length, bytes.length);
+        if (metrics == null)
+        {
+            final long outcome = scanSinglePass(bytes, null, offset, length);
+            if (outcome != NOT_SCANNED)
+            {
+                return outcome;
+            }
+        }
+        final AsciiByteSequence view = BYTE_VIEWS.get();
+        try
+        {
+            return evaluateSinglePass(view.wrap(bytes, offset, length));
+        }
+        finally
+        {
+            view.release();
+        }
+    }
+
+    /**
+     * Scores the remaining bytes of the buffer through this thread's reusable view, like
+     * {@link #evaluateSinglePass(byte[], int, int)}.
+     * @param buffer The buffer, or {@code null}.
+     * @return The non-negative score of the game, or the encoded error as described in {@link ScoreResult}.
+     */
+    private long evaluateSinglePass(final ByteBuffer buffer)
+    {
+        if (buffer == null)
+        {
+            return evaluateSinglePass((CharSequence) null);
+        }
+        final AsciiByteSequence view = BYTE_VIEWS.get();
+        try
+        {
+            return evaluateSinglePass(buffer, buffer.position(), buffer.remaining(), view);
+        }
+        finally
+        {
+            view.release();
+        }
     }
 
     /**
-     * Constructor for {@link BowlingGame}.
-     * @param numberOfFrames The number of frames.
-     * @param numberOfPins The number of pins.
-     * @param strikeSymbol The strike symbol.
-     * @param spareSymbol The spare symbol.
-     * @param missSymbol The miss symbol.
-     * @throws IllegalArgumentException If numberOfFrames or numberOfPins is not positive.
+     * Scores the bytes in the given range of the buffer with {@link #scanSinglePass}, without moving its position. A
+     * game the scan leaves to {@link #scoreSinglePass}, or any game when there are {@link ScoringMetrics}, is scored
+     * through the given view, so a caller scoring many games reuses its own.
+     * @param buffer The buffer.
+     * @param offset The absolute index of the first byte, within the buffer.
+     * @param length The number of bytes, within the buffer.
+     * @param view The {@link AsciiByteSequence} to wrap the bytes in if they are not scanned.
+     * @return The non-negative score of the game, or the encoded error as described in {@link ScoreResult}.
      */
-    private BowlingGame(final int numberOfFrames, final int numberOfPins, final char strikeSymbol, final char spareSymbol, final char missSymbol)
+    long evaluateSinglePass(@NonNull final ByteBuffer buffer, final int offset, final int length, @NonNull final AsciiByteSequence view)
     {
-        Preconditions.checkArgument(numberOfFrames > 0, "numberOfFrames must be positive.");
-        Preconditions.checkArgument(numberOfPins > 0, "numberOfPins must be positive.");
+        if (metrics == null)
+        {
+            final long outcome = buffer.hasArray()
+                    ? scanSinglePass(buffer.array(), null, buffer.arrayOffset() + offset, length)
+                    : scanSinglePass(null, buffer, offset, length);
+            if (outcome != NOT_SCANNED)
+            {
+                return outcome;
+            }
+        }
+        return evaluateSinglePass(view.wrap(buffer, offset, length));
+    }
 
-        this.numberOfFrames = numberOfFrames;
-        this.numberOfPins = numberOfPins;
-        this.strikeSymbol = strikeSymbol;
-        this.spareSymbol = spareSymbol;
-        this.missSymbol = missSymbol;
+    /**
+     * Calculates the score of the given game and the cumulative score after every frame, in the same pass.
+     * @param game The game to calculate the score of.
+     * @param cumulativeScores The array to fill with the cumulative score after each frame, of at least
+     * {@link #getNumberOfFrames()} elements. Its first {@link #getNumberOfFrames()} elements are unspecified if the
+     * game is invalid.
+     * @return The non-negative score of the game, equal to the last cumulative score.
+     * @throws IllegalArgumentException If cumulativeScores is {@code null} or too short, or game is null, empty, blank,
+     * or invalid.
+     * @throws NumberFormatException If a roll is neither a symbol nor a digit.
+     */
+    public int calculateFrameScores(@NonNull final CharSequence game, @NonNull final int[] cumulativeScores)
+    {
+        checkFrameScores(cumulativeScores);
+        final long outcome = evaluateSinglePass(game, cumulativeScores);
+        if (ScoreResult.isError(outcome))
+        {
+            throw createException(game, outcome);
+        }
+        return (int) outcome;
     }
 
     /**
-     * Calculates the score of the given game.
+     * Calculates the score of the given game and the cumulative score after every frame, without throwing for an
+     * invalid game.
+     * @param game The game to calculate the score of.
+     * @param cumulativeScores The array to fill with the cumulative score after each frame, of at least
+     * {@link #getNumberOfFrames()} elements. Its first {@link #getNumberOfFrames()} elements are unspecified if the
+     * game is invalid.
+     * @return The non-negative score of the game, equal to the last cumulative score, or {@link #INVALID_SCORE} if the
+     * game is null, empty, blank, or invalid.
+     * @throws IllegalArgumentException If cumulativeScores is {@code null} or too short.
+     */
+    public int tryCalculateFrameScores(final CharSequence game, @NonNull final int[] cumulativeScores)
+    {
+        checkFrameScores(cumulativeScores);
+        final long outcome = evaluateSinglePass(game, cumulativeScores);
+        return ScoreResult.isError(outcome) ? INVALID_SCORE : (int) outcome;
+    }
+
+    /**
+     * @param cumulativeScores The array for the cumulative frame scores.
+     * @throws IllegalArgumentException If cumulativeScores is {@code null} or shorter than the number of frames.
+     */
+    private void checkFrameScores(final int[] cumulativeScores)
+    {
+        Preconditions.checkArgument(cumulativeScores != null, "cumulativeScores cannot be null.");
+        Preconditions.checkArgument(cumulativeScores.length >= numberOfFrames, "cumulativeScores must hold at least %s frames.", numberOfFrames);
+    }
+
+    /**
+     * Scores or validates the given game without throwing, reporting why and where an invalid game fails. Neither
+     * exceptions nor messages are created, and valid results for scores below 1024 are shared instances.
+     * @param game The game to evaluate.
+     * @return The non-null {@link ScoreResult} of the game.
+     */
+    @NonNull
+    public ScoreResult evaluate(final CharSequence game)
+    {
+        return ScoreResult.decode(evaluateSinglePass(game));
+    }
+
+    /**
+     * Calculates the scores of the given games in parallel on the common {@link ForkJoinPool}.
+     * @param games The games to calculate the scores of.
+     * @return The non-null array holding the score of each game at the same index, or {@link #INVALID_SCORE} where the
+     * game is invalid.
+     * @throws IllegalArgumentException If games is {@code null}.
+     */
+    @NonNull
+    public int[] calculateScores(@NonNull final List<? extends CharSequence> games)
+    {
+        return calculateScores(games, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Calculates the scores of the given games in parallel on the given {@link ForkJoinPool}.
+     * @param games The games to calculate the scores of.
+     * @param pool The {@link ForkJoinPool} to run on.
+     * @param chunkSize The largest number of games scored by a single task.
+     * @return The non-null array holding the score of each game at the same index, or {@link #INVALID_SCORE} where the
+     * game is invalid.
+     * @throws IllegalArgumentException If games or pool is {@code null}, or chunkSize is not positive.
+     */
+    @NonNull
+    public int[] calculateScores(@NonNull final List<? extends CharSequence> games, @NonNull final ForkJoinPool pool, final int chunkSize)
+    {
+        Preconditions.checkArgument(games != null, "games cannot be null.");
+        Preconditions.checkArgument(pool != null, "pool cannot be null.");
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive.");
+
+        final List<? extends CharSequence> randomAccessGames = games instanceof RandomAccess ? games : new ArrayList<>(games);
+        final int[] scores = new int[randomAccessGames.size()];
+        pool.invoke(new BatchScoringTask(this, randomAccessGames, scores, chunkSize, 0, scores.length));
+        return scores;
+    }
+
+    /**
+     * Calculates the scores of the given games lazily. The scores are calculated in parallel if the stream is parallel.
+     * @param games The {@link Stream} of games to calculate the scores of.
+     * @return The non-null {@link IntStream} of the score of each game in encounter order, or {@link #INVALID_SCORE}
+     * where the game is invalid.
+     * @throws IllegalArgumentException If games is {@code null}.
+     */
+    @NonNull
+    public IntStream calculateScores(@NonNull final Stream<? extends CharSequence> games)
+    {
+        Preconditions.checkArgument(games != null, "games cannot be null.");
+        return games.mapToInt(this::tryCalculateScore);
+    }
+
+    /**
+     * Aggregates {@link GameStatistics} over the given games in parallel on the common {@link ForkJoinPool}.
+     * @param games The games to aggregate.
+     * @return The non-null {@link GameStatistics} of the games.
+     * @throws IllegalArgumentException If games is {@code null}.
+     */
+    @NonNull
+    public GameStatistics calculateStatistics(@NonNull final List<? extends CharSequence> games)
+    {
+        return calculateStatistics(games, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Aggregates {@link GameStatistics} over the given games in parallel on the given {@link ForkJoinPool}. Each task
+     * aggregates its own statistics, which are combined as the tasks join.
+     * @param games The games to aggregate.
+     * @param pool The {@link ForkJoinPool} to run on.
+     * @param chunkSize The largest number of games aggregated by a single task.
+     * @return The non-null {@link GameStatistics} of the games.
+     * @throws IllegalArgumentException If games or pool is {@code null}, or chunkSize is not positive.
+     */
+    @NonNull
+    public GameStatistics calculateStatistics(@NonNull final List<? extends CharSequence> games, @NonNull final ForkJoinPool pool,
+                                              final int chunkSize)
+    {
+        Preconditions.checkArgument(games != null, "games cannot be null.");
+        Preconditions.checkArgument(pool != null, "pool cannot be null.");
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive.");
+
+        final List<? extends CharSequence> randomAccessGames = games instanceof RandomAccess ? games : new ArrayList<>(games);
+        return pool.invoke(new BatchStatisticsTask(this, randomAccessGames, chunkSize, 0, randomAccessGames.size()));
+    }
+
+    /**
+     * Calculates the score of the given game by first parsing it into a List of {@link Frame}s. This is the reference
+     * implementation that {@link #calculateScore} must agree with.
      * @param game The game to calculate the score of.
      * @return The non-negative score of the game.
-     * @throws IllegalArgumentException If game is null, empty, or blank.
+     * @throws IllegalArgumentException If game is null, empty, blank, or invalid.
      * @throws RuntimeException If an unexpected {@link FrameType} is found.
      */
-    public int calculateScore(@NonNull final String game)
+    @VisibleForTesting
+    int calculateScoreFromFrames(@NonNull final String game)
     {
         Preconditions.checkArgument(!StringUtils.isBlank(game), "game cannot be null, empty, or blank");
-        final List<Frame> frames = parseBowlingGame(game);
+        return scoreFrames(parseBowlingGame(game));
+    }
+
+    /**
+     * Calculates the score of the given {@link Frame}s under the bonus rules of this game.
+     * @param frames The non-empty List of {@link Frame}s, ending with the {@link FrameType#BONUS} frame.
+     * @return The non-negative score of the frames.
+     * @throws RuntimeException If an unexpected {@link FrameType} is found.
+     */
+    private int scoreFrames(@NonNull final List<Frame> frames)
+    {
         int totalScore = 0;
         int firstRollMultiplier = 1;
         int secondRollMultiplier = 1;
@@ -74,12 +603,12 @@ public class BowlingGame
                     secondRollMultiplier = 1;
                     break;
                 case SPARE:
-                    firstRollMultiplier = 2;
-                    secondRollMultiplier = 1;
+                    firstRollMultiplier = spareFirstRollMultiplier;
+                    secondRollMultiplier = spareSecondRollMultiplier;
                     break;
                 case STRIKE:
-                    firstRollMultiplier = secondRollMultiplier + 1;
-                    secondRollMultiplier = 2;
+                    firstRollMultiplier = secondRollMultiplier + strikeFirstRollBonus;
+                    secondRollMultiplier = strikeSecondRollMultiplier;
                     break;
                 case BONUS:
                     // For the bonus frame remove base value otherwise it will be counted twice.
@@ -92,6 +621,590 @@ public class BowlingGame
         return totalScore;
     }
 
+    /**
+     * Scores the game like {@link #scoreSinglePass}, recording the outcome and latency when this game has
+     * {@link ScoringMetrics}. Without metrics this is only a null check in front of the scorer.
+     * @param game The game to score.
+     * @return The non-negative score of the game, or the encoded error as described in {@link ScoreResult}.
+     */
+    long evaluateSinglePass(final CharSequence game)
+    {
+        return evaluateSinglePass(game, null);
+    }
+
+    /**
+     * Scores the game like {@link #evaluateSinglePass(CharSequence)}, also filling in the cumulative frame scores.
+     * @param game The game to score.
+     * @param cumulativeScores The array to fill with the cumulative score after each frame, or {@code null}.
+     * @return The non-negative score of the game, or the encoded error as described in {@link ScoreResult}.
+     */
+    long evaluateSinglePass(final CharSequence game, final int[] cumulativeScores)
+    {
+        if (metrics == null)
+        {
+            return scoreSinglePass(game, cumulativeScores);
+        }
+        final long startTime = System.nanoTime();
+        final long outcome = scoreSinglePass(game, cumulativeScores);
+        final long latencyNanos = System.nanoTime() - startTime;
+        if (ScoreResult.isError(outcome))
+        {
+            metrics.recordFailure(ScoreResult.getError(outcome), latencyNanos);
+        }
+        else
+        {
+            recordFrames(game, latencyNanos);
+        }
+        return outcome;
+    }
+
+    /**
+     * Counts the frames of a valid game by {@link FrameType} and records them to the {@link ScoringMetrics}. This second
+     * pass keeps the counting out of {@link #scoreSinglePass} when there are no metrics.
+     * @param game The valid game.
+     * @param latencyNanos The time taken to score the game.
+     */
+    private void recordFrames(@NonNull final CharSequence game, final long latencyNanos)
+    {
+        final FrameCounts frameCounts = new FrameCounts();
+        visitValidFrames(game, frameCounts);
+        metrics.recordGame(frameCounts.getStrikes(), frameCounts.getSpares(),
+                numberOfFrames - frameCounts.getStrikes() - frameCounts.getSpares(), latencyNanos);
+    }
+
+    /**
+     * Walks the frames of a valid game from its characters, without parsing {@link Frame}s, and hands each to the
+     * visitor, followed by the {@link FrameType#BONUS} frame. This is a second pass over a game that
+     * {@link #scoreSinglePass} found valid, for the features that need the frames rather than the score.
+     * @param game The valid game.
+     * @param visitor The {@link FrameVisitor}.
+     */
+    void visitValidFrames(@NonNull final CharSequence game, @NonNull final FrameVisitor visitor)
+    {
+        int frameStart = 0;
+        int position = 0;
+        for (int frame = 0; frame < numberOfFrames; position++)
+        {
+            if (game.charAt(position) == FRAME_DELIMITER)
+            {
+                FrameType frameType = FrameType.STRIKE;
+                int firstRollValue = numberOfPins;
+                int secondRollValue = 0;
+                if (position - frameStart == 2)
+                {
+                    // A valid two roll frame has a known first roll, and a second roll that is known or a spare.
+                    firstRollValue = getKnownRollValue(game.charAt(frameStart));
+                    final char secondRoll = game.charAt(frameStart + 1);
+                    frameType = secondRoll == spareSymbol ? FrameType.SPARE : FrameType.PINS;
+                    secondRollValue = secondRoll == spareSymbol ? numberOfPins - firstRollValue : getKnownRollValue(secondRoll);
+                }
+                visitor.visitFrame(frame, frameType, firstRollValue, secondRollValue);
+                frameStart = position + 1;
+                frame++;
+            }
+        }
+
+        // The last frame delimiter is followed by the second delimiter and the bonus rolls.
+        final int bonusFrameStart = position + 1;
+        final int length = game.length();
+        final int firstBonusRollValue = bonusFrameStart < length ? getKnownRollValue(game.charAt(bonusFrameStart)) : 0;
+        final int secondBonusRollValue = bonusFrameStart + 1 < length ? getKnownRollValue(game.charAt(bonusFrameStart + 1)) : 0;
+        visitor.visitFrame(numberOfFrames, FrameType.BONUS, firstBonusRollValue, secondBonusRollValue);
+    }
+
+    /**
+     * Scores the game in a single pass over its characters without allocating. The multiplier state machine is the
+     * same as in {@link #scoreFrames}, but is driven directly by the frame tokens. Errors are reported in the same order
+     * as the reference {@link #parseBowlingGame}: the bonus frame separator, the number of frames, the last frame and
+     * the bonus frame length are checked before the first error within a frame.
+     * <p>
+     * When frame scores are requested, each frame first gets its own pins and then the bonus rolls it is owed. Only the
+     * previous two frames can still be owed rolls, because a frame has at least one roll and earns at most two bonus
+     * rolls, so two counts are enough. The frame scores are summed into cumulative scores at the end.
+     * @param game The game to score.
+     * @param cumulativeScores The array to fill with the cumulative score after each frame, or {@code null}.
+     * @return The non-negative score of the game, or the encoded error as described in {@link ScoreResult}.
+     */
+    private long scoreSinglePass(final CharSequence game, final int[] cumulativeScores)
+    {
+        if (StringUtils.isBlank(game))
+        {
+            return ScoreResult.encodeError(GameError.BLANK_GAME, 0);
+        }
+
+        final int length = game.length();
+        int position = 0;
+        int frameCount = 0;
+        int lastFrameStart = 0;
+        int bonusFrameStart = -1;
+        long frameError = NO_ERROR;
+        int totalScore = 0;
+        int firstRollMultiplier = 1;
+        int secondRollMultiplier = 1;
+        int rollsOwedToPrevious = 0;
+        int rollsOwedToBeforePrevious = 0;
+
+        while (position < length)
+        {
+            final int frameStart = position;
+            while (position < length && game.charAt(position) != FRAME_DELIMITER)
+            {
+                position++;
+            }
+            if (position == length)
+            {
+                break;
+            }
+
+            if (++frameCount <= numberOfFrames)
+            {
+                lastFrameStart = frameStart;
+            }
+            if (frameCount <= numberOfFrames && frameError == NO_ERROR)
+            {
+                final int frameLength = position - frameStart;
+                if (frameLength == 1 && game.charAt(frameStart) == strikeSymbol)
+                {
+                    totalScore += numberOfPins * firstRollMultiplier;
+                    firstRollMultiplier = secondRollMultiplier + strikeFirstRollBonus;
+                    secondRollMultiplier = strikeSecondRollMultiplier;
+                    if (cumulativeScores != null)
+                    {
+                        rollsOwedToBeforePrevious = creditFrame(cumulativeScores, frameCount - 1, numberOfPins, 0, 1,
+                                rollsOwedToPrevious, rollsOwedToBeforePrevious);
+                        rollsOwedToPrevious = strikeBonusRolls;
+                    }
+                }
+                else if (frameLength == 2)
+                {
+                    final int frameToken = getFrameToken(game.charAt(frameStart), game.charAt(frameStart + 1));
+                    if (frameToken < 0)
+                    {
+                        frameError = ScoreResult.encodeError(getTokenError(frameToken), frameStart + getTokenErrorIndex(frameToken));
+                    }
+                    else
+                    {
+                        final int firstRollValue = frameToken & TOKEN_ROLL_MASK;
+                        final int secondRollValue = (frameToken >>> TOKEN_ROLL_BITS) & TOKEN_ROLL_MASK;
+                        totalScore += (firstRollValue * firstRollMultiplier) + (secondRollValue * secondRollMultiplier);
+                        final boolean spare = (frameToken & TOKEN_SPARE_FLAG) != 0;
+                        firstRollMultiplier = spare ? spareFirstRollMultiplier : 1;
+                        secondRollMultiplier = spare ? spareSecondRollMultiplier : 1;
+                        if (cumulativeScores != null)
+                        {
+                            rollsOwedToBeforePrevious = creditFrame(cumulativeScores, frameCount - 1, firstRollValue, secondRollValue, 2,
+                                    rollsOwedToPrevious, rollsOwedToBeforePrevious);
+                            rollsOwedToPrevious = spare ? spareBonusRolls : 0;
+                        }
+                    }
+                }
+                else
+                {
+                    frameError = ScoreResult.encodeError(GameError.INVALID_FRAME, frameStart);
+                }
+            }
+
+            position++;
+            if (position < length && game.charAt(position) == FRAME_DELIMITER)
+            {
+                bonusFrameStart = position + 1;
+                break;
+            }
+        }
+
+        if (bonusFrameStart < 0)
+        {
+            return ScoreResult.encodeError(GameError.MISSING_BONUS_FRAME, length);
+        }
+        if (frameCount != numberOfFrames)
+        {
+            return ScoreResult.encodeError(GameError.WRONG_NUMBER_OF_FRAMES, bonusFrameStart - 2);
+        }
+        final int bonusRolls = getNumberOfBonusRolls(game, lastFrameStart, bonusFrameStart - 2);
+        if (bonusRolls < 0)
+        {
+            return ScoreResult.encodeError(GameError.INVALID_FRAME, lastFrameStart);
+        }
+        if (length - bonusFrameStart != bonusRolls)
+        {
+            return ScoreResult.encodeError(GameError.INVALID_BONUS_FRAME, bonusFrameStart);
+        }
+        if (frameError != NO_ERROR)
+        {
+            return frameError;
+        }
+
+        // Bonus rolls only add their multiplied bonus, the base value is not counted.
+        int bonusRollMultiplier = firstRollMultiplier - 1;
+        for (position = bonusFrameStart; position < length; position++)
+        {
+            final int bonusRollValue = getKnownRollValue(game.charAt(position));
+            if (bonusRollValue == INVALID_ROLL_VALUE)
+            {
+                return ScoreResult.encodeError(GameError.INVALID_ROLL, position);
+            }
+            totalScore += bonusRollValue * bonusRollMultiplier;
+            bonusRollMultiplier = secondRollMultiplier - 1;
+            if (cumulativeScores != null)
+            {
+                // The bonus frame only pays what the last two frames are owed and has no score of its own.
+                final int bonusRoll = position - bonusFrameStart;
+                if (bonusRoll == 0 && rollsOwedToBeforePrevious > 0)
+                {
+                    cumulativeScores[numberOfFrames - 2] += bonusRollValue;
+                }
+                if (rollsOwedToPrevious > bonusRoll)
+                {
+                    cumulativeScores[numberOfFrames - 1] += bonusRollValue;
+                }
+            }
+        }
+
+        if (cumulativeScores != null)
+        {
+            for (int frame = 1; frame < numberOfFrames; frame++)
+            {
+                cumulativeScores[frame] += cumulativeScores[frame - 1];
+            }
+        }
+        return totalScore;
+    }
+
+    /**
+     * Scores a game of ASCII bytes like {@link #scoreSinglePass}, with the {@link FrameScanner} finding the frame
+     * delimiters and the bytes outside the roll alphabet 8 bytes at a time. The delimiters of the current word are kept
+     * as a mask and handed to the frame loop one at a time as offsets, so no bytes are copied and no offsets are
+     * stored. Errors are reported in the same order as {@link #scoreSinglePass}, at offsets from the first byte. A game
+     * with a byte outside the alphabet, or without any delimiter, which may be blank, is left to
+     * {@link #scoreSinglePass}.
+     * @param array The array to score, or {@code null} to score the buffer.
+     * @param buffer The buffer to score if array is {@code null}.
+     * @param start The absolute index of the first byte.
+     * @param length The number of bytes.
+     * @return The non-negative score of the game, the encoded error as described in {@link ScoreResult}, or
+     * {@link #NOT_SCANNED}.
+     */
+    private long scanSinglePass(@CheckForNull final byte[] array, @CheckForNull final ByteBuffer buffer, final int start, final int length)
+    {
+        final int end = start + length;
+        int nextWord = start;
+        int wordStart = start;
+        long delimiters = 0;
+        int frameStart = start;
+        int frameCount = 0;
+        int lastFrameStart = start;
+        long frameError = NO_ERROR;
+        int totalScore = 0;
+        int firstRollMultiplier = 1;
+        int secondRollMultiplier = 1;
+
+        while (true)
+        {
+            while (delimiters == 0)
+            {
+                if (nextWord >= end)
+                {
+                    return frameCount == 0 ? NOT_SCANNED : ScoreResult.encodeError(GameError.MISSING_BONUS_FRAME, length);
+                }
+                final long word = FrameScanner.readWord(array, buffer, nextWord, end);
+                final long readBytes = FrameScanner.getHighBits(end - nextWord);
+                if ((frameScanner.findInvalidBytes(word) & readBytes) != 0)
+                {
+                    return NOT_SCANNED;
+                }
+                delimiters = FrameScanner.findDelimiters(word) & readBytes;
+                wordStart = nextWord;
+                nextWord += FrameScanner.WORD_BYTES;
+            }
+            final int delimiter = wordStart + (Long.numberOfTrailingZeros(delimiters) >>> 3);
+            delimiters &= delimiters - 1;
+
+            final int frameLength = delimiter - frameStart;
+            if (frameLength == 0 && frameCount > 0)
+            {
+                break;
+            }
+            if (++frameCount <= numberOfFrames)
+            {
+                lastFrameStart = frameStart;
+            }
+            if (frameCount <= numberOfFrames && frameError == NO_ERROR)
+            {
+                if (frameLength == 1 && FrameScanner.readByte(array, buffer, frameStart) == strikeSymbol)
+                {
+                    totalScore += numberOfPins * firstRollMultiplier;
+                    firstRollMultiplier = secondRollMultiplier + strikeFirstRollBonus;
+                    secondRollMultiplier = strikeSecondRollMultiplier;
+                }
+                else if (frameLength == 2)
+                {
+                    final int frameToken = getFrameToken(FrameScanner.readByte(array, buffer, frameStart),
+                            FrameScanner.readByte(array, buffer, frameStart + 1));
+                    if (frameToken < 0)
+                    {
+                        frameError = ScoreResult.encodeError(getTokenError(frameToken), frameStart - start + getTokenErrorIndex(frameToken));
+                    }
+                    else
+                    {
+                        final int firstRollValue = frameToken & TOKEN_ROLL_MASK;
+                        final int secondRollValue = (frameToken >>> TOKEN_ROLL_BITS) & TOKEN_ROLL_MASK;
+                        totalScore += (firstRollValue * firstRollMultiplier) + (secondRollValue * secondRollMultiplier);
+                        final boolean spare = (frameToken & TOKEN_SPARE_FLAG) != 0;
+                        firstRollMultiplier = spare ? spareFirstRollMultiplier : 1;
+                        secondRollMultiplier = spare ? spareSecondRollMultiplier : 1;
+                    }
+                }
+                else
+                {
+                    frameError = ScoreResult.encodeError(GameError.INVALID_FRAME, frameStart - start);
+                }
+            }
+            frameStart = delimiter + 1;
+        }
+
+        // The bonus frame follows the second delimiter, and holds at most two rolls, so it is read a byte at a time.
+        final int bonusFrameStart = frameStart + 1;
+        if (frameCount != numberOfFrames)
+        {
+            return ScoreResult.encodeError(GameError.WRONG_NUMBER_OF_FRAMES, bonusFrameStart - 2 - start);
+        }
+        final int bonusRolls;
+        switch (bonusFrameStart - 2 - lastFrameStart)
+        {
+            case 1:
+                bonusRolls = FrameScanner.readByte(array, buffer, lastFrameStart) == strikeSymbol ? strikeBonusRolls : -1;
+                break;
+            case 2:
+                bonusRolls = FrameScanner.readByte(array, buffer, lastFrameStart + 1) == spareSymbol ? spareBonusRolls : 0;
+                break;
+            default:
+                bonusRolls = -1;
+                break;
+        }
+        if (bonusRolls < 0)
+        {
+            return ScoreResult.encodeError(GameError.INVALID_FRAME, lastFrameStart - start);
+        }
+        if (end - bonusFrameStart != bonusRolls)
+        {
+            return ScoreResult.encodeError(GameError.INVALID_BONUS_FRAME, bonusFrameStart - start);
+        }
+        if (frameError != NO_ERROR)
+        {
+            return frameError;
+        }
+
+        // Bonus rolls only add their multiplied bonus, the base value is not counted.
+        int bonusRollMultiplier = firstRollMultiplier - 1;
+        for (int position = bonusFrameStart; position < end; position++)
+        {
+            final int bonusRollValue = getKnownRollValue(FrameScanner.readByte(array, buffer, position));
+            if (bonusRollValue == INVALID_ROLL_VALUE)
+            {
+                return ScoreResult.encodeError(GameError.INVALID_ROLL, position - start);
+            }
+            totalScore += bonusRollValue * bonusRollMultiplier;
+            bonusRollMultiplier = secondRollMultiplier - 1;
+        }
+        return totalScore;
+    }
+
+    /**
+     * Sets the score of a frame to its pins and pays the rolls of the frame to the previous two frames as they are
+     * owed.
+     * @param frameScores The scores of the frames so far.
+     * @param frame The zero based index of the frame.
+     * @param firstRollValue The first roll value of the frame.
+     * @param secondRollValue The second roll value of the frame, 0 for a strike.
+     * @param rolls The number of rolls of the frame.
+     * @param rollsOwedToPrevious The number of bonus rolls the previous frame is still owed.
+     * @param rollsOwedToBeforePrevious The number of bonus rolls the frame before the previous frame is still owed,
+     * at most one.
+     * @return The number of bonus rolls the previous frame is still owed after this frame, which is at most one.
+     */
+    private static int creditFrame(@NonNull final int[] frameScores, final int frame, final int firstRollValue, final int secondRollValue,
+                                   final int rolls, final int rollsOwedToPrevious, final int rollsOwedToBeforePrevious)
+    {
+        frameScores[frame] = firstRollValue + secondRollValue;
+        if (rollsOwedToBeforePrevious > 0)
+        {
+            frameScores[frame - 2] += firstRollValue;
+        }
+        if (rollsOwedToPrevious > 0)
+        {
+            frameScores[frame - 1] += rollsOwedToPrevious > 1 ? firstRollValue + secondRollValue : firstRollValue;
+        }
+        return Math.max(rollsOwedToPrevious - rolls, 0);
+    }
+
+    /**
+     * Gets the number of bonus rolls earned by the last frame, as {@link #getFrameType} classifies it.
+     * @param game The game.
+     * @param frameStart The offset of the first character of the last frame.
+     * @param frameEnd The offset after the last character of the last frame.
+     * @return The number of bonus rolls, or -1 if the last frame is not a valid frame.
+     */
+    private int getNumberOfBonusRolls(@NonNull final CharSequence game, final int frameStart, final int frameEnd)
+    {
+        switch (frameEnd - frameStart)
+        {
+            case 1:
+                return game.charAt(frameStart) == strikeSymbol ? strikeBonusRolls : -1;
+            case 2:
+                return game.charAt(frameStart + 1) == spareSymbol ? spareBonusRolls : 0;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Creates the exception the reference {@link #parseBowlingGame} throws for the given error.
+     * @param game The invalid game.
+     * @param outcome The encoded error outcome.
+     * @return The non-null {@link IllegalArgumentException}.
+     */
+    @NonNull
+    IllegalArgumentException createException(final CharSequence game, final long outcome)
+    {
+        final int errorOffset = ScoreResult.getErrorOffset(outcome);
+        switch (ScoreResult.getError(outcome))
+        {
+            case BLANK_GAME:
+                return new IllegalArgumentException("game cannot be null, empty, or blank");
+            case INVALID_FRAME:
+            {
+                int frameEnd = errorOffset;
+                while (frameEnd < game.length() && game.charAt(frameEnd) != FRAME_DELIMITER)
+                {
+                    frameEnd++;
+                }
+                return new IllegalArgumentException(String.format("[%s] is not a valid frame.", game.subSequence(errorOffset, frameEnd)));
+            }
+            case INVALID_ROLL:
+                return new NumberFormatException(String.format("For input string: \"%s\"", game.charAt(errorOffset)));
+            case TOO_MANY_PINS:
+                return new IllegalArgumentException(String.format("Number of pins exceeds limit of %d.", numberOfPins));
+            case INVALID_SPARE:
+                return new IllegalArgumentException("secondRollValue must be non-negative.");
+            default:
+                return new IllegalArgumentException(String.format("[%s] is not a valid bowling game.", game));
+        }
+    }
+
+    /**
+     * Gets the roll value for the symbols and digits, from the lookup table for ASCII rolls.
+     * @param roll The roll.
+     * @return The number of pins knocked down for the given roll, or {@link #INVALID_ROLL_VALUE}.
+     */
+    private int getKnownRollValue(final char roll)
+    {
+        return roll < ASCII_SIZE ? rollValues[roll] : computeRollValue(roll);
+    }
+
+    /**
+     * Computes the roll value like {@link #getRollValue}, but without allocating or throwing.
+     * @param roll The roll.
+     * @return The number of pins knocked down for the given roll, or {@link #INVALID_ROLL_VALUE}.
+     */
+    private int computeRollValue(final char roll)
+    {
+        if (roll == missSymbol)
+        {
+            return 0;
+        }
+        if (roll == strikeSymbol || roll == spareSymbol)
+        {
+            return numberOfPins;
+        }
+        // Integer.parseInt accepts exactly the characters that Character.digit accepts in a single character string.
+        return Character.digit(roll, 10);
+    }
+
+    /**
+     * Gets the token of a two roll frame, from the lookup table when both rolls are in the alphabet.
+     * @param firstRoll The first roll.
+     * @param secondRoll The second roll.
+     * @return The token created by {@link #decodeFrame}.
+     */
+    private int getFrameToken(final char firstRoll, final char secondRoll)
+    {
+        if ((firstRoll | secondRoll) < ASCII_SIZE)
+        {
+            final int firstIndex = symbolIndexes[firstRoll];
+            final int secondIndex = symbolIndexes[secondRoll];
+            if ((firstIndex | secondIndex) >= 0)
+            {
+                return frameTokens[(firstIndex * alphabetSize) + secondIndex];
+            }
+        }
+        return decodeFrame(firstRoll, secondRoll);
+    }
+
+    /**
+     * Decodes a two roll frame like {@link #getFrame}, but without allocating or throwing.
+     * @param firstRoll The first roll.
+     * @param secondRoll The second roll.
+     * @return The roll values of the frame in the low {@link #TOKEN_ROLL_BITS} bits each, with
+     * {@link #TOKEN_SPARE_FLAG} set for a {@link FrameType#SPARE}; or, for an invalid frame, {@link #TOKEN_ERROR_FLAG}
+     * with the {@link GameError} ordinal from bit 1 and the index of the failing roll in bit 0.
+     */
+    private int decodeFrame(final char firstRoll, final char secondRoll)
+    {
+        final int firstRollValue = getKnownRollValue(firstRoll);
+        if (firstRollValue == INVALID_ROLL_VALUE)
+        {
+            return createTokenError(GameError.INVALID_ROLL, 0);
+        }
+        if (secondRoll == spareSymbol)
+        {
+            final int secondRollValue = numberOfPins - firstRollValue;
+            if (secondRollValue < 0)
+            {
+                return createTokenError(GameError.INVALID_SPARE, 0);
+            }
+            return firstRollValue | (secondRollValue << TOKEN_ROLL_BITS) | TOKEN_SPARE_FLAG;
+        }
+        final int secondRollValue = getKnownRollValue(secondRoll);
+        if (secondRollValue == INVALID_ROLL_VALUE)
+        {
+            return createTokenError(GameError.INVALID_ROLL, 1);
+        }
+        if (firstRollValue + secondRollValue > numberOfPins)
+        {
+            return createTokenError(GameError.TOO_MANY_PINS, 0);
+        }
+        return firstRollValue | (secondRollValue << TOKEN_ROLL_BITS);
+    }
+
+    /**
+     * @param error The {@link GameError}.
+     * @param rollIndex The index of the failing roll within the frame.
+     * @return The token of the invalid frame.
+     */
+    private static int createTokenError(@NonNull final GameError error, final int rollIndex)
+    {
+        return TOKEN_ERROR_FLAG | (error.ordinal() << 1) | rollIndex;
+    }
+
+    /**
+     * @param frameToken The token of an invalid frame.
+     * @return The non-null {@link GameError} of the token.
+     */
+    @NonNull
+    private static GameError getTokenError(final int frameToken)
+    {
+        return GAME_ERRORS[(frameToken & ~TOKEN_ERROR_FLAG) >>> 1];
+    }
+
+    /**
+     * @param frameToken The token of an invalid frame.
+     * @return The index of the failing roll within the frame.
+     */
+    private static int getTokenErrorIndex(final int frameToken)
+    {
+        return frameToken & 1;
+    }
+
     /**
      * Parses the string bowling game into a List of {@link Frame}s.
      * @param bowlingGame The string bowling game to parse.
@@ -99,9 +1212,14 @@ public class BowlingGame
      * @throws IllegalArgumentException If the bowlingGame is invalid.
      */
     @NonNull
-    private List<Frame> parseBowlingGame(@NonNull final String bowlingGame)
+    @VisibleForTesting
+    List<Frame> parseBowlingGame(@NonNull final String bowlingGame)
     {
         final String[] splitBowlingGame = bowlingGame.split("\\|\\|", 2);
+        if (splitBowlingGame.length != 2)
+        {
+            throw new IllegalArgumentException(String.format("[%s] is not a valid bowling game.", bowlingGame));
+        }
         final String[] frameStrings = splitBowlingGame[0].split("\\|");
         final String bonusFrameString = splitBowlingGame[1];
 
@@ -126,7 +1244,8 @@ public class BowlingGame
      * @throws IllegalArgumentException If the frame is invalid.
      */
     @NonNull
-    private FrameType getFrameType(@NonNull final String frame)
+    @VisibleForTesting
+    FrameType getFrameType(@NonNull final String frame)
     {
         if (frame.length() == 1)
         {
@@ -149,7 +1268,7 @@ public class BowlingGame
     }
 
     /**
-     * Creates a {@link Frame} from the given information.
+     * Gets the shared {@link Frame} of the given information from the {@link FrameFlyweights} of this game.
      * @param frameString The frame string.
      * @param frameType The {@link FrameType}.
      * @return The non-null {@link Frame}.
@@ -157,18 +1276,19 @@ public class BowlingGame
      * @throws RuntimeException If an unsupported FrameType is supplied.
      */
     @NonNull
-    private Frame getFrame(@NonNull final String frameString, @NonNull final FrameType frameType)
+    @VisibleForTesting
+    Frame getFrame(@NonNull final String frameString, @NonNull final FrameType frameType)
     {
         switch (frameType)
         {
             case STRIKE:
             {
-                return Frame.newBuilder().withFrameType(frameType).withFirstRollValue(numberOfPins).withSecondRollValue(0).build();
+                return frameFlyweights.getFrame(frameType, numberOfPins, 0);
             }
             case SPARE:
             {
                 final int firstRollValue = getRollValue(frameString.charAt(0));
-                return Frame.newBuilder().withFrameType(frameType).withFirstRollValue(firstRollValue).withSecondRollValue(numberOfPins - firstRollValue).build();
+                return frameFlyweights.getFrame(frameType, firstRollValue, numberOfPins - firstRollValue);
             }
             case PINS:
             {
@@ -179,22 +1299,22 @@ public class BowlingGame
                 {
                     throw new IllegalArgumentException(String.format("Number of pins exceeds limit of %d.", numberOfPins));
                 }
-                return Frame.newBuilder().withFrameType(frameType).withFirstRollValue(firstRollValue).withSecondRollValue(secondRollValue).build();
+                return frameFlyweights.getFrame(frameType, firstRollValue, secondRollValue);
             }
             case BONUS:
             {
                 if (frameString.isEmpty())
                 {
-                    return Frame.newBuilder().withFrameType(frameType).withFirstRollValue(0).withSecondRollValue(0).build();
+                    return frameFlyweights.getFrame(frameType, 0, 0);
                 }
 
                 final int firstRollValue = getRollValue(frameString.charAt(0));
                 if (frameString.length() == 1)
                 {
-                    return Frame.newBuilder().withFrameType(frameType).withFirstRollValue(firstRollValue).withSecondRollValue(0).build();
+                    return frameFlyweights.getFrame(frameType, firstRollValue, 0);
                 }
                 final int secondRollValue = getRollValue(frameString.charAt(1));
-                return Frame.newBuilder().withFrameType(frameType).withFirstRollValue(firstRollValue).withSecondRollValue(secondRollValue).build();
+                return frameFlyweights.getFrame(frameType, firstRollValue, secondRollValue);
             }
             default:
                 throw new RuntimeException("Unsupported FrameType encountered.");
@@ -207,16 +1327,15 @@ public class BowlingGame
      * @return The number of pins knocked down for the given roll.
      * @throws NumberFormatException If the roll is not a parsable integer. See {@link Integer#parseInt(String)}.
      */
-    private int getRollValue(final char roll)
+    @VisibleForTesting
+    int getRollValue(final char roll)
     {
-        if (roll == missSymbol)
-        {
-            return 0;
-        }
-        if (roll == strikeSymbol || roll == spareSymbol)
+        final int rollValue = getKnownRollValue(roll);
+        if (rollValue != INVALID_ROLL_VALUE)
         {
-            return 10;
+            return rollValue;
         }
+        // Only reached for an invalid roll, to throw the same NumberFormatException as parsing it.
         return Integer.parseInt(String.valueOf(roll));
     }
 
@@ -232,6 +1351,154 @@ public class BowlingGame
         {
             return false;
         }
-        return getFrameType(frames[frames.length - 1]).getNumberOfBonusRolls() == bonusFrame.length();
+        return getNumberOfBonusRolls(getFrameType(frames[frames.length - 1])) == bonusFrame.length();
+    }
+
+    /**
+     * Gets the number of bonus rolls a frame of the given {@link FrameType} earns under the rules of this game.
+     * @param frameType The {@link FrameType}.
+     * @return The number of bonus rolls.
+     */
+    private int getNumberOfBonusRolls(@NonNull final FrameType frameType)
+    {
+        switch (frameType)
+        {
+            case STRIKE:
+                return strikeBonusRolls;
+            case SPARE:
+                return spareBonusRolls;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Builder for {@link BowlingGame}. Every value defaults to the standard ten pin, ten frame game.
+     */
+    public static final class Builder
+    {
+        private int numberOfFrames = 10;
+        private int numberOfPins = 10;
+        private char strikeSymbol = 'X';
+        private char spareSymbol = '/';
+        private char missSymbol = '-';
+        private int strikeBonusRolls = FrameType.STRIKE.getNumberOfBonusRolls();
+        private int spareBonusRolls = FrameType.SPARE.getNumberOfBonusRolls();
+        private ScoringMetrics metrics;
+
+        /**
+         * Constructor for {@link Builder}. Declared private to prevent direct instantiation.
+         */
+        private Builder()
+        {
+        }
+
+        /**
+         * @param numberOfFrames The number of frames, not counting the bonus frame.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the numberOfFrames is not positive.
+         */
+        public Builder withNumberOfFrames(final int numberOfFrames)
+        {
+            Preconditions.checkArgument(numberOfFrames > 0, "numberOfFrames must be positive.");
+            this.numberOfFrames = numberOfFrames;
+            return this;
+        }
+
+        /**
+         * @param numberOfPins The number of pins.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the numberOfPins is not positive or exceeds {@link #MAX_NUMBER_OF_PINS}.
+         */
+        public Builder withNumberOfPins(final int numberOfPins)
+        {
+            Preconditions.checkArgument(numberOfPins > 0, "numberOfPins must be positive.");
+            Preconditions.checkArgument(numberOfPins <= MAX_NUMBER_OF_PINS, "numberOfPins cannot exceed %s.", MAX_NUMBER_OF_PINS);
+            this.numberOfPins = numberOfPins;
+            return this;
+        }
+
+        /**
+         * @param strikeSymbol The strike symbol.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the strikeSymbol is the frame delimiter.
+         */
+        public Builder withStrikeSymbol(final char strikeSymbol)
+        {
+            Preconditions.checkArgument(strikeSymbol != FRAME_DELIMITER, "strikeSymbol cannot be the frame delimiter.");
+            this.strikeSymbol = strikeSymbol;
+            return this;
+        }
+
+        /**
+         * @param spareSymbol The spare symbol.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the spareSymbol is the frame delimiter.
+         */
+        public Builder withSpareSymbol(final char spareSymbol)
+        {
+            Preconditions.checkArgument(spareSymbol != FRAME_DELIMITER, "spareSymbol cannot be the frame delimiter.");
+            this.spareSymbol = spareSymbol;
+            return this;
+        }
+
+        /**
+         * @param missSymbol The miss symbol.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the missSymbol is the frame delimiter.
+         */
+        public Builder withMissSymbol(final char missSymbol)
+        {
+            Preconditions.checkArgument(missSymbol != FRAME_DELIMITER, "missSymbol cannot be the frame delimiter.");
+            this.missSymbol = missSymbol;
+            return this;
+        }
+
+        /**
+         * @param strikeBonusRolls The number of following rolls whose pins are added to a strike.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the strikeBonusRolls is negative or greater than two.
+         */
+        public Builder withStrikeBonusRolls(final int strikeBonusRolls)
+        {
+            Preconditions.checkArgument(strikeBonusRolls >= 0 && strikeBonusRolls <= MAX_BONUS_ROLLS,
+                    "strikeBonusRolls must be between 0 and %s.", MAX_BONUS_ROLLS);
+            this.strikeBonusRolls = strikeBonusRolls;
+            return this;
+        }
+
+        /**
+         * @param spareBonusRolls The number of following rolls whose pins are added to a spare.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the spareBonusRolls is negative or greater than two.
+         */
+        public Builder withSpareBonusRolls(final int spareBonusRolls)
+        {
+            Preconditions.checkArgument(spareBonusRolls >= 0 && spareBonusRolls <= MAX_BONUS_ROLLS,
+                    "spareBonusRolls must be between 0 and %s.", MAX_BONUS_ROLLS);
+            this.spareBonusRolls = spareBonusRolls;
+            return this;
+        }
+
+        /**
+         * @param metrics The {@link ScoringMetrics} to record every scored game to, which may be shared between games.
+         * @return The non-null {@link Builder}.
+         * @throws IllegalArgumentException If the metrics is {@code null}.
+         */
+        public Builder withMetrics(@NonNull final ScoringMetrics metrics)
+        {
+            Preconditions.checkArgument(metrics != null, "metrics cannot be null.");
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @return The non-null instance of a {@link BowlingGame}.
+         */
+        @NonNull
+        public BowlingGame build()
+        {
+            return new BowlingGame(this);
+        }
     }
 }
@@ -3,8 +3,11 @@ package bowling.game;
 import com.google.common.base.Preconditions;
 import edu.umd.cs.findbugs.annotations.NonNull;
 
+import java.util.Objects;
+
 /**
- * Represents a frame of bowling.
+ * Represents a frame of bowling. Frames are immutable and compare by value, so the parser hands out shared instances
+ * from {@link FrameFlyweights} instead of allocating a new one per frame.
  */
 public class Frame
 {
@@ -46,15 +49,53 @@ public class Frame
         return secondRollValue;
     }
 
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass())
+        {
+            return false;
+        }
+        final Frame other = (Frame) obj;
+        return frameType == other.frameType && firstRollValue == other.firstRollValue && secondRollValue == other.secondRollValue;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * (31 * Objects.hashCode(frameType) + firstRollValue) + secondRollValue;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("Frame[frameType=%s, firstRollValue=%d, secondRollValue=%d]", frameType, firstRollValue, secondRollValue);
+    }
+
     /**
      * Constructor for {@link Frame}. Declared private to prevent direct instantiation.
      * @param builder The {@link Builder}.
      */
     private Frame(@NonNull final Builder builder)
     {
-        frameType = builder.frameType;
-        firstRollValue = builder.firstRollValue;
-        secondRollValue = builder.secondRollValue;
+        this(builder.frameType, builder.firstRollValue, builder.secondRollValue);
+    }
+
+    /**
+     * Constructor for {@link Frame}, used by {@link FrameFlyweights} to create the shared instances.
+     * @param frameType The {@link FrameType}.
+     * @param firstRollValue The non-negative first roll value.
+     * @param secondRollValue The non-negative second roll value.
+     */
+    Frame(final FrameType frameType, final int firstRollValue, final int secondRollValue)
+    {
+        this.frameType = frameType;
+        this.firstRollValue = firstRollValue;
+        this.secondRollValue = secondRollValue;
     }
 
     /**
@@ -0,0 +1,63 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A {@link FrameVisitor} that counts the frames of a game by {@link FrameType} and the pins of their first rolls, for
+ * {@link ScoringMetrics} and {@link GameStatistics}. The {@link FrameType#BONUS} frame is not counted. Counts are
+ * reusable through {@link #reset}.
+ */
+final class FrameCounts implements FrameVisitor
+{
+    private int strikes;
+    private int spares;
+    private int firstRollPins;
+
+    @Override
+    public void visitFrame(final int frame, @NonNull final FrameType frameType, final int firstRollValue, final int secondRollValue)
+    {
+        if (frameType != FrameType.BONUS)
+        {
+            strikes += frameType == FrameType.STRIKE ? 1 : 0;
+            spares += frameType == FrameType.SPARE ? 1 : 0;
+            firstRollPins += firstRollValue;
+        }
+    }
+
+    /**
+     * Clears the counts, so that the next game is counted from zero.
+     * @return This {@link FrameCounts}.
+     */
+    @NonNull
+    FrameCounts reset()
+    {
+        strikes = 0;
+        spares = 0;
+        firstRollPins = 0;
+        return this;
+    }
+
+    /**
+     * @return The number of {@link FrameType#STRIKE} frames.
+     */
+    int getStrikes()
+    {
+        return strikes;
+    }
+
+    /**
+     * @return The number of {@link FrameType#SPARE} frames.
+     */
+    int getSpares()
+    {
+        return spares;
+    }
+
+    /**
+     * @return The pins knocked down by the first roll of every frame.
+     */
+    int getFirstRollPins()
+    {
+        return firstRollPins;
+    }
+}
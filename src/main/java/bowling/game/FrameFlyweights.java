@@ -0,0 +1,90 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The shared {@link Frame}s of one number of pins: every {@link FrameType} with every pair of roll values up to the
+ * number of pins is created once, so that a standard game has 484 frames in all. Tables are created on first use and
+ * shared by every {@link BowlingGame} with the same number of pins. Games with more than {@link #MAX_NUMBER_OF_PINS}
+ * pins have no table, because it grows with the square of the number of pins, and get new frames instead.
+ */
+final class FrameFlyweights
+{
+    /**
+     * The largest number of pins that has a table.
+     */
+    static final int MAX_NUMBER_OF_PINS = 32;
+
+    private static final FrameType[] FRAME_TYPES = FrameType.values();
+    private static final ConcurrentMap<Integer, FrameFlyweights> TABLES = new ConcurrentHashMap<>();
+    private static final FrameFlyweights NO_FRAMES = new FrameFlyweights(-1);
+
+    private final int rollValues;
+    private final Frame[] frames;
+
+    /**
+     * Constructor for {@link FrameFlyweights}.
+     * @param numberOfPins The number of pins, at most {@link #MAX_NUMBER_OF_PINS}, or -1 for a table without frames.
+     */
+    private FrameFlyweights(final int numberOfPins)
+    {
+        this.rollValues = numberOfPins + 1;
+        this.frames = new Frame[FRAME_TYPES.length * rollValues * rollValues];
+        for (final FrameType frameType : FRAME_TYPES)
+        {
+            for (int firstRollValue = 0; firstRollValue < rollValues; firstRollValue++)
+            {
+                for (int secondRollValue = 0; secondRollValue < rollValues; secondRollValue++)
+                {
+                    frames[getIndex(frameType, firstRollValue, secondRollValue)] = new Frame(frameType, firstRollValue, secondRollValue);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the shared table of the given number of pins.
+     * @param numberOfPins The positive number of pins.
+     * @return The non-null {@link FrameFlyweights}, without frames if there are more than
+     * {@link #MAX_NUMBER_OF_PINS} pins.
+     */
+    @NonNull
+    static FrameFlyweights forNumberOfPins(final int numberOfPins)
+    {
+        return numberOfPins > MAX_NUMBER_OF_PINS ? NO_FRAMES : TABLES.computeIfAbsent(numberOfPins, FrameFlyweights::new);
+    }
+
+    /**
+     * Gets the shared {@link Frame}, or creates a new one if the roll values are outside the table.
+     * @param frameType The {@link FrameType}.
+     * @param firstRollValue The non-negative first roll value.
+     * @param secondRollValue The non-negative second roll value.
+     * @return The non-null {@link Frame}.
+     */
+    @NonNull
+    Frame getFrame(@NonNull final FrameType frameType, final int firstRollValue, final int secondRollValue)
+    {
+        Preconditions.checkArgument(firstRollValue >= 0, "firstRollValue must be non-negative.");
+        Preconditions.checkArgument(secondRollValue >= 0, "secondRollValue must be non-negative.");
+        if (firstRollValue < rollValues && secondRollValue < rollValues)
+        {
+            return frames[getIndex(frameType, firstRollValue, secondRollValue)];
+        }
+        return new Frame(frameType, firstRollValue, secondRollValue);
+    }
+
+    /**
+     * @param frameType The {@link FrameType}.
+     * @param firstRollValue The first roll value, within the table.
+     * @param secondRollValue The second roll value, within the table.
+     * @return The index of the {@link Frame} in the table.
+     */
+    private int getIndex(final FrameType frameType, final int firstRollValue, final int secondRollValue)
+    {
+        return (frameType.ordinal() * rollValues + firstRollValue) * rollValues + secondRollValue;
+    }
+}
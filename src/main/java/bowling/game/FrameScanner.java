@@ -0,0 +1,165 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Scans ASCII bytes 8 at a time as a little-endian {@code long}, with SWAR bit tricks that test all 8 bytes of a word
+ * at once: the frame delimiters and the bytes outside the roll alphabet of a {@link BowlingGame} are found as masks
+ * with the high bit set in every matching byte, so the index of the next match is its number of trailing zeros divided
+ * by 8.
+ * <p>
+ * A byte equals a pattern byte when their XOR is zero, and a byte is zero when neither adding 0x7F to its low seven
+ * bits nor its own high bit sets its high bit; the low seven bits are added separately so that no carry crosses into
+ * the next byte, which makes the test exact rather than the usual test with false positives after a match. Digits are
+ * found by the same kind of addition, as the bytes at least {@code '0'} and not at least {@code ':'}.
+ */
+final class FrameScanner
+{
+    /**
+     * The number of bytes in a word.
+     */
+    static final int WORD_BYTES = Long.BYTES;
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BITS = ~HIGH_BITS;
+    private static final long DELIMITERS = ONES * '|';
+    private static final long LINE_ENDINGS = ONES * '\n';
+    private static final long AT_LEAST_ZERO = ONES * (0x80 - '0');
+    private static final long AT_LEAST_COLON = ONES * (0x80 - ('9' + 1));
+    private static final VarHandle LITTLE_ENDIAN_LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long strikeSymbols;
+    private final long spareSymbols;
+    private final long missSymbols;
+
+    /**
+     * Constructor for {@link FrameScanner}. A symbol outside ASCII never matches, as bytes outside ASCII are always
+     * outside the alphabet.
+     * @param strikeSymbol The strike symbol.
+     * @param spareSymbol The spare symbol.
+     * @param missSymbol The miss symbol.
+     */
+    FrameScanner(final char strikeSymbol, final char spareSymbol, final char missSymbol)
+    {
+        this.strikeSymbols = broadcast(strikeSymbol);
+        this.spareSymbols = broadcast(spareSymbol);
+        this.missSymbols = broadcast(missSymbol);
+    }
+
+    /**
+     * Reads up to 8 bytes as a little-endian word, padding with zero bytes past the end.
+     * @param array The array to read, or {@code null} to read the buffer.
+     * @param buffer The buffer to read if array is {@code null}.
+     * @param index The absolute index of the first byte.
+     * @param end The absolute index after the last byte.
+     * @return The word.
+     */
+    static long readWord(@CheckForNull final byte[] array, @CheckForNull final ByteBuffer buffer, final int index, final int end)
+    {
+        if (end - index >= WORD_BYTES)
+        {
+            if (array != null)
+            {
+                return (long) LITTLE_ENDIAN_LONGS.get(array, index);
+            }
+            final long word = buffer.getLong(index);
+            return buffer.order() == ByteOrder.LITTLE_ENDIAN ? word : Long.reverseBytes(word);
+        }
+        long word = 0;
+        for (int i = end - 1; i >= index; i--)
+        {
+            word = (word << Byte.SIZE) | readByte(array, buffer, i);
+        }
+        return word;
+    }
+
+    /**
+     * @param array The array to read, or {@code null} to read the buffer.
+     * @param buffer The buffer to read if array is {@code null}.
+     * @param index The absolute index of the byte.
+     * @return The byte as an unsigned value, which is its ISO-8859-1 character like {@link AsciiByteSequence}.
+     */
+    static char readByte(@CheckForNull final byte[] array, @CheckForNull final ByteBuffer buffer, final int index)
+    {
+        return (char) ((array != null ? array[index] : buffer.get(index)) & 0xFF);
+    }
+
+    /**
+     * @param bytes The number of bytes of a word that were read, at most 8.
+     * @return The mask with the high bit set in each of those bytes.
+     */
+    static long getHighBits(final int bytes)
+    {
+        return bytes >= WORD_BYTES ? HIGH_BITS : HIGH_BITS & ((1L << (bytes * Byte.SIZE)) - 1);
+    }
+
+    /**
+     * @param word The word.
+     * @return The mask with the high bit set in every frame delimiter byte.
+     */
+    static long findDelimiters(final long word)
+    {
+        return findBytes(word, DELIMITERS);
+    }
+
+    /**
+     * Finds the next line ending a word at a time. The zero bytes that pad the last word never match.
+     * @param array The array to read, or {@code null} to read the buffer.
+     * @param buffer The buffer to read if array is {@code null}.
+     * @param index The absolute index of the first byte.
+     * @param end The absolute index after the last byte.
+     * @return The absolute index of the first {@code \n} at or after index, or end if there is none.
+     */
+    static int findLineEnding(@CheckForNull final byte[] array, @CheckForNull final ByteBuffer buffer, final int index, final int end)
+    {
+        for (int wordStart = index; wordStart < end; wordStart += WORD_BYTES)
+        {
+            final long lineEndings = findBytes(readWord(array, buffer, wordStart, end), LINE_ENDINGS);
+            if (lineEndings != 0)
+            {
+                return wordStart + Long.numberOfTrailingZeros(lineEndings) / Byte.SIZE;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * @param word The word.
+     * @return The mask with the high bit set in every byte that is not a delimiter, a digit or a symbol.
+     */
+    long findInvalidBytes(final long word)
+    {
+        final long lowBits = word & LOW_BITS;
+        final long digits = (lowBits + AT_LEAST_ZERO) & ~(lowBits + AT_LEAST_COLON);
+        final long valid = findBytes(word, DELIMITERS) | digits | findBytes(word, strikeSymbols) | findBytes(word, spareSymbols)
+                | findBytes(word, missSymbols);
+        // Bytes outside ASCII are invalid whatever their low bits match.
+        return (~valid | word) & HIGH_BITS;
+    }
+
+    /**
+     * @param word The word.
+     * @param pattern The byte to find, in every byte.
+     * @return The mask with the high bit set in every byte equal to the pattern byte.
+     */
+    private static long findBytes(final long word, final long pattern)
+    {
+        final long difference = word ^ pattern;
+        return ~(((difference & LOW_BITS) + LOW_BITS) | difference | LOW_BITS);
+    }
+
+    /**
+     * @param symbol The symbol.
+     * @return The word with the symbol in every byte, or the delimiters for a symbol outside ASCII.
+     */
+    private static long broadcast(final char symbol)
+    {
+        return symbol < 0x80 ? ONES * symbol : DELIMITERS;
+    }
+}
@@ -0,0 +1,22 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Receives the frames of a valid game from {@link BowlingGame#visitValidFrames}, in order, so that every feature that
+ * walks the frames of a game, such as packing it or classifying its frames, is built on the one walk rather than on
+ * its own copy of the delimiter and token handling.
+ */
+@FunctionalInterface
+interface FrameVisitor
+{
+    /**
+     * Visits a frame.
+     * @param frame The index of the frame, or the number of frames for the {@link FrameType#BONUS} frame, which is
+     * visited last.
+     * @param frameType The non-null {@link FrameType} of the frame.
+     * @param firstRollValue The pins knocked down by the first roll, or zero if a bonus frame has no rolls.
+     * @param secondRollValue The pins knocked down by the second roll, or zero if the frame has no second roll.
+     */
+    void visitFrame(int frame, @NonNull FrameType frameType, int firstRollValue, int secondRollValue);
+}
@@ -0,0 +1,717 @@
+package bowling.game;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only archive of valid games on the local filesystem. Each game is stored with a key supplied by the caller,
+ * such as a bowler id or a date, its score, and its frames packed by {@link PackedGames}, which keep the
+ * {@link FrameType} of every frame, so games are read back and queried without rescoring or parsing. Games are
+ * identified by the order they were appended in, starting from zero.
+ * <p>
+ * Games are stored in records of a fixed size, in segment files of a fixed number of records that are memory-mapped
+ * once and read in place. A record ends with a CRC32C checksum of its content, which is written last, and nothing else
+ * is written per game. So an archive that was not closed, for instance after a crash, is recovered when it is opened:
+ * its games are the records up to the first one whose checksum does not match, and everything after that record is
+ * cleared, so that a record that reached the disk after a lost one is never resurrected. A new segment is created under
+ * a temporary name and renamed into place once its header is on disk, and the full segment before it is forced first,
+ * so a crash during rollover leaves at most a temporary file, which is deleted. Appended games survive a crash of the
+ * process, and {@link #force()} makes them survive a crash of the machine.
+ * <p>
+ * Games are indexed in memory by score, with a list of games per score, and by key, with the games sorted by key. The
+ * key order is extended in place while keys are appended in order, such as dates, and otherwise the games appended
+ * since are sorted and merged in by the next query. With the keys themselves this takes 16 bytes per game. An archive
+ * is not thread-safe.
+ */
+public class GameArchive implements Closeable
+{
+    /**
+     * The default number of games per segment file.
+     */
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 16;
+
+    /**
+     * The size of the header of a segment file.
+     */
+    @VisibleForTesting
+    static final int HEADER_SIZE = 8 * Integer.BYTES;
+
+    private static final int MAGIC = 0x424F574C;
+    private static final int VERSION = 1;
+    private static final int SCORE_OFFSET = Long.BYTES;
+    private static final int FRAMES_OFFSET = SCORE_OFFSET + Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".games";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Path directory;
+    private final BowlingGame bowlingGame;
+    private final FrameFlyweights frameFlyweights;
+    private final int recordsPerSegment;
+    private final int framesPerGame;
+    private final int recordSize;
+    private final int segmentSize;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final CRC32C checksum = new CRC32C();
+    private final int[][] idsByScore;
+    private final int[] scoreCounts;
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] idsByKey = new int[INITIAL_CAPACITY];
+    private int sortedByKey;
+    private int size;
+    private boolean closed;
+
+    /**
+     * Constructor for {@link GameArchive}. Declared private, use {@link #open} to open one.
+     * @param directory The directory of the segment files.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param recordsPerSegment The number of games per segment file.
+     */
+    private GameArchive(@NonNull final Path directory, @NonNull final BowlingGame bowlingGame, final int recordsPerSegment)
+    {
+        this.directory = directory;
+        this.bowlingGame = bowlingGame;
+        this.frameFlyweights = FrameFlyweights.forNumberOfPins(bowlingGame.getNumberOfPins());
+        this.recordsPerSegment = recordsPerSegment;
+        this.framesPerGame = bowlingGame.getNumberOfFrames() + 1;
+        this.recordSize = FRAMES_OFFSET + framesPerGame * Short.BYTES + Integer.BYTES;
+        this.segmentSize = HEADER_SIZE + recordsPerSegment * recordSize;
+        this.idsByScore = new int[bowlingGame.getIndexedScoreBound() + 1][];
+        this.scoreCounts = new int[idsByScore.length];
+    }
+
+    /**
+     * Opens the archive in the given directory with {@link #DEFAULT_RECORDS_PER_SEGMENT}, creating the directory if it
+     * does not exist, and recovers the games that were appended before.
+     * @param directory The directory of the segment files.
+     * @param bowlingGame The {@link BowlingGame} to score with, which must be the same as when the games were appended.
+     * @return The non-null, open {@link GameArchive}.
+     * @throws IOException If the directory cannot be read, or holds segment files of another configuration.
+     * @throws IllegalArgumentException If directory or bowlingGame is {@code null}, or a valid game can score above
+     * {@link BowlingGame#MAX_INDEXED_SCORE}.
+     */
+    @NonNull
+    public static GameArchive open(@NonNull final Path directory, @NonNull final BowlingGame bowlingGame) throws IOException
+    {
+        return open(directory, bowlingGame, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    /**
+     * Opens the archive in the given directory, creating the directory if it does not exist, and recovers the games
+     * that were appended before.
+     * @param directory The directory of the segment files.
+     * @param bowlingGame The {@link BowlingGame} to score with, which must be the same as when the games were appended.
+     * @param recordsPerSegment The number of games per segment file, which must be the same as when the games were
+     * appended.
+     * @return The non-null, open {@link GameArchive}.
+     * @throws IOException If the directory cannot be read, or holds segment files of another configuration.
+     * @throws IllegalArgumentException If directory or bowlingGame is {@code null}, a valid game can score above
+     * {@link BowlingGame#MAX_INDEXED_SCORE}, or recordsPerSegment is not positive or too large for a segment file.
+     */
+    @NonNull
+    public static GameArchive open(@NonNull final Path directory, @NonNull final BowlingGame bowlingGame, final int recordsPerSegment)
+            throws IOException
+    {
+        Preconditions.checkArgument(directory != null, "directory cannot be null.");
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        bowlingGame.getIndexedScoreBound();
+        Preconditions.checkArgument(recordsPerSegment > 0, "recordsPerSegment must be positive.");
+        final long recordSize = FRAMES_OFFSET + (bowlingGame.getNumberOfFrames() + 1L) * Short.BYTES + Integer.BYTES;
+        Preconditions.checkArgument(HEADER_SIZE + recordsPerSegment * recordSize <= Integer.MAX_VALUE,
+                "recordsPerSegment is too large for a segment file.");
+
+        Files.createDirectories(directory);
+        final GameArchive archive = new GameArchive(directory, bowlingGame, recordsPerSegment);
+        archive.recover();
+        return archive;
+    }
+
+    /**
+     * Validates, scores and appends the game.
+     * @param key The key of the game, such as a bowler id or a date.
+     * @param game The game.
+     * @return The non-negative id of the game.
+     * @throws IOException If a new segment file cannot be created.
+     * @throws IllegalArgumentException If game is null, empty, blank, or invalid.
+     * @throws IllegalStateException If the archive is closed or holds {@link Integer#MAX_VALUE} games.
+     * @throws NumberFormatException If a roll is neither a symbol nor a digit.
+     */
+    public int append(final long key, @NonNull final CharSequence game) throws IOException
+    {
+        Preconditions.checkState(!closed, "archive is closed.");
+        final int score = bowlingGame.calculateScore(game);
+        final short[] packedGame = PackedGames.encodeValidGame(bowlingGame, game);
+        if (size == segments.size() * recordsPerSegment)
+        {
+            Preconditions.checkState(segments.size() < Integer.MAX_VALUE / recordsPerSegment, "archive is full.");
+            if (!segments.isEmpty())
+            {
+                segments.get(segments.size() - 1).force();
+            }
+            segments.add(createSegment(segments.size()));
+        }
+
+        final MappedByteBuffer segment = segments.get(size / recordsPerSegment);
+        final int offset = getRecordOffset(size);
+        segment.putLong(offset, key);
+        segment.putInt(offset + SCORE_OFFSET, score);
+        for (int frame = 0; frame < framesPerGame; frame++)
+        {
+            segment.putShort(offset + FRAMES_OFFSET + frame * Short.BYTES, packedGame[frame]);
+        }
+        segment.putInt(offset + recordSize - Integer.BYTES, computeChecksum(segment, offset));
+        index(key, score);
+        return size++;
+    }
+
+    /**
+     * @return The number of games.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @param id The id of the game.
+     * @return The key of the game.
+     * @throws IllegalArgumentException If there is no game with the id.
+     */
+    public long getKey(final int id)
+    {
+        checkId(id);
+        return keys[id];
+    }
+
+    /**
+     * @param id The id of the game.
+     * @return The non-negative score of the game, read from its segment file.
+     * @throws IllegalArgumentException If there is no game with the id.
+     */
+    public int getScore(final int id)
+    {
+        checkId(id);
+        return readScore(id);
+    }
+
+    /**
+     * @param id The id of the game.
+     * @return The non-null List of {@link Frame}s of the game, ending with the {@link FrameType#BONUS} frame, read from
+     * its segment file.
+     * @throws IllegalArgumentException If there is no game with the id.
+     */
+    @NonNull
+    public List<Frame> getFrames(final int id)
+    {
+        checkId(id);
+        final MappedByteBuffer segment = segments.get(id / recordsPerSegment);
+        final int offset = getRecordOffset(id) + FRAMES_OFFSET;
+        final List<Frame> frames = new ArrayList<>(framesPerGame);
+        for (int frame = 0; frame < framesPerGame; frame++)
+        {
+            final short packedFrame = segment.getShort(offset + frame * Short.BYTES);
+            frames.add(frameFlyweights.getFrame(PackedGames.getFrameType(packedFrame), PackedGames.getFirstRollValue(packedFrame),
+                    PackedGames.getSecondRollValue(packedFrame)));
+        }
+        return frames;
+    }
+
+    /**
+     * @param id The id of the game.
+     * @param frameType The {@link FrameType}.
+     * @return The number of frames of the given type in the game, read from its segment file.
+     * @throws IllegalArgumentException If there is no game with the id, or frameType is {@code null}.
+     */
+    public int countFrames(final int id, @NonNull final FrameType frameType)
+    {
+        checkId(id);
+        Preconditions.checkArgument(frameType != null, "frameType cannot be null.");
+        final MappedByteBuffer segment = segments.get(id / recordsPerSegment);
+        final int offset = getRecordOffset(id) + FRAMES_OFFSET;
+        int count = 0;
+        for (int frame = 0; frame < framesPerGame; frame++)
+        {
+            if (PackedGames.getFrameType(segment.getShort(offset + frame * Short.BYTES)) == frameType)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the games with a score in the given range.
+     * @param minScore The lowest score, inclusive.
+     * @param maxScore The highest score, inclusive.
+     * @return The non-null ids of the games, in the order they were appended.
+     * @throws IllegalArgumentException If minScore exceeds maxScore.
+     */
+    @NonNull
+    public int[] findByScore(final int minScore, final int maxScore)
+    {
+        return find(Long.MIN_VALUE, Long.MAX_VALUE, minScore, maxScore);
+    }
+
+    /**
+     * Finds the games with a key in the given range.
+     * @param fromKey The lowest key, inclusive.
+     * @param toKey The highest key, inclusive.
+     * @return The non-null ids of the games, in the order they were appended.
+     * @throws IllegalArgumentException If fromKey exceeds toKey.
+     */
+    @NonNull
+    public int[] findByKey(final long fromKey, final long toKey)
+    {
+        return find(fromKey, toKey, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the games with a key and a score in the given ranges, such as the games of at least 250 this season. The
+     * games are found through whichever index matches fewer games, and filtered by the other range.
+     * @param fromKey The lowest key, inclusive.
+     * @param toKey The highest key, inclusive.
+     * @param minScore The lowest score, inclusive.
+     * @param maxScore The highest score, inclusive.
+     * @return The non-null ids of the games, in the order they were appended.
+     * @throws IllegalArgumentException If fromKey exceeds toKey, or minScore exceeds maxScore.
+     */
+    @NonNull
+    public int[] find(final long fromKey, final long toKey, final int minScore, final int maxScore)
+    {
+        Preconditions.checkArgument(fromKey <= toKey, "fromKey cannot exceed toKey.");
+        Preconditions.checkArgument(minScore <= maxScore, "minScore cannot exceed maxScore.");
+
+        sortKeyIndex();
+        final int keyStart = findFirstKey(fromKey, false);
+        final int keyEnd = findFirstKey(toKey, true);
+        final int lowestScore = Math.max(minScore, 0);
+        final int highestScore = Math.min(maxScore, idsByScore.length - 1);
+        long scoreMatches = 0;
+        for (int score = lowestScore; score <= highestScore; score++)
+        {
+            scoreMatches += scoreCounts[score];
+        }
+
+        int[] ids;
+        int count = 0;
+        if (scoreMatches <= keyEnd - keyStart)
+        {
+            ids = new int[(int) scoreMatches];
+            for (int score = lowestScore; score <= highestScore; score++)
+            {
+                for (int i = 0; i < scoreCounts[score]; i++)
+                {
+                    final int id = idsByScore[score][i];
+                    if (keys[id] >= fromKey && keys[id] <= toKey)
+                    {
+                        ids[count++] = id;
+                    }
+                }
+            }
+        }
+        else
+        {
+            ids = new int[keyEnd - keyStart];
+            for (int i = keyStart; i < keyEnd; i++)
+            {
+                final int id = idsByKey[i];
+                final int score = readScore(id);
+                if (score >= minScore && score <= maxScore)
+                {
+                    ids[count++] = id;
+                }
+            }
+        }
+        ids = Arrays.copyOf(ids, count);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Forces the games appended so far to the disk, so that they survive a crash of the machine.
+     * @throws IllegalStateException If the archive is closed.
+     */
+    public void force()
+    {
+        Preconditions.checkState(!closed, "archive is closed.");
+        if (!segments.isEmpty())
+        {
+            segments.get(segments.size() - 1).force();
+        }
+    }
+
+    /**
+     * Closes the archive. The segment files stay mapped until the mappings are garbage collected, and the games that
+     * were not forced reach the disk when the operating system writes them back.
+     */
+    @Override
+    public void close()
+    {
+        closed = true;
+        segments.clear();
+    }
+
+    /**
+     * @return The size of a record in a segment file.
+     */
+    @VisibleForTesting
+    int getRecordSize()
+    {
+        return recordSize;
+    }
+
+    /**
+     * @param number The number of the segment.
+     * @return The non-null path of the segment file.
+     */
+    @NonNull
+    @VisibleForTesting
+    Path getSegmentPath(final int number)
+    {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Maps the segment files, deleting a segment left by an interrupted rollover, and indexes the valid games up to the
+     * first record whose checksum does not match. The rest of that segment is cleared and later segments are deleted.
+     * @throws IOException If the segment files cannot be read, are not numbered from zero, or are of another
+     * configuration.
+     */
+    private void recover() throws IOException
+    {
+        final TreeMap<Integer, Path> segmentPaths = new TreeMap<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*"))
+        {
+            for (final Path path : paths)
+            {
+                final String name = path.getFileName().toString();
+                if (name.endsWith(TEMPORARY_SUFFIX))
+                {
+                    Files.delete(path);
+                }
+                else if (name.endsWith(SEGMENT_SUFFIX))
+                {
+                    segmentPaths.put(Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), path);
+                }
+            }
+        }
+
+        boolean truncated = false;
+        for (int number = 0; number < segmentPaths.size(); number++)
+        {
+            final Path path = segmentPaths.get(number);
+            if (path == null)
+            {
+                throw new IOException(String.format("Segment %s is missing.", getSegmentPath(number)));
+            }
+            if (truncated)
+            {
+                Files.delete(path);
+                continue;
+            }
+            final MappedByteBuffer segment = mapSegment(path);
+            segments.add(segment);
+            int slot = 0;
+            for (int offset = HEADER_SIZE; slot < recordsPerSegment && isValidRecord(segment, offset); slot++, offset += recordSize)
+            {
+                index(segment.getLong(offset), segment.getInt(offset + SCORE_OFFSET));
+                size++;
+            }
+            truncated = slot < recordsPerSegment;
+            if (truncated && clearRecords(segment, slot))
+            {
+                segment.force();
+            }
+        }
+    }
+
+    /**
+     * Creates the segment file under a temporary name, writes its header to the disk and renames it into place.
+     * @param number The number of the segment.
+     * @return The non-null mapped segment.
+     * @throws IOException If the segment file cannot be created.
+     */
+    @NonNull
+    private MappedByteBuffer createSegment(final int number) throws IOException
+    {
+        final Path path = getSegmentPath(number);
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            header.putInt(MAGIC).putInt(VERSION).putInt(recordSize).putInt(recordsPerSegment)
+                    .putInt(bowlingGame.getNumberOfFrames()).putInt(bowlingGame.getNumberOfPins())
+                    .putInt(bowlingGame.getStrikeBonusRolls()).putInt(bowlingGame.getSpareBonusRolls());
+            header.force();
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory();
+        return mapSegment(path);
+    }
+
+    /**
+     * Forces the rename of a new segment file to the disk, where the platform can open a directory.
+     */
+    private void forceDirectory()
+    {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ))
+        {
+            channel.force(true);
+        }
+        catch (final IOException e)
+        {
+            // Not every platform can open a directory; the rename is still atomic there.
+        }
+    }
+
+    /**
+     * Maps the segment file and checks its header against the configuration of the archive.
+     * @param path The path of the segment file.
+     * @return The non-null mapped segment.
+     * @throws IOException If the segment file cannot be mapped or is of another configuration.
+     */
+    @NonNull
+    private MappedByteBuffer mapSegment(@NonNull final Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            if (channel.size() != segmentSize)
+            {
+                throw new IOException(String.format("%s is not a segment of this archive.", path));
+            }
+            final MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            final int[] expectedHeader = {MAGIC, VERSION, recordSize, recordsPerSegment, bowlingGame.getNumberOfFrames(),
+                    bowlingGame.getNumberOfPins(), bowlingGame.getStrikeBonusRolls(), bowlingGame.getSpareBonusRolls()};
+            for (int i = 0; i < expectedHeader.length; i++)
+            {
+                if (segment.getInt(i * Integer.BYTES) != expectedHeader[i])
+                {
+                    throw new IOException(String.format("%s is not a segment of this archive.", path));
+                }
+            }
+            return segment;
+        }
+    }
+
+    /**
+     * A record is valid if its checksum matches and its first frame is not empty. The first frame of a valid game is
+     * never packed as zero, because only the {@link FrameType#BONUS} frame has the zero ordinal, so a cleared record is
+     * never taken for a game whatever its checksum.
+     * @param segment The mapped segment.
+     * @param offset The offset of the record.
+     * @return True if the record holds a game, false otherwise.
+     */
+    private boolean isValidRecord(@NonNull final MappedByteBuffer segment, final int offset)
+    {
+        return segment.getShort(offset + FRAMES_OFFSET) != 0 && segment.getInt(offset + recordSize - Integer.BYTES) == computeChecksum(segment, offset);
+    }
+
+    /**
+     * @param segment The mapped segment.
+     * @param offset The offset of the record.
+     * @return The CRC32C checksum of the record, without its checksum.
+     */
+    private int computeChecksum(@NonNull final MappedByteBuffer segment, final int offset)
+    {
+        final ByteBuffer record = segment.duplicate();
+        record.limit(offset + recordSize - Integer.BYTES).position(offset);
+        checksum.reset();
+        checksum.update(record);
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Clears the records of the segment from the given slot on.
+     * @param segment The mapped segment.
+     * @param slot The first slot to clear.
+     * @return True if any byte was cleared, false if the records were already clear.
+     */
+    private boolean clearRecords(@NonNull final MappedByteBuffer segment, final int slot)
+    {
+        boolean cleared = false;
+        for (int offset = HEADER_SIZE + slot * recordSize; offset < segmentSize; offset++)
+        {
+            if (segment.get(offset) != 0)
+            {
+                segment.put(offset, (byte) 0);
+                cleared = true;
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Adds the next game to the indexes.
+     * @param key The key of the game.
+     * @param score The score of the game.
+     */
+    private void index(final long key, final int score)
+    {
+        final int id = size;
+        if (id == keys.length)
+        {
+            keys = Arrays.copyOf(keys, 2 * id);
+            idsByKey = Arrays.copyOf(idsByKey, 2 * id);
+        }
+        keys[id] = key;
+        if (sortedByKey == id && (id == 0 || key >= keys[idsByKey[id - 1]]))
+        {
+            idsByKey[sortedByKey++] = id;
+        }
+
+        if (idsByScore[score] == null)
+        {
+            idsByScore[score] = new int[4];
+        }
+        else if (scoreCounts[score] == idsByScore[score].length)
+        {
+            idsByScore[score] = Arrays.copyOf(idsByScore[score], 2 * scoreCounts[score]);
+        }
+        idsByScore[score][scoreCounts[score]++] = id;
+    }
+
+    /**
+     * Sorts the games appended since the key order was last extended, by key and then id, and merges them into the key
+     * order.
+     */
+    private void sortKeyIndex()
+    {
+        if (sortedByKey == size)
+        {
+            return;
+        }
+        final int[] appended = new int[size - sortedByKey];
+        for (int i = 0; i < appended.length; i++)
+        {
+            appended[i] = sortedByKey + i;
+        }
+        sortByKey(appended, new int[appended.length], 0, appended.length);
+
+        final int[] merged = new int[keys.length];
+        int sorted = 0;
+        int next = 0;
+        for (int i = 0; i < size; i++)
+        {
+            // On equal keys the sorted games come first, because their ids are lower.
+            if (next == appended.length || (sorted < sortedByKey && keys[idsByKey[sorted]] <= keys[appended[next]]))
+            {
+                merged[i] = idsByKey[sorted++];
+            }
+            else
+            {
+                merged[i] = appended[next++];
+            }
+        }
+        idsByKey = merged;
+        sortedByKey = size;
+    }
+
+    /**
+     * Sorts part of the ids by key with a stable merge sort, so that ids in ascending order stay in that order for
+     * equal keys.
+     * @param ids The ids.
+     * @param buffer The buffer to merge through, as long as ids.
+     * @param from The first index to sort, inclusive.
+     * @param to The last index to sort, exclusive.
+     */
+    private void sortByKey(@NonNull final int[] ids, @NonNull final int[] buffer, final int from, final int to)
+    {
+        if (to - from < 2)
+        {
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        sortByKey(ids, buffer, from, middle);
+        sortByKey(ids, buffer, middle, to);
+        if (keys[ids[middle - 1]] <= keys[ids[middle]])
+        {
+            return;
+        }
+        System.arraycopy(ids, from, buffer, from, to - from);
+        for (int i = from, left = from, right = middle; i < to; i++)
+        {
+            if (right == to || (left < middle && keys[buffer[left]] <= keys[buffer[right]]))
+            {
+                ids[i] = buffer[left++];
+            }
+            else
+            {
+                ids[i] = buffer[right++];
+            }
+        }
+    }
+
+    /**
+     * @param key The key.
+     * @param inclusive Whether to skip the games with the key too.
+     * @return The index in the key order of the first game with a key greater than, or greater than or equal to, the
+     * key.
+     */
+    private int findFirstKey(final long key, final boolean inclusive)
+    {
+        int low = 0;
+        int high = size;
+        while (low < high)
+        {
+            final int middle = (low + high) >>> 1;
+            final long middleKey = keys[idsByKey[middle]];
+            if (middleKey < key || (inclusive && middleKey == key))
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param id The id of a game.
+     * @return The score of the game, read from its segment file.
+     */
+    private int readScore(final int id)
+    {
+        return segments.get(id / recordsPerSegment).getInt(getRecordOffset(id) + SCORE_OFFSET);
+    }
+
+    /**
+     * @param id The id of a game.
+     * @return The offset of the record of the game in its segment file.
+     */
+    private int getRecordOffset(final int id)
+    {
+        return HEADER_SIZE + (id % recordsPerSegment) * recordSize;
+    }
+
+    /**
+     * @param id The id of a game.
+     * @throws IllegalArgumentException If there is no game with the id.
+     * @throws IllegalStateException If the archive is closed.
+     */
+    private void checkId(final int id)
+    {
+        Preconditions.checkState(!closed, "archive is closed.");
+        Preconditions.checkArgument(id >= 0 && id < size, "id must be between 0 and %s.", size - 1);
+    }
+}
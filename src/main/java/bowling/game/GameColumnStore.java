@@ -0,0 +1,273 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Holds games of one {@link BowlingGame} configuration in off-heap columns, one column per frame for the
+ * {@link FrameType} and for each roll value, plus a column of scores. Games are scored in bulk a block at a time with
+ * branch-free loops over primitive arrays that the JIT can auto-vectorise, and aggregates are computed over the score
+ * column without allocating per game. A {@link GameColumnStore} is not thread-safe.
+ */
+public class GameColumnStore
+{
+    private static final int BLOCK_SIZE = 1024;
+
+    private final int numberOfFrames;
+    private final int scoreBound;
+    private final int perfectScore;
+    private final int strikeFirstRollBonus;
+    private final int strikeSecondRollBonus;
+    private final int spareFirstRollBonus;
+    private final int spareSecondRollBonus;
+    private final int capacity;
+    private final ByteBuffer[] frameTypes;
+    private final ByteBuffer[] firstRolls;
+    private final ByteBuffer[] secondRolls;
+    private final IntBuffer scores;
+    private int size;
+
+    /**
+     * Constructor for {@link GameColumnStore}.
+     * @param bowlingGame The {@link BowlingGame} configuration of the stored games.
+     * @param capacity The maximum number of games.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, a valid game can score above
+     * {@link BowlingGame#MAX_INDEXED_SCORE}, or capacity is not positive or too large for an int column.
+     */
+    public GameColumnStore(@NonNull final BowlingGame bowlingGame, final int capacity)
+    {
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        Preconditions.checkArgument(capacity > 0 && capacity <= Integer.MAX_VALUE / Integer.BYTES, "capacity must be positive and fit an int column.");
+
+        this.numberOfFrames = bowlingGame.getNumberOfFrames();
+        this.scoreBound = bowlingGame.getIndexedScoreBound();
+        // Every frame of a game of all strikes is followed by strikes, whose bonus rolls knock down all the pins too.
+        this.perfectScore = numberOfFrames * bowlingGame.getNumberOfPins() * (1 + bowlingGame.getStrikeBonusRolls());
+        this.strikeFirstRollBonus = Math.min(bowlingGame.getStrikeBonusRolls(), 1);
+        this.strikeSecondRollBonus = Math.max(bowlingGame.getStrikeBonusRolls() - 1, 0);
+        this.spareFirstRollBonus = Math.min(bowlingGame.getSpareBonusRolls(), 1);
+        this.spareSecondRollBonus = Math.max(bowlingGame.getSpareBonusRolls() - 1, 0);
+        this.capacity = capacity;
+        this.frameTypes = allocateColumns(numberOfFrames + 1, capacity);
+        this.firstRolls = allocateColumns(numberOfFrames + 1, capacity);
+        this.secondRolls = allocateColumns(numberOfFrames + 1, capacity);
+        this.scores = ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    /**
+     * Adds a game packed by {@link PackedGames}. Its score is available after the next {@link #scoreAll()}.
+     * @param packedGame The packed game, including the {@link FrameType#BONUS} frame.
+     * @return The non-negative index of the game.
+     * @throws IllegalArgumentException If the game does not have the configured number of frames.
+     * @throws IllegalStateException If the store is full.
+     */
+    public int add(@NonNull final short[] packedGame)
+    {
+        Preconditions.checkArgument(packedGame.length == numberOfFrames + 1, "packedGame must have %s frames.", numberOfFrames + 1);
+        Preconditions.checkState(size < capacity, "store is full.");
+
+        for (int frame = 0; frame <= numberOfFrames; frame++)
+        {
+            final short packedFrame = packedGame[frame];
+            frameTypes[frame].put(size, (byte) PackedGames.getFrameType(packedFrame).ordinal());
+            firstRolls[frame].put(size, (byte) PackedGames.getFirstRollValue(packedFrame));
+            secondRolls[frame].put(size, (byte) PackedGames.getSecondRollValue(packedFrame));
+        }
+        return size++;
+    }
+
+    /**
+     * Scores every stored game into the score column, with the same multipliers as {@link BowlingGame#calculateScore}.
+     */
+    public void scoreAll()
+    {
+        final byte[] types = new byte[BLOCK_SIZE];
+        final byte[] firstRollValues = new byte[BLOCK_SIZE];
+        final byte[] secondRollValues = new byte[BLOCK_SIZE];
+        final int[] blockScores = new int[BLOCK_SIZE];
+        final int[] firstRollMultipliers = new int[BLOCK_SIZE];
+        final int[] secondRollMultipliers = new int[BLOCK_SIZE];
+
+        for (int from = 0; from < size; from += BLOCK_SIZE)
+        {
+            final int length = Math.min(BLOCK_SIZE, size - from);
+            Arrays.fill(blockScores, 0, length, 0);
+            Arrays.fill(firstRollMultipliers, 0, length, 1);
+            Arrays.fill(secondRollMultipliers, 0, length, 1);
+
+            for (int frame = 0; frame < numberOfFrames; frame++)
+            {
+                readBlock(frameTypes[frame], from, types, length);
+                readBlock(firstRolls[frame], from, firstRollValues, length);
+                readBlock(secondRolls[frame], from, secondRollValues, length);
+                scoreFrames(types, firstRollValues, secondRollValues, blockScores, firstRollMultipliers, secondRollMultipliers, length);
+            }
+
+            readBlock(firstRolls[numberOfFrames], from, firstRollValues, length);
+            readBlock(secondRolls[numberOfFrames], from, secondRollValues, length);
+            for (int i = 0; i < length; i++)
+            {
+                // For the bonus frame only the bonus is counted, not the base value.
+                blockScores[i] += firstRollValues[i] * (firstRollMultipliers[i] - 1) + secondRollValues[i] * (secondRollMultipliers[i] - 1);
+            }
+            scores.duplicate().position(from).put(blockScores, 0, length);
+        }
+    }
+
+    /**
+     * Scores one frame of a block of games and advances their multipliers. The loop is kept free of branches so that
+     * it can be auto-vectorised, and relies on the {@link FrameType} ordinals of SPARE being 2 and STRIKE being 3.
+     * @param types The {@link FrameType} ordinals of the frame.
+     * @param firstRollValues The first roll values of the frame.
+     * @param secondRollValues The second roll values of the frame.
+     * @param blockScores The scores of the games.
+     * @param firstRollMultipliers The first roll multipliers of the games.
+     * @param secondRollMultipliers The second roll multipliers of the games.
+     * @param length The number of games in the block.
+     */
+    private void scoreFrames(@NonNull final byte[] types, @NonNull final byte[] firstRollValues, @NonNull final byte[] secondRollValues,
+                             @NonNull final int[] blockScores, @NonNull final int[] firstRollMultipliers,
+                             @NonNull final int[] secondRollMultipliers, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            final int type = types[i];
+            final int strike = (type >> 1) & type & 1;
+            final int spare = (type >> 1) & ~type & 1;
+            final int secondRollMultiplier = secondRollMultipliers[i];
+            blockScores[i] += firstRollValues[i] * firstRollMultipliers[i] + secondRollValues[i] * secondRollMultiplier;
+            firstRollMultipliers[i] = 1 + spare * spareFirstRollBonus + strike * (secondRollMultiplier - 1 + strikeFirstRollBonus);
+            secondRollMultipliers[i] = 1 + spare * spareSecondRollBonus + strike * strikeSecondRollBonus;
+        }
+    }
+
+    /**
+     * @param index The index of the game.
+     * @return The score of the game as of the last {@link #scoreAll()}.
+     * @throws IllegalArgumentException If index is negative or not less than {@link #size()}.
+     */
+    public int getScore(final int index)
+    {
+        Preconditions.checkArgument(index >= 0 && index < size, "index must be between 0 and %s.", size - 1);
+        return scores.get(index);
+    }
+
+    /**
+     * @return The number of stored games.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return The mean score of the stored games, or 0 if there are none.
+     */
+    public double meanScore()
+    {
+        long total = 0;
+        for (int i = 0; i < size; i++)
+        {
+            total += scores.get(i);
+        }
+        return size == 0 ? 0 : (double) total / size;
+    }
+
+    /**
+     * Counts the stored games per score bucket.
+     * @param bucketWidth The number of scores per bucket.
+     * @return The non-null counts, where bucket {@code b} counts the scores from {@code b * bucketWidth} inclusive to
+     * {@code (b + 1) * bucketWidth} exclusive, up to the bucket of the highest score the rules allow.
+     * @throws IllegalArgumentException If bucketWidth is not positive.
+     */
+    @NonNull
+    public long[] histogram(final int bucketWidth)
+    {
+        Preconditions.checkArgument(bucketWidth > 0, "bucketWidth must be positive.");
+        final long[] counts = new long[scoreBound / bucketWidth + 1];
+        for (int i = 0; i < size; i++)
+        {
+            counts[scores.get(i) / bucketWidth]++;
+        }
+        return counts;
+    }
+
+    /**
+     * @param score The score.
+     * @return The number of stored games with the given score.
+     */
+    public long countScore(final int score)
+    {
+        long count = 0;
+        for (int i = 0; i < size; i++)
+        {
+            count += scores.get(i) == score ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Counts the perfect games, which are the games of all strikes, with every bonus roll a strike too. This is not
+     * always the highest score: when a spare earns more bonus rolls than a strike, spares can score higher.
+     * @return The number of stored games of all strikes, as of the last {@link #scoreAll()}.
+     */
+    public long countPerfectGames()
+    {
+        // A game of all strikes scores the perfect score only if its bonus rolls knock down all the pins.
+        long count = 0;
+        for (int i = 0; i < size; i++)
+        {
+            count += scores.get(i) == perfectScore && isAllStrikes(i) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * @param index The index of the game.
+     * @return True if every frame of the game is a {@link FrameType#STRIKE}, false otherwise.
+     */
+    private boolean isAllStrikes(final int index)
+    {
+        for (int frame = 0; frame < numberOfFrames; frame++)
+        {
+            if (frameTypes[frame].get(index) != FrameType.STRIKE.ordinal())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies a block of a byte column into an array.
+     * @param column The column.
+     * @param from The index of the first game.
+     * @param destination The array.
+     * @param length The number of games.
+     */
+    private static void readBlock(@NonNull final ByteBuffer column, final int from, @NonNull final byte[] destination, final int length)
+    {
+        column.duplicate().position(from).get(destination, 0, length);
+    }
+
+    /**
+     * @param count The number of columns.
+     * @param capacity The number of bytes per column.
+     * @return The non-null direct byte columns.
+     */
+    @NonNull
+    private static ByteBuffer[] allocateColumns(final int count, final int capacity)
+    {
+        final ByteBuffer[] columns = new ByteBuffer[count];
+        for (int i = 0; i < count; i++)
+        {
+            columns[i] = ByteBuffer.allocateDirect(capacity);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,47 @@
+package bowling.game;
+
+/**
+ * Represents the reason a game is invalid.
+ */
+public enum GameError
+{
+    /**
+     * The game is null, empty, or blank.
+     */
+    BLANK_GAME,
+
+    /**
+     * The game has no {@code ||} separator before the bonus frame.
+     */
+    MISSING_BONUS_FRAME,
+
+    /**
+     * The game has too few or too many frames.
+     */
+    WRONG_NUMBER_OF_FRAMES,
+
+    /**
+     * The bonus frame does not have the number of rolls earned by the last frame.
+     */
+    INVALID_BONUS_FRAME,
+
+    /**
+     * A frame is neither a strike nor two rolls.
+     */
+    INVALID_FRAME,
+
+    /**
+     * A roll is neither a symbol nor a digit.
+     */
+    INVALID_ROLL,
+
+    /**
+     * The rolls of a frame knock down more pins than there are.
+     */
+    TOO_MANY_PINS,
+
+    /**
+     * The first roll of a spare knocks down more pins than there are.
+     */
+    INVALID_SPARE
+}
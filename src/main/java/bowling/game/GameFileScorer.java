@@ -0,0 +1,375 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scores files holding one game per line. The input is memory-mapped in segments and each line is scored straight from
+ * the mapped bytes, and the scores are written as ASCII decimal lines without going through {@link String}s. Lines may
+ * end with {@code \n} or {@code \r\n}, and invalid games are written as {@link BowlingGame#INVALID_SCORE}.
+ */
+public class GameFileScorer
+{
+    /**
+     * The default number of bytes mapped at once.
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_SCORE_LENGTH = 12;
+
+    private final BowlingGame bowlingGame;
+    private final long segmentSize;
+
+    /**
+     * Constructor for {@link GameFileScorer} mapping {@link #DEFAULT_SEGMENT_SIZE} bytes at once.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}.
+     */
+    public GameFileScorer(@NonNull final BowlingGame bowlingGame)
+    {
+        this(bowlingGame, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor for {@link GameFileScorer}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param segmentSize The number of bytes mapped at once, which must hold at least one whole line.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, or segmentSize is not positive or exceeds
+     * {@link Integer#MAX_VALUE}.
+     */
+    public GameFileScorer(@NonNull final BowlingGame bowlingGame, final long segmentSize)
+    {
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        Preconditions.checkArgument(segmentSize > 0 && segmentSize <= Integer.MAX_VALUE, "segmentSize must be positive and at most Integer.MAX_VALUE.");
+
+        this.bowlingGame = bowlingGame;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Scores every game of the input file and writes one score per line to the output file.
+     * @param input The input file.
+     * @param output The output file, created or truncated.
+     * @return The number of games scored.
+     * @throws IOException If the files cannot be read or written.
+     */
+    public long scoreFile(@NonNull final Path input, @NonNull final Path output) throws IOException
+    {
+        return scoreFile(input, output, 1);
+    }
+
+    /**
+     * Scores every game of the input file and writes one score per line to the output file. The input is split at line
+     * boundaries into one range per worker, and the scores of the ranges are written in the order of the input.
+     * @param input The input file.
+     * @param output The output file, created or truncated.
+     * @param workers The number of worker threads.
+     * @return The number of games scored.
+     * @throws IOException If the files cannot be read or written.
+     * @throws IllegalArgumentException If workers is not positive.
+     */
+    public long scoreFile(@NonNull final Path input, @NonNull final Path output, final int workers) throws IOException
+    {
+        Preconditions.checkArgument(workers > 0, "workers must be positive.");
+
+        try (FileChannel inputChannel = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel outputChannel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            final long[] boundaries = findLineBoundaries(inputChannel, workers);
+            if (boundaries.length == 2)
+            {
+                return scoreRange(inputChannel, boundaries[0], boundaries[1], outputChannel);
+            }
+            return scoreRanges(inputChannel, boundaries, output.toAbsolutePath().getParent(), outputChannel);
+        }
+    }
+
+    /**
+     * Scores every game in the given range of the input and writes one score per line to the output.
+     * @param input The input {@link FileChannel}.
+     * @param start The offset of the first byte of the range, which must start a line.
+     * @param end The offset after the last byte of the range, which must end a line or the file.
+     * @param output The {@link WritableByteChannel} the scores are written to.
+     * @return The number of games scored.
+     * @throws IOException If the input cannot be mapped or the output cannot be written.
+     * @throws IllegalStateException If a line is longer than the segment size.
+     */
+    public long scoreRange(@NonNull final FileChannel input, final long start, final long end, @NonNull final WritableByteChannel output) throws IOException
+    {
+        final AsciiByteSequence line = new AsciiByteSequence();
+        final ByteBuffer scores = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+        long games = 0;
+        long position = start;
+
+        while (position < end)
+        {
+            final int mappedSize = (int) Math.min(segmentSize, end - position);
+            final boolean lastSegment = position + mappedSize == end;
+            final MappedByteBuffer segment = input.map(FileChannel.MapMode.READ_ONLY, position, mappedSize);
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+            int lineStart = 0;
+            int lineEnd = FrameScanner.findLineEnding(null, segment, lineStart, mappedSize);
+            while (lineEnd < mappedSize)
+            {
+                writeScore(scoreLine(line, segment, lineStart, lineEnd), scores, output);
+                games++;
+                lineStart = lineEnd + 1;
+                lineEnd = FrameScanner.findLineEnding(null, segment, lineStart, mappedSize);
+            }
+            if (lastSegment && lineStart < mappedSize)
+            {
+                writeScore(scoreLine(line, segment, lineStart, mappedSize), scores, output);
+                games++;
+                lineStart = mappedSize;
+            }
+            if (lineStart == 0)
+            {
+                throw new IllegalStateException(String.format("Line at offset %d is longer than the segment size of %d bytes.", position, segmentSize));
+            }
+            position += lineStart;
+        }
+        flush(scores, output);
+        return games;
+    }
+
+    /**
+     * Splits the channel into at most the given number of ranges that start and end at line boundaries.
+     * @param channel The {@link FileChannel}.
+     * @param parts The requested number of ranges.
+     * @return The non-null ascending offsets of the ranges, starting with 0 and ending with the size of the channel.
+     * @throws IOException If the channel cannot be read.
+     */
+    @NonNull
+    static long[] findLineBoundaries(@NonNull final FileChannel channel, final int parts) throws IOException
+    {
+        final long size = channel.size();
+        final ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        final long[] boundaries = new long[parts + 1];
+        int count = 1;
+        for (int part = 1; part < parts; part++)
+        {
+            final long boundary = findNextLineStart(channel, Math.max(size / parts * part, boundaries[count - 1]), scanBuffer);
+            if (boundary > boundaries[count - 1] && boundary < size)
+            {
+                boundaries[count++] = boundary;
+            }
+        }
+        boundaries[count++] = size;
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * Finds the start of the first line at or after the given offset.
+     * @param channel The {@link FileChannel}.
+     * @param offset The offset.
+     * @param scanBuffer The buffer to read through.
+     * @return The offset after the first {@code \n} at or after offset - 1, or the size of the channel if there is none.
+     * @throws IOException If the channel cannot be read.
+     */
+    private static long findNextLineStart(@NonNull final FileChannel channel, final long offset, @NonNull final ByteBuffer scanBuffer) throws IOException
+    {
+        if (offset == 0)
+        {
+            return 0;
+        }
+        long position = offset - 1;
+        while (true)
+        {
+            scanBuffer.clear();
+            final int read = channel.read(scanBuffer, position);
+            if (read <= 0)
+            {
+                return channel.size();
+            }
+            final int lineEnding = FrameScanner.findLineEnding(scanBuffer.array(), null, 0, read);
+            if (lineEnding < read)
+            {
+                return position + lineEnding + 1;
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Scores each range into a temporary file on its own worker, then appends the temporary files to the output in
+     * order.
+     * @param input The input {@link FileChannel}.
+     * @param boundaries The offsets of the ranges.
+     * @param directory The directory of the temporary files.
+     * @param output The output {@link FileChannel}.
+     * @return The number of games scored.
+     * @throws IOException If a range cannot be scored or written.
+     */
+    private long scoreRanges(@NonNull final FileChannel input, @NonNull final long[] boundaries, @NonNull final Path directory,
+                             @NonNull final FileChannel output) throws IOException
+    {
+        final int ranges = boundaries.length - 1;
+        final ExecutorService executor = Executors.newFixedThreadPool(ranges);
+        final List<Path> partFiles = new ArrayList<>(ranges);
+        try
+        {
+            final List<Future<Long>> futures = new ArrayList<>(ranges);
+            for (int range = 0; range < ranges; range++)
+            {
+                final Path partFile = Files.createTempFile(directory, "scores-", ".part");
+                partFiles.add(partFile);
+                final long start = boundaries[range];
+                final long end = boundaries[range + 1];
+                futures.add(executor.submit(() ->
+                {
+                    try (FileChannel partChannel = FileChannel.open(partFile, StandardOpenOption.WRITE))
+                    {
+                        return scoreRange(input, start, end, partChannel);
+                    }
+                }));
+            }
+
+            long games = 0;
+            for (int range = 0; range < ranges; range++)
+            {
+                games += await(futures.get(range));
+                try (FileChannel partChannel = FileChannel.open(partFiles.get(range), StandardOpenOption.READ))
+                {
+                    final long size = partChannel.size();
+                    long position = 0;
+                    while (position < size)
+                    {
+                        position += partChannel.transferTo(position, size - position, output);
+                    }
+                }
+            }
+            return games;
+        }
+        finally
+        {
+            executor.shutdownNow();
+            for (final Path partFile : partFiles)
+            {
+                Files.deleteIfExists(partFile);
+            }
+        }
+    }
+
+    /**
+     * Waits for the number of games scored by a worker.
+     * @param future The {@link Future} of the worker.
+     * @return The number of games scored.
+     * @throws IOException If the worker failed with an {@link IOException} or the wait was interrupted.
+     */
+    private static long await(@NonNull final Future<Long> future) throws IOException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while scoring.");
+        }
+        catch (final ExecutionException e)
+        {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Scores the line between the given offsets of the segment, ignoring a trailing {@code \r}. The line is scanned in
+     * place a word at a time, and only wrapped in the view when the scan leaves it to the character scorer.
+     * @param line The reusable {@link AsciiByteSequence}.
+     * @param segment The mapped segment.
+     * @param from The offset of the first byte of the line.
+     * @param to The offset of the {@code \n} ending the line, or the end of the segment.
+     * @return The score of the game, or {@link BowlingGame#INVALID_SCORE} if the game is invalid.
+     */
+    private int scoreLine(@NonNull final AsciiByteSequence line, @NonNull final ByteBuffer segment, final int from, final int to)
+    {
+        final int end = to > from && segment.get(to - 1) == '\r' ? to - 1 : to;
+        final long outcome = bowlingGame.evaluateSinglePass(segment, from, end - from, line);
+        return ScoreResult.isError(outcome) ? BowlingGame.INVALID_SCORE : (int) outcome;
+    }
+
+    /**
+     * Appends the score as an ASCII decimal line, flushing the buffer to the channel when it is full.
+     * @param score The score.
+     * @param scores The buffer of scores.
+     * @param output The {@link WritableByteChannel}.
+     * @throws IOException If the channel cannot be written.
+     */
+    private static void writeScore(final int score, @NonNull final ByteBuffer scores, @NonNull final WritableByteChannel output) throws IOException
+    {
+        if (scores.remaining() < MAX_SCORE_LENGTH)
+        {
+            flush(scores, output);
+        }
+        long value = score;
+        if (value < 0)
+        {
+            scores.put((byte) '-');
+            value = -value;
+        }
+        final int start = scores.position();
+        do
+        {
+            scores.put((byte) ('0' + value % 10));
+            value /= 10;
+        }
+        while (value > 0);
+        for (int left = start, right = scores.position() - 1; left < right; left++, right--)
+        {
+            final byte digit = scores.get(left);
+            scores.put(left, scores.get(right));
+            scores.put(right, digit);
+        }
+        scores.put((byte) '\n');
+    }
+
+    /**
+     * Writes the buffered scores to the channel.
+     * @param scores The buffer of scores.
+     * @param output The {@link WritableByteChannel}.
+     * @throws IOException If the channel cannot be written.
+     */
+    private static void flush(@NonNull final ByteBuffer scores, @NonNull final WritableByteChannel output) throws IOException
+    {
+        scores.flip();
+        while (scores.hasRemaining())
+        {
+            output.write(scores);
+        }
+        scores.clear();
+    }
+}
@@ -0,0 +1,526 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Scores a game incrementally, one roll at a time, with the same multipliers as {@link BowlingGame#calculateScore}.
+ * Every roll is validated and scored in constant time. A {@link GameSession} is not thread-safe.
+ * <p>
+ * The range of final scores still achievable and the rolls needed to reach a target are answered analytically from the
+ * current multipliers. The multipliers of the next two rolls are all that the remaining frames depend on, and there
+ * are only a few of them: the first roll multiplier is at most three and the second at most two. So the most the
+ * remaining frames can add is tabulated for every pair of multipliers, from the last frame back to the current one, in
+ * time proportional to the number of remaining frames.
+ * <p>
+ * The whole state of a session, which is the running score, the frame scores, the position in the game and the
+ * multipliers and frames that the next two rolls pay bonuses to, fits in a record of a fixed size per configuration,
+ * so a session is saved and resumed exactly without the rolls that led to it, as {@link SessionTable} does.
+ */
+public class GameSession
+{
+    private static final int NO_FRAME = -1;
+    private static final int MAX_BONUS_ROLLS = 2;
+    private static final int FIRST_ROLL_MULTIPLIERS = 3;
+    private static final int SECOND_ROLL_MULTIPLIERS = 2;
+    private static final int MULTIPLIER_STATES = FIRST_ROLL_MULTIPLIERS * SECOND_ROLL_MULTIPLIERS;
+    private static final int STATE_HEADER_SIZE = 6 * Integer.BYTES + 4;
+
+    private final int numberOfFrames;
+    private final int numberOfPins;
+    private final int strikeBonusRolls;
+    private final int spareBonusRolls;
+    private final int[] frameScores;
+
+    private int score;
+    private int frameIndex;
+    private int rollInFrame;
+    private int standingPins;
+    private int remainingBonusRolls;
+    private int firstRollMultiplier = 1;
+    private int secondRollMultiplier = 1;
+    private int firstRollBonusFrame = NO_FRAME;
+    private int firstRollSecondBonusFrame = NO_FRAME;
+    private int secondRollBonusFrame = NO_FRAME;
+
+    /**
+     * Constructor for {@link GameSession}. Use {@link BowlingGame#newSession()} to create one.
+     * @param numberOfFrames The number of frames.
+     * @param numberOfPins The number of pins.
+     * @param strikeBonusRolls The number of bonus rolls earned by a strike, at most two.
+     * @param spareBonusRolls The number of bonus rolls earned by a spare, at most two.
+     */
+    GameSession(final int numberOfFrames, final int numberOfPins, final int strikeBonusRolls, final int spareBonusRolls)
+    {
+        this.numberOfFrames = numberOfFrames;
+        this.numberOfPins = numberOfPins;
+        this.strikeBonusRolls = strikeBonusRolls;
+        this.spareBonusRolls = spareBonusRolls;
+        this.frameScores = new int[numberOfFrames];
+        this.standingPins = numberOfPins;
+    }
+
+    /**
+     * Records a roll.
+     * @param pinsKnockedDown The number of pins knocked down by the roll.
+     * @throws IllegalArgumentException If pinsKnockedDown is negative or exceeds the number of standing pins.
+     * @throws IllegalStateException If the game is already complete.
+     */
+    public void roll(final int pinsKnockedDown)
+    {
+        Preconditions.checkState(!isComplete(), "game is already complete.");
+        Preconditions.checkArgument(pinsKnockedDown >= 0, "pinsKnockedDown must be non-negative.");
+        if (pinsKnockedDown > standingPins)
+        {
+            throw new IllegalArgumentException(String.format("Number of pins exceeds the %d standing pins.", standingPins));
+        }
+
+        final boolean bonusRoll = frameIndex == numberOfFrames;
+        // Bonus rolls only add their multiplied bonus, the base value is not counted.
+        score += pinsKnockedDown * (bonusRoll ? firstRollMultiplier - 1 : firstRollMultiplier);
+        if (firstRollBonusFrame != NO_FRAME)
+        {
+            frameScores[firstRollBonusFrame] += pinsKnockedDown;
+        }
+        if (firstRollSecondBonusFrame != NO_FRAME)
+        {
+            frameScores[firstRollSecondBonusFrame] += pinsKnockedDown;
+        }
+        firstRollMultiplier = secondRollMultiplier;
+        secondRollMultiplier = 1;
+        firstRollBonusFrame = secondRollBonusFrame;
+        firstRollSecondBonusFrame = NO_FRAME;
+        secondRollBonusFrame = NO_FRAME;
+        standingPins -= pinsKnockedDown;
+
+        if (bonusRoll)
+        {
+            remainingBonusRolls--;
+            if (standingPins == 0)
+            {
+                standingPins = numberOfPins;
+            }
+            return;
+        }
+
+        frameScores[frameIndex] += pinsKnockedDown;
+        if (standingPins == 0 && rollInFrame == 0)
+        {
+            awardBonusRolls(strikeBonusRolls);
+            completeFrame(strikeBonusRolls);
+        }
+        else if (standingPins == 0)
+        {
+            awardBonusRolls(spareBonusRolls);
+            completeFrame(spareBonusRolls);
+        }
+        else if (rollInFrame == 1)
+        {
+            completeFrame(FrameType.PINS.getNumberOfBonusRolls());
+        }
+        else
+        {
+            rollInFrame = 1;
+        }
+    }
+
+    /**
+     * Counts the next rolls towards the current frame as its bonus.
+     * @param bonusRolls The number of bonus rolls earned by the current frame, at most two.
+     */
+    private void awardBonusRolls(final int bonusRolls)
+    {
+        if (bonusRolls > 0)
+        {
+            firstRollMultiplier++;
+            firstRollSecondBonusFrame = frameIndex;
+        }
+        if (bonusRolls > 1)
+        {
+            secondRollMultiplier++;
+            secondRollBonusFrame = frameIndex;
+        }
+    }
+
+    /**
+     * Moves on to the next frame, or to the bonus rolls after the last frame.
+     * @param bonusRolls The number of bonus rolls earned by the completed frame.
+     */
+    private void completeFrame(final int bonusRolls)
+    {
+        frameIndex++;
+        rollInFrame = 0;
+        standingPins = numberOfPins;
+        if (frameIndex == numberOfFrames)
+        {
+            remainingBonusRolls = bonusRolls;
+        }
+    }
+
+    /**
+     * @param bowlingGame The {@link BowlingGame}.
+     * @return True if the session scores by the configuration of the game, false otherwise.
+     */
+    boolean isSessionOf(@NonNull final BowlingGame bowlingGame)
+    {
+        return numberOfFrames == bowlingGame.getNumberOfFrames() && numberOfPins == bowlingGame.getNumberOfPins()
+                && strikeBonusRolls == bowlingGame.getStrikeBonusRolls() && spareBonusRolls == bowlingGame.getSpareBonusRolls();
+    }
+
+    /**
+     * @param numberOfFrames The number of frames.
+     * @return The number of bytes written by {@link #writeState} for a session of that many frames.
+     */
+    static int getStateSize(final int numberOfFrames)
+    {
+        return STATE_HEADER_SIZE + numberOfFrames * Integer.BYTES;
+    }
+
+    /**
+     * Writes the state of the session, in {@link #getStateSize} bytes. The multipliers and the roll in the frame fit
+     * in a byte each.
+     * @param buffer The buffer to write to.
+     * @param offset The absolute offset to write at.
+     */
+    void writeState(@NonNull final ByteBuffer buffer, final int offset)
+    {
+        buffer.putInt(offset, score)
+                .putInt(offset + Integer.BYTES, frameIndex)
+                .putInt(offset + 2 * Integer.BYTES, standingPins)
+                .putInt(offset + 3 * Integer.BYTES, firstRollBonusFrame)
+                .putInt(offset + 4 * Integer.BYTES, firstRollSecondBonusFrame)
+                .putInt(offset + 5 * Integer.BYTES, secondRollBonusFrame)
+                .put(offset + 6 * Integer.BYTES, (byte) rollInFrame)
+                .put(offset + 6 * Integer.BYTES + 1, (byte) remainingBonusRolls)
+                .put(offset + 6 * Integer.BYTES + 2, (byte) firstRollMultiplier)
+                .put(offset + 6 * Integer.BYTES + 3, (byte) secondRollMultiplier);
+        for (int frame = 0; frame < numberOfFrames; frame++)
+        {
+            buffer.putInt(offset + STATE_HEADER_SIZE + frame * Integer.BYTES, frameScores[frame]);
+        }
+    }
+
+    /**
+     * Replaces the state of the session with a state written by {@link #writeState} for the same configuration, so
+     * the session continues as the session that wrote it.
+     * @param buffer The buffer to read from.
+     * @param offset The absolute offset to read at.
+     */
+    void readState(@NonNull final ByteBuffer buffer, final int offset)
+    {
+        score = buffer.getInt(offset);
+        frameIndex = buffer.getInt(offset + Integer.BYTES);
+        standingPins = buffer.getInt(offset + 2 * Integer.BYTES);
+        firstRollBonusFrame = buffer.getInt(offset + 3 * Integer.BYTES);
+        firstRollSecondBonusFrame = buffer.getInt(offset + 4 * Integer.BYTES);
+        secondRollBonusFrame = buffer.getInt(offset + 5 * Integer.BYTES);
+        rollInFrame = buffer.get(offset + 6 * Integer.BYTES);
+        remainingBonusRolls = buffer.get(offset + 6 * Integer.BYTES + 1);
+        firstRollMultiplier = buffer.get(offset + 6 * Integer.BYTES + 2);
+        secondRollMultiplier = buffer.get(offset + 6 * Integer.BYTES + 3);
+        for (int frame = 0; frame < numberOfFrames; frame++)
+        {
+            frameScores[frame] = buffer.getInt(offset + STATE_HEADER_SIZE + frame * Integer.BYTES);
+        }
+    }
+
+    /**
+     * @return The lowest final score still achievable, which is the score so far, as every remaining roll may miss.
+     */
+    public int getMinimumScore()
+    {
+        return score;
+    }
+
+    /**
+     * @return The highest final score still achievable.
+     */
+    public int getMaximumScore()
+    {
+        if (isComplete())
+        {
+            return score;
+        }
+        return score + getMaximumRemainingScore(createRemainingScoreTable());
+    }
+
+    /**
+     * Finds the least pins to knock down on each remaining roll, in order, so that the game ends with at least the
+     * target score. Each roll is the fewest pins that still leave the target reachable, given the rolls before it, so
+     * rolling them completes the game. This is the lexicographically smallest completion that reaches the target.
+     * @param targetScore The final score to reach.
+     * @return The pins to knock down on each remaining roll, all zero if the target has already been reached, or
+     * {@code null} if the target is higher than {@link #getMaximumScore()}.
+     */
+    @CheckForNull
+    public int[] getRollsToReach(final int targetScore)
+    {
+        final int[] remainingScores = isComplete() ? null : createRemainingScoreTable();
+        if (targetScore > score + (remainingScores == null ? 0 : getMaximumRemainingScore(remainingScores)))
+        {
+            return null;
+        }
+
+        // Replays the rolls on copies of the state, choosing the least pins whose best continuation reaches the target.
+        final int[] rolls = new int[2 * (numberOfFrames - frameIndex) + MAX_BONUS_ROLLS];
+        int rollCount = 0;
+        long needed = (long) targetScore - score;
+        int frame = frameIndex;
+        int roll = rollInFrame;
+        int standing = standingPins;
+        int bonusRolls = remainingBonusRolls;
+        int first = firstRollMultiplier;
+        int second = secondRollMultiplier;
+        while (frame < numberOfFrames || bonusRolls > 0)
+        {
+            final int pins;
+            if (frame == numberOfFrames)
+            {
+                // The first of two bonus rolls clears all pins when it knocks them all down.
+                final int secondBonusValue = bonusRolls == 2 ? (second - 1) : 0;
+                pins = findLeastPins(needed, (long) standing * secondBonusValue, first - 1 - secondBonusValue, standing,
+                        (long) standing * (first - 1) + (long) numberOfPins * secondBonusValue);
+                needed -= (long) pins * (first - 1);
+                standing = pins == standing ? numberOfPins : standing - pins;
+                first = second;
+                second = 1;
+                bonusRolls--;
+            }
+            else if (roll == 0)
+            {
+                final int spareValue = getNextRemainingScore(remainingScores, frame, spareBonusRolls,
+                        getSpareFirstRollMultiplier(), getSpareSecondRollMultiplier());
+                final int strikeValue = getNextRemainingScore(remainingScores, frame, strikeBonusRolls,
+                        getStrikeFirstRollMultiplier(second), getStrikeSecondRollMultiplier());
+                pins = findLeastPins(needed, (long) numberOfPins * second + spareValue, first - second, numberOfPins,
+                        (long) numberOfPins * first + strikeValue);
+                needed -= (long) pins * first;
+                if (pins == numberOfPins)
+                {
+                    first = getStrikeFirstRollMultiplier(second);
+                    second = getStrikeSecondRollMultiplier();
+                    bonusRolls = completeRemainingFrame(++frame, strikeBonusRolls);
+                }
+                else
+                {
+                    first = second;
+                    second = 1;
+                    standing = numberOfPins - pins;
+                    roll = 1;
+                }
+            }
+            else
+            {
+                final int openValue = getNextRemainingScore(remainingScores, frame, 0, 1, 1);
+                final int spareValue = getNextRemainingScore(remainingScores, frame, spareBonusRolls,
+                        getSpareFirstRollMultiplier(), getSpareSecondRollMultiplier());
+                pins = findLeastPins(needed, openValue, first, standing, (long) standing * first + spareValue);
+                needed -= (long) pins * first;
+                first = pins == standing ? getSpareFirstRollMultiplier() : 1;
+                second = pins == standing ? getSpareSecondRollMultiplier() : 1;
+                bonusRolls = completeRemainingFrame(++frame, pins == standing ? spareBonusRolls : 0);
+                standing = numberOfPins;
+                roll = 0;
+            }
+            rolls[rollCount++] = pins;
+        }
+        return Arrays.copyOf(rolls, rollCount);
+    }
+
+    /**
+     * Finds the least pins for a roll whose best continuation is linear in the pins, except for knocking down all the
+     * standing pins, which is a strike, spare or cleared bonus roll with its own value.
+     * @param needed The score still needed.
+     * @param baseValue The best score after the roll when it knocks down no pins.
+     * @param pinValue The non-negative increase of the best score for each pin, while not all pins are knocked down.
+     * @param standing The number of standing pins.
+     * @param allPinsValue The best score after the roll when it knocks down all the standing pins.
+     * @return The least pins, between zero and standing.
+     */
+    private static int findLeastPins(final long needed, final long baseValue, final long pinValue, final int standing,
+                                     final long allPinsValue)
+    {
+        if (baseValue >= needed)
+        {
+            return 0;
+        }
+        if (pinValue > 0)
+        {
+            final long pins = (needed - baseValue + pinValue - 1) / pinValue;
+            if (pins < standing)
+            {
+                return (int) pins;
+            }
+        }
+        // The target was checked to be reachable, so knocking down all the pins must reach it.
+        return standing;
+    }
+
+    /**
+     * @param nextFrame The index of the frame after the completed frame.
+     * @param bonusRolls The number of bonus rolls earned by the completed frame.
+     * @return The number of bonus rolls left to roll after the completed frame.
+     */
+    private int completeRemainingFrame(final int nextFrame, final int bonusRolls)
+    {
+        return nextFrame == numberOfFrames ? bonusRolls : 0;
+    }
+
+    /**
+     * Tabulates the most the frames from the current frame on can add, for every pair of multipliers of the first two
+     * rolls of a frame. Knocking down more pins never lowers the score, and a spare earns at least the bonus of an open
+     * frame, so each frame is best either as a strike or as a spare with the larger multiplier on the roll with more
+     * pins. The first roll multiplier is never lower than the second, so the spare is best as all but one pin and then
+     * one pin.
+     * @return The non-null table, with {@link #MULTIPLIER_STATES} entries for each frame from the current frame on.
+     */
+    private int[] createRemainingScoreTable()
+    {
+        final int[] remainingScores = new int[(numberOfFrames - frameIndex) * MULTIPLIER_STATES];
+        for (int frame = numberOfFrames - 1; frame >= frameIndex; frame--)
+        {
+            for (int first = 1; first <= FIRST_ROLL_MULTIPLIERS; first++)
+            {
+                for (int second = 1; second <= SECOND_ROLL_MULTIPLIERS; second++)
+                {
+                    final int strikeValue = numberOfPins * first + getNextRemainingScore(remainingScores, frame, strikeBonusRolls,
+                            getStrikeFirstRollMultiplier(second), getStrikeSecondRollMultiplier());
+                    final int spareValue = (numberOfPins - 1) * first + second + getNextRemainingScore(remainingScores, frame,
+                            spareBonusRolls, getSpareFirstRollMultiplier(), getSpareSecondRollMultiplier());
+                    remainingScores[getStateIndex(frame, first, second)] = Math.max(strikeValue, spareValue);
+                }
+            }
+        }
+        return remainingScores;
+    }
+
+    /**
+     * @param remainingScores The table created by {@link #createRemainingScoreTable}.
+     * @return The most the remaining rolls can add to the score, from the current roll on.
+     */
+    private int getMaximumRemainingScore(final int[] remainingScores)
+    {
+        if (frameIndex == numberOfFrames)
+        {
+            return standingPins * (firstRollMultiplier - 1) + (remainingBonusRolls == 2 ? numberOfPins * (secondRollMultiplier - 1) : 0);
+        }
+        if (rollInFrame == 1)
+        {
+            return standingPins * firstRollMultiplier + getNextRemainingScore(remainingScores, frameIndex, spareBonusRolls,
+                    getSpareFirstRollMultiplier(), getSpareSecondRollMultiplier());
+        }
+        return remainingScores[getStateIndex(frameIndex, firstRollMultiplier, secondRollMultiplier)];
+    }
+
+    /**
+     * Gets the most the rolls after a frame can add: the frames after it, or its bonus rolls if it is the last frame.
+     * @param remainingScores The table created by {@link #createRemainingScoreTable}, filled in after the frame.
+     * @param frame The index of the frame.
+     * @param bonusRolls The number of bonus rolls earned by the frame.
+     * @param first The multiplier of the roll after the frame.
+     * @param second The multiplier of the roll after that.
+     * @return The non-negative score.
+     */
+    private int getNextRemainingScore(final int[] remainingScores, final int frame, final int bonusRolls, final int first,
+                                      final int second)
+    {
+        if (frame + 1 < numberOfFrames)
+        {
+            return remainingScores[getStateIndex(frame + 1, first, second)];
+        }
+        // Bonus rolls only add their multiplied bonus, and a strike on the first clears the pins for the second.
+        return (bonusRolls > 0 ? numberOfPins * (first - 1) : 0) + (bonusRolls > 1 ? numberOfPins * (second - 1) : 0);
+    }
+
+    /**
+     * @param frame The index of the frame, not before the current frame.
+     * @param first The multiplier of the first roll of the frame.
+     * @param second The multiplier of the second roll of the frame.
+     * @return The index of the frame and multipliers in the table created by {@link #createRemainingScoreTable}.
+     */
+    private int getStateIndex(final int frame, final int first, final int second)
+    {
+        return (frame - frameIndex) * MULTIPLIER_STATES + (first - 1) * SECOND_ROLL_MULTIPLIERS + second - 1;
+    }
+
+    /**
+     * @param second The multiplier of the roll after the strike before it is awarded.
+     * @return The multiplier of the roll after a strike, like {@link #awardBonusRolls}.
+     */
+    private int getStrikeFirstRollMultiplier(final int second)
+    {
+        return second + Math.min(strikeBonusRolls, 1);
+    }
+
+    /**
+     * @return The multiplier of the second roll after a strike, like {@link #awardBonusRolls}.
+     */
+    private int getStrikeSecondRollMultiplier()
+    {
+        return 1 + Math.max(strikeBonusRolls - 1, 0);
+    }
+
+    /**
+     * @return The multiplier of the roll after a spare, like {@link #awardBonusRolls}.
+     */
+    private int getSpareFirstRollMultiplier()
+    {
+        return 1 + Math.min(spareBonusRolls, 1);
+    }
+
+    /**
+     * @return The multiplier of the second roll after a spare, like {@link #awardBonusRolls}.
+     */
+    private int getSpareSecondRollMultiplier()
+    {
+        return 1 + Math.max(spareBonusRolls - 1, 0);
+    }
+
+    /**
+     * @return The non-negative score of the rolls so far, including the bonuses they earned for earlier frames.
+     */
+    public int getScore()
+    {
+        return score;
+    }
+
+    /**
+     * Gets the score of a frame so far: its pins plus the bonus rolls it has received.
+     * @param frame The zero based frame index.
+     * @return The non-negative score of the frame.
+     * @throws IllegalArgumentException If frame is negative or not less than the number of frames.
+     */
+    public int getFrameScore(final int frame)
+    {
+        Preconditions.checkArgument(frame >= 0 && frame < numberOfFrames, "frame must be between 0 and %s.", numberOfFrames - 1);
+        return frameScores[frame];
+    }
+
+    /**
+     * @return The zero based index of the current frame, equal to the number of frames during the bonus rolls.
+     */
+    public int getFrameIndex()
+    {
+        return frameIndex;
+    }
+
+    /**
+     * @return The number of pins standing for the next roll.
+     */
+    public int getStandingPins()
+    {
+        return standingPins;
+    }
+
+    /**
+     * @return True if every frame and bonus roll has been rolled, false otherwise.
+     */
+    public boolean isComplete()
+    {
+        return frameIndex == numberOfFrames && remainingBonusRolls == 0;
+    }
+}
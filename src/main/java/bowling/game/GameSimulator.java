@@ -0,0 +1,190 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Simulates games of one {@link BowlingGame} by drawing every roll from a {@link RollModel}, and scores each roll as it
+ * is drawn with the same multipliers as {@link BowlingGame#calculateScore}, so a simulated game is never formatted or
+ * parsed. Games are aggregated into {@link GameStatistics}, whose score distribution is the histogram of the
+ * simulation.
+ * <p>
+ * A simulation splits its games in half across fork-join tasks, and every task splits its {@link SplittableRandom}
+ * for the half it forks. The random of every game therefore depends only on the seed and the chunk size, not on the
+ * threads that ran it, so a simulation is reproducible on any {@link ForkJoinPool}. A simulator is thread-safe if its
+ * {@link RollModel} is.
+ */
+public class GameSimulator
+{
+    /**
+     * The default number of games simulated by a single fork-join task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+
+    private final BowlingGame bowlingGame;
+    private final RollModel rollModel;
+    private final int numberOfFrames;
+    private final int numberOfPins;
+    private final int strikeBonusRolls;
+    private final int spareBonusRolls;
+
+    /**
+     * Constructor for {@link GameSimulator}. Use {@link BowlingGame#newSimulator} to create one.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param rollModel The {@link RollModel} to draw rolls from.
+     */
+    GameSimulator(@NonNull final BowlingGame bowlingGame, @NonNull final RollModel rollModel)
+    {
+        this.bowlingGame = bowlingGame;
+        this.rollModel = rollModel;
+        this.numberOfFrames = bowlingGame.getNumberOfFrames();
+        this.numberOfPins = bowlingGame.getNumberOfPins();
+        this.strikeBonusRolls = bowlingGame.getStrikeBonusRolls();
+        this.spareBonusRolls = bowlingGame.getSpareBonusRolls();
+    }
+
+    /**
+     * Simulates the given number of games in parallel on the common {@link ForkJoinPool}.
+     * @param games The number of games to simulate.
+     * @param seed The seed of the simulation.
+     * @return The non-null {@link GameStatistics} of the simulated games.
+     * @throws IllegalArgumentException If games is negative.
+     * @throws IllegalStateException If the {@link RollModel} knocks down more pins than are standing.
+     */
+    @NonNull
+    public GameStatistics simulate(final long games, final long seed)
+    {
+        return simulate(games, seed, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Simulates the given number of games in parallel on the given {@link ForkJoinPool}. The same seed and chunk size
+     * give the same games on any pool.
+     * @param games The number of games to simulate.
+     * @param seed The seed of the simulation.
+     * @param pool The {@link ForkJoinPool} to run on.
+     * @param chunkSize The largest number of games simulated by a single task.
+     * @return The non-null {@link GameStatistics} of the simulated games.
+     * @throws IllegalArgumentException If games is negative, pool is {@code null}, or chunkSize is not positive.
+     * @throws IllegalStateException If the {@link RollModel} knocks down more pins than are standing.
+     */
+    @NonNull
+    public GameStatistics simulate(final long games, final long seed, @NonNull final ForkJoinPool pool, final int chunkSize)
+    {
+        Preconditions.checkArgument(games >= 0, "games must be non-negative.");
+        Preconditions.checkArgument(pool != null, "pool cannot be null.");
+        Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive.");
+
+        return pool.invoke(new SimulationTask(this, new SplittableRandom(seed), chunkSize, games));
+    }
+
+    /**
+     * Simulates and scores a game.
+     * @param random The {@link SplittableRandom} to draw the rolls with.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If random is {@code null}.
+     * @throws IllegalStateException If the {@link RollModel} knocks down more pins than are standing.
+     */
+    public int simulateGame(@NonNull final SplittableRandom random)
+    {
+        Preconditions.checkArgument(random != null, "random cannot be null.");
+        return simulateGame(random, null);
+    }
+
+    /**
+     * @return The non-null {@link BowlingGame} this simulator scores with.
+     */
+    @NonNull
+    BowlingGame getBowlingGame()
+    {
+        return bowlingGame;
+    }
+
+    /**
+     * Simulates and scores a game, tracking the multipliers of the next two rolls like {@link GameSession}.
+     * @param random The {@link SplittableRandom} to draw the rolls with.
+     * @param statistics The {@link GameStatistics} to record the game to, or {@code null} to only score it.
+     * @return The non-negative score of the game.
+     * @throws IllegalStateException If the {@link RollModel} knocks down more pins than are standing.
+     */
+    int simulateGame(@NonNull final SplittableRandom random, @CheckForNull final GameStatistics statistics)
+    {
+        int score = 0;
+        int firstRollMultiplier = 1;
+        int secondRollMultiplier = 1;
+        int bonusRolls = 0;
+        int strikes = 0;
+        int spares = 0;
+        int firstRollPins = 0;
+        for (int frame = 0; frame < numberOfFrames; frame++)
+        {
+            final int firstRoll = roll(frame, 0, numberOfPins, random);
+            score += firstRoll * firstRollMultiplier;
+            firstRollPins += firstRoll;
+            firstRollMultiplier = secondRollMultiplier;
+            secondRollMultiplier = 1;
+            if (firstRoll == numberOfPins)
+            {
+                strikes++;
+                bonusRolls = strikeBonusRolls;
+            }
+            else
+            {
+                final int secondRoll = roll(frame, 1, numberOfPins - firstRoll, random);
+                score += secondRoll * firstRollMultiplier;
+                firstRollMultiplier = 1;
+                if (firstRoll + secondRoll == numberOfPins)
+                {
+                    spares++;
+                    bonusRolls = spareBonusRolls;
+                }
+                else
+                {
+                    bonusRolls = FrameType.PINS.getNumberOfBonusRolls();
+                }
+            }
+            firstRollMultiplier += Math.min(bonusRolls, 1);
+            secondRollMultiplier += Math.max(bonusRolls - 1, 0);
+        }
+
+        // Bonus rolls only add their multiplied bonus, the base value is not counted.
+        int standingPins = numberOfPins;
+        for (int bonusRoll = 0; bonusRoll < bonusRolls; bonusRoll++)
+        {
+            final int pins = roll(numberOfFrames, bonusRoll, standingPins, random);
+            score += pins * (firstRollMultiplier - 1);
+            firstRollMultiplier = secondRollMultiplier;
+            secondRollMultiplier = 1;
+            standingPins = pins == standingPins ? numberOfPins : standingPins - pins;
+        }
+
+        if (statistics != null)
+        {
+            statistics.recordGame(score, strikes, spares, firstRollPins);
+        }
+        return score;
+    }
+
+    /**
+     * Draws a roll from the {@link RollModel}.
+     * @param frame The index of the frame, or the number of frames for a bonus roll.
+     * @param rollInFrame The index of the roll in its frame, or in the bonus rolls.
+     * @param standingPins The number of standing pins.
+     * @param random The {@link SplittableRandom} to draw from.
+     * @return The number of pins knocked down.
+     * @throws IllegalStateException If the {@link RollModel} knocks down more pins than are standing.
+     */
+    private int roll(final int frame, final int rollInFrame, final int standingPins, @NonNull final SplittableRandom random)
+    {
+        final int pins = rollModel.roll(frame, rollInFrame, standingPins, random);
+        if (pins < 0 || pins > standingPins)
+        {
+            throw new IllegalStateException(String.format("rollModel knocked down %d of %d standing pins.", pins, standingPins));
+        }
+        return pins;
+    }
+}
@@ -0,0 +1,326 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.stream.Collector;
+
+/**
+ * Aggregates statistics over the games of one {@link BowlingGame}: the number of valid games and the failures by
+ * {@link GameError}, the frames by {@link FrameType}, the pins of first rolls, and the distribution of scores. Every
+ * statistic is a primitive count, so a game is accepted without allocating. Statistics are not thread-safe; parallel
+ * workers each aggregate their own and {@link #combine} them, which is associative and commutative, as in
+ * {@link BowlingGame#calculateStatistics} and {@link #collector}. Statistics per bowler can be collected with
+ * {@code Collectors.groupingBy(bowler, GameStatistics.collector(bowlingGame))}.
+ * <p>
+ * The score distribution has a bucket per score, up to {@link #MAX_SCORE_BUCKETS} buckets; larger games group several
+ * consecutive scores per bucket, as given by {@link #getScoreBucketWidth}.
+ */
+public class GameStatistics
+{
+    /**
+     * The largest number of score distribution buckets.
+     */
+    public static final int MAX_SCORE_BUCKETS = 1024;
+
+    private static final GameError[] GAME_ERRORS = GameError.values();
+
+    private final BowlingGame bowlingGame;
+    private final int scoreBucketWidth;
+    private final long[] scoreBuckets;
+    private final long[] failures = new long[GAME_ERRORS.length];
+    private final FrameCounts frameCounts = new FrameCounts();
+    private long games;
+    private long strikes;
+    private long spares;
+    private long cleanGames;
+    private long firstRollPins;
+    private long totalScore;
+    private long totalSquaredScore;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore = Integer.MIN_VALUE;
+
+    /**
+     * Constructor for {@link GameStatistics}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}.
+     */
+    public GameStatistics(@NonNull final BowlingGame bowlingGame)
+    {
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+
+        this.bowlingGame = bowlingGame;
+        final long scores = bowlingGame.getScoreBound() + 1;
+        this.scoreBucketWidth = (int) ((scores + MAX_SCORE_BUCKETS - 1) / MAX_SCORE_BUCKETS);
+        this.scoreBuckets = new long[(int) ((scores + scoreBucketWidth - 1) / scoreBucketWidth)];
+    }
+
+    /**
+     * Creates a {@link Collector} that aggregates games into {@link GameStatistics}, in parallel if the stream is
+     * parallel.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @return The non-null, unordered {@link Collector}.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}.
+     */
+    @NonNull
+    public static Collector<CharSequence, ?, GameStatistics> collector(@NonNull final BowlingGame bowlingGame)
+    {
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        return Collector.of(() -> new GameStatistics(bowlingGame), GameStatistics::accept, GameStatistics::combine,
+                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Scores the game and adds it to the statistics.
+     * @param game The game.
+     * @return True if the game is valid, false if it was counted as a failure.
+     */
+    public boolean accept(final CharSequence game)
+    {
+        final long outcome = bowlingGame.evaluateSinglePass(game);
+        if (ScoreResult.isError(outcome))
+        {
+            recordFailure(ScoreResult.getError(outcome));
+            return false;
+        }
+        bowlingGame.visitValidFrames(game, frameCounts.reset());
+        recordGame((int) outcome, frameCounts.getStrikes(), frameCounts.getSpares(), frameCounts.getFirstRollPins());
+        return true;
+    }
+
+    /**
+     * Records a valid game.
+     * @param score The score of the game.
+     * @param gameStrikes The number of {@link FrameType#STRIKE} frames.
+     * @param gameSpares The number of {@link FrameType#SPARE} frames.
+     * @param gameFirstRollPins The pins knocked down by the first roll of every frame.
+     */
+    void recordGame(final int score, final int gameStrikes, final int gameSpares, final int gameFirstRollPins)
+    {
+        games++;
+        strikes += gameStrikes;
+        spares += gameSpares;
+        if (gameStrikes + gameSpares == bowlingGame.getNumberOfFrames())
+        {
+            cleanGames++;
+        }
+        firstRollPins += gameFirstRollPins;
+        totalScore += score;
+        totalSquaredScore += (long) score * score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        scoreBuckets[score / scoreBucketWidth]++;
+    }
+
+    /**
+     * Records an invalid game.
+     * @param error The {@link GameError} of the game.
+     */
+    void recordFailure(@NonNull final GameError error)
+    {
+        failures[error.ordinal()]++;
+    }
+
+    /**
+     * Adds the statistics of other to these statistics, leaving other unchanged.
+     * @param other The statistics to add.
+     * @return The non-null, combined statistics, which are these statistics.
+     * @throws IllegalArgumentException If other is {@code null}, or was aggregated with another {@link BowlingGame}.
+     */
+    @NonNull
+    public GameStatistics combine(@NonNull final GameStatistics other)
+    {
+        Preconditions.checkArgument(other != null, "other cannot be null.");
+        Preconditions.checkArgument(other.bowlingGame == bowlingGame, "other must be aggregated with the same BowlingGame.");
+
+        games += other.games;
+        strikes += other.strikes;
+        spares += other.spares;
+        cleanGames += other.cleanGames;
+        firstRollPins += other.firstRollPins;
+        totalScore += other.totalScore;
+        totalSquaredScore += other.totalSquaredScore;
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        for (int bucket = 0; bucket < scoreBuckets.length; bucket++)
+        {
+            scoreBuckets[bucket] += other.scoreBuckets[bucket];
+        }
+        for (int error = 0; error < failures.length; error++)
+        {
+            failures[error] += other.failures[error];
+        }
+        return this;
+    }
+
+    /**
+     * @return The number of valid games.
+     */
+    public long getGames()
+    {
+        return games;
+    }
+
+    /**
+     * @param error The {@link GameError}.
+     * @return The number of games that failed with the given error.
+     * @throws IllegalArgumentException If error is {@code null}.
+     */
+    public long getFailures(@NonNull final GameError error)
+    {
+        Preconditions.checkArgument(error != null, "error cannot be null.");
+        return failures[error.ordinal()];
+    }
+
+    /**
+     * @return The number of games that failed with any error.
+     */
+    public long getTotalFailures()
+    {
+        long total = 0;
+        for (final long failure : failures)
+        {
+            total += failure;
+        }
+        return total;
+    }
+
+    /**
+     * @param frameType The {@link FrameType}.
+     * @return The number of frames of the given type in the valid games, where every game has one
+     * {@link FrameType#BONUS} frame.
+     * @throws IllegalArgumentException If frameType is {@code null}.
+     */
+    public long getFrames(@NonNull final FrameType frameType)
+    {
+        Preconditions.checkArgument(frameType != null, "frameType cannot be null.");
+        switch (frameType)
+        {
+            case STRIKE:
+                return strikes;
+            case SPARE:
+                return spares;
+            case PINS:
+                return games * bowlingGame.getNumberOfFrames() - strikes - spares;
+            case BONUS:
+                return games;
+            default:
+                throw new RuntimeException(String.format("Unexpected FrameType: %s", frameType));
+        }
+    }
+
+    /**
+     * @return The number of valid games without a {@link FrameType#PINS} frame.
+     */
+    public long getCleanGames()
+    {
+        return cleanGames;
+    }
+
+    /**
+     * @return The fraction of frames that are strikes, or {@code NaN} if there are no valid games.
+     */
+    public double getStrikeRate()
+    {
+        return (double) strikes / (games * bowlingGame.getNumberOfFrames());
+    }
+
+    /**
+     * @return The fraction of frames without a strike that are spares, or {@code NaN} if there are none.
+     */
+    public double getSpareConversionRate()
+    {
+        return (double) spares / (games * bowlingGame.getNumberOfFrames() - strikes);
+    }
+
+    /**
+     * @return The fraction of frames that are {@link FrameType#PINS} frames, or {@code NaN} if there are no valid
+     * games.
+     */
+    public double getOpenFrameRate()
+    {
+        return (double) getFrames(FrameType.PINS) / (games * bowlingGame.getNumberOfFrames());
+    }
+
+    /**
+     * @return The mean number of pins knocked down by the first roll of a frame, or {@code NaN} if there are no valid
+     * games.
+     */
+    public double getMeanFirstRollPins()
+    {
+        return (double) firstRollPins / (games * bowlingGame.getNumberOfFrames());
+    }
+
+    /**
+     * @return The mean score of the valid games, or {@code NaN} if there are none.
+     */
+    public double getMeanScore()
+    {
+        return (double) totalScore / games;
+    }
+
+    /**
+     * @return The population standard deviation of the scores of the valid games, or {@code NaN} if there are none.
+     */
+    public double getScoreStandardDeviation()
+    {
+        final double mean = getMeanScore();
+        return Math.sqrt(Math.max((double) totalSquaredScore / games - mean * mean, 0));
+    }
+
+    /**
+     * @return The lowest score of the valid games, or {@link BowlingGame#INVALID_SCORE} if there are none.
+     */
+    public int getMinScore()
+    {
+        return games == 0 ? BowlingGame.INVALID_SCORE : minScore;
+    }
+
+    /**
+     * @return The highest score of the valid games, or {@link BowlingGame#INVALID_SCORE} if there are none.
+     */
+    public int getMaxScore()
+    {
+        return games == 0 ? BowlingGame.INVALID_SCORE : maxScore;
+    }
+
+    /**
+     * @return The positive number of consecutive scores counted by each bucket of the score distribution.
+     */
+    public int getScoreBucketWidth()
+    {
+        return scoreBucketWidth;
+    }
+
+    /**
+     * @return The non-null counts of valid games by score, where bucket {@code b} counts the scores from
+     * {@code b * getScoreBucketWidth()} inclusive to {@code (b + 1) * getScoreBucketWidth()} exclusive.
+     */
+    @NonNull
+    public long[] getScoreDistribution()
+    {
+        return scoreBuckets.clone();
+    }
+
+    /**
+     * @param percentile The percentile, greater than 0 and at most 100.
+     * @return The lowest score of the bucket holding the given percentile of valid games, or
+     * {@link BowlingGame#INVALID_SCORE} if there are none.
+     * @throws IllegalArgumentException If percentile is not greater than 0 and at most 100.
+     */
+    public int getScorePercentile(final double percentile)
+    {
+        Preconditions.checkArgument(percentile > 0 && percentile <= 100, "percentile must be greater than 0 and at most 100.");
+        final long rank = (long) Math.ceil(games * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < scoreBuckets.length; bucket++)
+        {
+            seen += scoreBuckets[bucket];
+            if (seen >= rank && seen > 0)
+            {
+                return bucket * scoreBucketWidth;
+            }
+        }
+        return BowlingGame.INVALID_SCORE;
+    }
+}
@@ -0,0 +1,301 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * A live leaderboard of the best score of every key, such as a bowler id, fed by games submitted from any number of
+ * threads. Every submission is scored by the {@link BowlingGame} on the submitting thread, so scoring is never
+ * serialized, and only a submission that beats the best score of its key touches the shared structures:
+ * <ul>
+ *     <li>The best {@link Entry} of every key is held in a {@link ConcurrentHashMap}, which serializes the updates of
+ *     a key only against each other.</li>
+ *     <li>Every best {@link Entry} is held in a {@link ConcurrentSkipListSet}, ordered from the highest score, so the
+ *     top entries are read from its head without sorting.</li>
+ *     <li>The number of keys by best score is held in an {@link AtomicLongArray}, so the rank of a score is counted
+ *     over the scores above it rather than the keys.</li>
+ * </ul>
+ * An update of a key replaces its entry in all three, which readers must see as one step. So the keys are striped
+ * over {@link StampedLock}s, and an update holds the write lock of the stripe of its key only, so updates of keys in
+ * other stripes run in parallel. A read first runs optimistically against the stamps of every stripe, and only if an
+ * update ran meanwhile does it take every read lock and read again. Every read is therefore a consistent snapshot,
+ * with one entry per key, and readers never block submissions unless they race with one.
+ */
+public class Leaderboard
+{
+    private static final int STRIPES = 64;
+
+    private final BowlingGame bowlingGame;
+    private final ConcurrentHashMap<Long, Entry> bestEntries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> rankedEntries = new ConcurrentSkipListSet<>();
+    private final AtomicLongArray keysByScore;
+    private final StampedLock[] stripes = new StampedLock[STRIPES];
+
+    /**
+     * Constructor for {@link Leaderboard}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, or a valid game can score above
+     * {@link BowlingGame#MAX_INDEXED_SCORE}.
+     */
+    public Leaderboard(@NonNull final BowlingGame bowlingGame)
+    {
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+
+        this.bowlingGame = bowlingGame;
+        this.keysByScore = new AtomicLongArray(bowlingGame.getIndexedScoreBound() + 1);
+        for (int stripe = 0; stripe < STRIPES; stripe++)
+        {
+            stripes[stripe] = new StampedLock();
+        }
+    }
+
+    /**
+     * Scores the game and records it as the best game of the key if it beats the best score so far.
+     * @param key The key of the game, such as a bowler id.
+     * @param game The game.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If game is null, empty, blank, or invalid.
+     * @throws NumberFormatException If a roll is neither a symbol nor a digit.
+     */
+    public int submit(final long key, @NonNull final CharSequence game)
+    {
+        final int score = bowlingGame.calculateScore(game);
+        final Entry best = bestEntries.get(key);
+        if (best != null && best.score >= score)
+        {
+            return score;
+        }
+
+        final StampedLock stripe = stripes[((Long.hashCode(key) * 0x9E3779B9) >>> 16) & (STRIPES - 1)];
+        final long stamp = stripe.writeLock();
+        try
+        {
+            bestEntries.compute(key, (ignored, current) ->
+            {
+                if (current != null && current.score >= score)
+                {
+                    return current;
+                }
+                final Entry entry = new Entry(key, score);
+                rankedEntries.add(entry);
+                keysByScore.incrementAndGet(score);
+                if (current != null)
+                {
+                    rankedEntries.remove(current);
+                    keysByScore.decrementAndGet(current.score);
+                }
+                return entry;
+            });
+        }
+        finally
+        {
+            stripe.unlockWrite(stamp);
+        }
+        return score;
+    }
+
+    /**
+     * @return The number of keys with a game.
+     */
+    public int size()
+    {
+        return bestEntries.size();
+    }
+
+    /**
+     * @param key The key.
+     * @return The best score of the key, or {@link BowlingGame#INVALID_SCORE} if the key has no game.
+     */
+    public int getBestScore(final long key)
+    {
+        final Entry best = bestEntries.get(key);
+        return best == null ? BowlingGame.INVALID_SCORE : best.score;
+    }
+
+    /**
+     * @param key The key.
+     * @return The rank of the best score of the key, as given by {@link #getRankOfScore}, or 0 if the key has no game.
+     */
+    public int getRank(final long key)
+    {
+        return readConsistently(() ->
+        {
+            final Entry best = bestEntries.get(key);
+            return best == null ? 0 : countHigherScores(best.score) + 1;
+        });
+    }
+
+    /**
+     * Ranks a score against the best scores of all keys, in standard competition ranking, where keys with equal
+     * scores share a rank and the next rank is skipped.
+     * @param score The score.
+     * @return The positive rank that the score would have, which is one more than the number of keys with a higher
+     * best score.
+     */
+    public int getRankOfScore(final int score)
+    {
+        return readConsistently(() -> countHigherScores(score) + 1);
+    }
+
+    /**
+     * Reads the entries with the highest scores, in order of score from the highest, and then of key.
+     * @param count The largest number of entries to read.
+     * @return The non-null List of at most count {@link Entry}s, one per key.
+     * @throws IllegalArgumentException If count is negative.
+     */
+    @NonNull
+    public List<Entry> getTop(final int count)
+    {
+        Preconditions.checkArgument(count >= 0, "count must be non-negative.");
+        return readConsistently(() ->
+        {
+            final List<Entry> top = new ArrayList<>(Math.min(count, 1024));
+            final Iterator<Entry> entries = rankedEntries.iterator();
+            while (top.size() < count && entries.hasNext())
+            {
+                top.add(entries.next());
+            }
+            return top;
+        });
+    }
+
+    /**
+     * @param score The score.
+     * @return The number of keys with a best score higher than the given score, at most {@link Integer#MAX_VALUE} - 1.
+     */
+    private int countHigherScores(final int score)
+    {
+        long higherScores = 0;
+        for (int higherScore = Math.max(score + 1, 0); higherScore < keysByScore.length(); higherScore++)
+        {
+            higherScores += keysByScore.get(higherScore);
+        }
+        return (int) Math.min(higherScores, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Runs the read optimistically, and again holding the read lock of every stripe if an update ran meanwhile.
+     * @param read The read, which must not fail on a state that is being updated.
+     * @param <T> The type of the result.
+     * @return The result of the read on a state between updates.
+     */
+    private <T> T readConsistently(@NonNull final Supplier<T> read)
+    {
+        final long[] stamps = new long[STRIPES];
+        boolean locked = false;
+        for (int stripe = 0; stripe < STRIPES; stripe++)
+        {
+            stamps[stripe] = stripes[stripe].tryOptimisticRead();
+            locked |= stamps[stripe] == 0;
+        }
+        if (!locked)
+        {
+            final T result = read.get();
+            boolean valid = true;
+            for (int stripe = 0; stripe < STRIPES && valid; stripe++)
+            {
+                valid = stripes[stripe].validate(stamps[stripe]);
+            }
+            if (valid)
+            {
+                return result;
+            }
+        }
+
+        // Every reader locks the stripes in the same order, and an update holds a single stripe, so this cannot deadlock.
+        for (int stripe = 0; stripe < STRIPES; stripe++)
+        {
+            stamps[stripe] = stripes[stripe].readLock();
+        }
+        try
+        {
+            return read.get();
+        }
+        finally
+        {
+            for (int stripe = 0; stripe < STRIPES; stripe++)
+            {
+                stripes[stripe].unlockRead(stamps[stripe]);
+            }
+        }
+    }
+
+    /**
+     * The best score of a key on a {@link Leaderboard}. Entries are ordered from the highest score, and then by key.
+     */
+    public static final class Entry implements Comparable<Entry>
+    {
+        private final long key;
+        private final int score;
+
+        /**
+         * Constructor for {@link Entry}.
+         * @param key The key.
+         * @param score The best score of the key.
+         */
+        private Entry(final long key, final int score)
+        {
+            this.key = key;
+            this.score = score;
+        }
+
+        /**
+         * @return The key.
+         */
+        public long getKey()
+        {
+            return key;
+        }
+
+        /**
+         * @return The best score of the key.
+         */
+        public int getScore()
+        {
+            return score;
+        }
+
+        @Override
+        public int compareTo(@NonNull final Entry other)
+        {
+            final int byScore = Integer.compare(other.score, score);
+            return byScore != 0 ? byScore : Long.compare(key, other.key);
+        }
+
+        @Override
+        public boolean equals(final Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof Entry))
+            {
+                return false;
+            }
+            final Entry entry = (Entry) other;
+            return key == entry.key && score == entry.score;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * Long.hashCode(key) + score;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("Entry[key=%d, score=%d]", key, score);
+        }
+    }
+}
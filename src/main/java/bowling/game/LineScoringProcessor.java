@@ -0,0 +1,124 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link Flow.Processor} that receives raw chunks of ASCII bytes holding one game per line and publishes the
+ * {@link ScoreResult} of every line, as described in {@link AbstractScoringProcessor}. Lines may end with {@code \n}
+ * or {@code \r\n} and may span chunks; a last line without a line ending is scored when upstream completes. Lines held
+ * within one chunk are scored in place, and only a line split across chunks is copied, into a buffer of the maximum
+ * line length; a longer split line fails the processor with an {@link IllegalArgumentException}. Chunks are read from
+ * their position to their limit without being modified.
+ */
+public class LineScoringProcessor extends AbstractScoringProcessor<ByteBuffer>
+{
+    private final AsciiByteSequence line = new AsciiByteSequence();
+    private final ByteBuffer partialLine;
+
+    /**
+     * Constructor for {@link LineScoringProcessor} delivering on the common {@link ForkJoinPool}, with
+     * {@link Flow#defaultBufferSize()}, {@link #DEFAULT_BATCH_SIZE} and {@link ScoringServer#DEFAULT_MAX_LINE_LENGTH}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}.
+     */
+    public LineScoringProcessor(@NonNull final BowlingGame bowlingGame)
+    {
+        this(bowlingGame, ForkJoinPool.commonPool(), Flow.defaultBufferSize(), DEFAULT_BATCH_SIZE, ScoringServer.DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Constructor for {@link LineScoringProcessor}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param executor The {@link Executor} delivering results to subscribers.
+     * @param maxBufferCapacity The maximum number of results buffered for each subscriber.
+     * @param batchSize The number of chunks requested from upstream at once.
+     * @param maxLineLength The largest line, including its line ending.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, or maxBufferCapacity, batchSize or
+     * maxLineLength is not positive.
+     * @throws NullPointerException If executor is {@code null}.
+     */
+    public LineScoringProcessor(@NonNull final BowlingGame bowlingGame, @NonNull final Executor executor, final int maxBufferCapacity,
+                                final int batchSize, final int maxLineLength)
+    {
+        super(bowlingGame, executor, maxBufferCapacity, batchSize, DEFAULT_OFFER_TIMEOUT_MILLIS);
+        Preconditions.checkArgument(maxLineLength > 0, "maxLineLength must be positive.");
+        this.partialLine = ByteBuffer.allocate(maxLineLength);
+    }
+
+    @Override
+    void process(@NonNull final ByteBuffer chunk)
+    {
+        int lineStart = chunk.position();
+        for (int i = lineStart; i < chunk.limit(); i++)
+        {
+            if (chunk.get(i) != '\n')
+            {
+                continue;
+            }
+            if (partialLine.position() == 0)
+            {
+                publishLine(chunk, lineStart, i);
+            }
+            else
+            {
+                if (!appendPartialLine(chunk, lineStart, i + 1))
+                {
+                    return;
+                }
+                publishLine(partialLine, 0, partialLine.position() - 1);
+                partialLine.clear();
+            }
+            lineStart = i + 1;
+        }
+        appendPartialLine(chunk, lineStart, chunk.limit());
+    }
+
+    @Override
+    void finish()
+    {
+        if (partialLine.position() > 0)
+        {
+            publishLine(partialLine, 0, partialLine.position());
+            partialLine.clear();
+        }
+    }
+
+    /**
+     * Copies part of a line to the partial line buffer, failing the processor if the line is too long.
+     * @param chunk The chunk.
+     * @param from The absolute index of the first byte to copy.
+     * @param to The absolute index after the last byte to copy.
+     * @return True if the bytes were copied, false if the processor failed.
+     */
+    private boolean appendPartialLine(@NonNull final ByteBuffer chunk, final int from, final int to)
+    {
+        if (to - from > partialLine.remaining())
+        {
+            fail(new IllegalArgumentException(String.format("Line is longer than %d bytes.", partialLine.capacity())));
+            return false;
+        }
+        for (int i = from; i < to; i++)
+        {
+            partialLine.put(chunk.get(i));
+        }
+        return true;
+    }
+
+    /**
+     * Scores and publishes the line between the given offsets, ignoring a trailing {@code \r}.
+     * @param buffer The buffer holding the line.
+     * @param from The absolute index of the first byte of the line.
+     * @param to The absolute index of the {@code \n} ending the line, or after the last byte of the line.
+     */
+    private void publishLine(@NonNull final ByteBuffer buffer, final int from, final int to)
+    {
+        final int end = to > from && buffer.get(to - 1) == '\r' ? to - 1 : to;
+        publish(line.wrap(buffer, from, end - from));
+    }
+}
@@ -0,0 +1,386 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes games into a packed binary form of one {@code short} per {@link Frame} and scores them without inflating
+ * {@link Frame}s. A packed frame holds the {@link FrameType} ordinal in bits 0-1, the first roll value in bits 2-8 and
+ * the second roll value in bits 9-15, so roll values are limited to {@link #MAX_ROLL_VALUE}.
+ * <p>
+ * In a {@link ByteBuffer} a packed game is the number of frames as a {@code short} followed by the frames. In a
+ * {@code long[]} it is the same sequence of {@code short}s, four per {@code long} starting from the least significant
+ * bits, so a standard game of 11 frames takes 3 {@code long}s.
+ */
+public final class PackedGames
+{
+    /**
+     * The largest roll value that can be packed.
+     */
+    public static final int MAX_ROLL_VALUE = 0x7F;
+
+    private static final FrameType[] FRAME_TYPES = FrameType.values();
+    private static final int FRAME_TYPE_MASK = 0x3;
+    private static final int FIRST_ROLL_SHIFT = 2;
+    private static final int SECOND_ROLL_SHIFT = 9;
+    private static final int SHORTS_PER_LONG = 4;
+    private static final int STANDARD_STRIKE_BONUS_ROLLS = 2;
+    private static final int STANDARD_SPARE_BONUS_ROLLS = 1;
+    private static final FrameFlyweights DECODED_FRAMES = FrameFlyweights.forNumberOfPins(FrameFlyweights.MAX_NUMBER_OF_PINS);
+
+    /**
+     * Constructor for {@link PackedGames}. Declared private to prevent instantiation.
+     */
+    private PackedGames()
+    {
+    }
+
+    /**
+     * Parses and packs the given game.
+     * @param bowlingGame The {@link BowlingGame} to parse the game with.
+     * @param game The game to pack.
+     * @return The non-null packed game.
+     * @throws IllegalArgumentException If game is null, empty, blank, or invalid.
+     */
+    @NonNull
+    public static short[] encode(@NonNull final BowlingGame bowlingGame, @NonNull final String game)
+    {
+        Preconditions.checkArgument(!StringUtils.isBlank(game), "game cannot be null, empty, or blank");
+        return encode(bowlingGame.parseBowlingGame(game));
+    }
+
+    /**
+     * Packs a game that {@link BowlingGame} found valid like {@link #encode(BowlingGame, String)}, but from the frames
+     * {@link BowlingGame#visitValidFrames visited} rather than parsed {@link Frame}s, so only the packed game is allocated.
+     * @param bowlingGame The {@link BowlingGame} the game is valid for.
+     * @param game The valid game.
+     * @return The non-null packed game, including the {@link FrameType#BONUS} frame.
+     */
+    @NonNull
+    static short[] encodeValidGame(@NonNull final BowlingGame bowlingGame, @NonNull final CharSequence game)
+    {
+        final short[] packedGame = new short[bowlingGame.getNumberOfFrames() + 1];
+        bowlingGame.visitValidFrames(game, (frame, frameType, firstRollValue, secondRollValue) ->
+                packedGame[frame] = packFrame(frameType, firstRollValue, secondRollValue));
+        return packedGame;
+    }
+
+    /**
+     * Packs the given {@link Frame}s.
+     * @param frames The List of {@link Frame}s.
+     * @return The non-null packed game.
+     * @throws IllegalArgumentException If a roll value exceeds {@link #MAX_ROLL_VALUE}.
+     */
+    @NonNull
+    public static short[] encode(@NonNull final List<Frame> frames)
+    {
+        final short[] packedGame = new short[frames.size()];
+        for (int i = 0; i < packedGame.length; i++)
+        {
+            packedGame[i] = encodeFrame(frames.get(i));
+        }
+        return packedGame;
+    }
+
+    /**
+     * Packs the given {@link Frame}.
+     * @param frame The {@link Frame}.
+     * @return The packed frame.
+     * @throws IllegalArgumentException If a roll value exceeds {@link #MAX_ROLL_VALUE}.
+     */
+    public static short encodeFrame(@NonNull final Frame frame)
+    {
+        Preconditions.checkArgument(frame.getFirstRollValue() <= MAX_ROLL_VALUE && frame.getSecondRollValue() <= MAX_ROLL_VALUE,
+                "Roll values cannot exceed %s.", MAX_ROLL_VALUE);
+        return packFrame(frame.getFrameType(), frame.getFirstRollValue(), frame.getSecondRollValue());
+    }
+
+    /**
+     * Packs a frame from its parts, which are not checked.
+     * @param frameType The {@link FrameType}.
+     * @param firstRollValue The first roll value, at most {@link #MAX_ROLL_VALUE}.
+     * @param secondRollValue The second roll value, at most {@link #MAX_ROLL_VALUE}.
+     * @return The packed frame.
+     */
+    static short packFrame(@NonNull final FrameType frameType, final int firstRollValue, final int secondRollValue)
+    {
+        return (short) (frameType.ordinal() | (firstRollValue << FIRST_ROLL_SHIFT) | (secondRollValue << SECOND_ROLL_SHIFT));
+    }
+
+    /**
+     * Unpacks the given game into {@link Frame}s, shared from {@link FrameFlyweights} where the roll values allow.
+     * @param packedGame The packed game.
+     * @return The non-null List of {@link Frame}s.
+     */
+    @NonNull
+    public static List<Frame> decode(@NonNull final short[] packedGame)
+    {
+        final List<Frame> frames = new ArrayList<>(packedGame.length);
+        for (final short packedFrame : packedGame)
+        {
+            frames.add(DECODED_FRAMES.getFrame(getFrameType(packedFrame), getFirstRollValue(packedFrame), getSecondRollValue(packedFrame)));
+        }
+        return frames;
+    }
+
+    /**
+     * Writes the packed game to the buffer, preceded by its number of frames.
+     * @param packedGame The packed game.
+     * @param buffer The {@link ByteBuffer} to write to at its position.
+     * @throws java.nio.BufferOverflowException If the buffer has too little space remaining.
+     */
+    public static void write(@NonNull final short[] packedGame, @NonNull final ByteBuffer buffer)
+    {
+        buffer.putShort((short) packedGame.length);
+        for (final short packedFrame : packedGame)
+        {
+            buffer.putShort(packedFrame);
+        }
+    }
+
+    /**
+     * Reads a packed game written by {@link #write}.
+     * @param buffer The {@link ByteBuffer} to read from at its position.
+     * @return The non-null packed game.
+     * @throws java.nio.BufferUnderflowException If the buffer holds too few bytes.
+     */
+    @NonNull
+    public static short[] read(@NonNull final ByteBuffer buffer)
+    {
+        // The number of frames is unsigned, and checked before allocating so that a corrupt length cannot.
+        final int numberOfFrames = Short.toUnsignedInt(buffer.getShort());
+        if (numberOfFrames * Short.BYTES > buffer.remaining())
+        {
+            throw new BufferUnderflowException();
+        }
+        final short[] packedGame = new short[numberOfFrames];
+        for (int i = 0; i < packedGame.length; i++)
+        {
+            packedGame[i] = buffer.getShort();
+        }
+        return packedGame;
+    }
+
+    /**
+     * Packs the game into {@code long}s.
+     * @param packedGame The packed game.
+     * @return The non-null {@code long}s holding the number of frames followed by the frames.
+     */
+    @NonNull
+    public static long[] toLongs(@NonNull final short[] packedGame)
+    {
+        final long[] words = new long[(packedGame.length + SHORTS_PER_LONG) / SHORTS_PER_LONG];
+        words[0] = packedGame.length;
+        for (int i = 0; i < packedGame.length; i++)
+        {
+            final int lane = i + 1;
+            words[lane / SHORTS_PER_LONG] |= (packedGame[i] & 0xFFFFL) << (Short.SIZE * (lane % SHORTS_PER_LONG));
+        }
+        return words;
+    }
+
+    /**
+     * Unpacks the game from {@code long}s written by {@link #toLongs}.
+     * @param words The {@code long}s.
+     * @return The non-null packed game.
+     */
+    @NonNull
+    public static short[] fromLongs(@NonNull final long[] words)
+    {
+        final short[] packedGame = new short[(int) (words[0] & 0xFFFF)];
+        for (int i = 0; i < packedGame.length; i++)
+        {
+            packedGame[i] = getLane(words, i + 1);
+        }
+        return packedGame;
+    }
+
+    /**
+     * Calculates the score of the packed game with the standard bonus rules: two bonus rolls for a strike and one for a
+     * spare. Use {@link #calculateScore(BowlingGame, short[])} for games of other rules.
+     * @param packedGame The packed game, ending with the {@link FrameType#BONUS} frame.
+     * @return The non-negative score of the game.
+     */
+    public static int calculateScore(@NonNull final short[] packedGame)
+    {
+        return calculateScore(packedGame, STANDARD_STRIKE_BONUS_ROLLS, STANDARD_SPARE_BONUS_ROLLS);
+    }
+
+    /**
+     * Calculates the score of the packed game with the bonus rules of the given {@link BowlingGame}.
+     * @param bowlingGame The {@link BowlingGame} the game was packed with.
+     * @param packedGame The packed game, ending with the {@link FrameType#BONUS} frame.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If the game does not have the frames of the {@link BowlingGame}.
+     */
+    public static int calculateScore(@NonNull final BowlingGame bowlingGame, @NonNull final short[] packedGame)
+    {
+        checkNumberOfFrames(bowlingGame, packedGame.length);
+        return calculateScore(packedGame, bowlingGame.getStrikeBonusRolls(), bowlingGame.getSpareBonusRolls());
+    }
+
+    /**
+     * @param packedGame The packed game, ending with the {@link FrameType#BONUS} frame.
+     * @param strikeBonusRolls The number of bonus rolls earned by a strike.
+     * @param spareBonusRolls The number of bonus rolls earned by a spare.
+     * @return The non-negative score of the game.
+     */
+    private static int calculateScore(@NonNull final short[] packedGame, final int strikeBonusRolls, final int spareBonusRolls)
+    {
+        int totalScore = 0;
+        int firstRollMultiplier = 1;
+        int secondRollMultiplier = 1;
+        for (final short packedFrame : packedGame)
+        {
+            totalScore += scoreFrame(packedFrame, firstRollMultiplier, secondRollMultiplier);
+            final int multipliers = nextMultipliers(packedFrame, firstRollMultiplier, secondRollMultiplier, strikeBonusRolls, spareBonusRolls);
+            firstRollMultiplier = multipliers >>> Short.SIZE;
+            secondRollMultiplier = multipliers & 0xFFFF;
+        }
+        return totalScore;
+    }
+
+    /**
+     * Calculates the score of the game packed into {@code long}s by {@link #toLongs}, with the standard bonus rules.
+     * Use {@link #calculateScore(BowlingGame, long[])} for games of other rules.
+     * @param words The {@code long}s.
+     * @return The non-negative score of the game.
+     */
+    public static int calculateScore(@NonNull final long[] words)
+    {
+        return calculateScore(words, STANDARD_STRIKE_BONUS_ROLLS, STANDARD_SPARE_BONUS_ROLLS);
+    }
+
+    /**
+     * Calculates the score of the game packed into {@code long}s by {@link #toLongs}, with the bonus rules of the given
+     * {@link BowlingGame}.
+     * @param bowlingGame The {@link BowlingGame} the game was packed with.
+     * @param words The {@code long}s.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If the game does not have the frames of the {@link BowlingGame}.
+     */
+    public static int calculateScore(@NonNull final BowlingGame bowlingGame, @NonNull final long[] words)
+    {
+        checkNumberOfFrames(bowlingGame, (int) (words[0] & 0xFFFF));
+        return calculateScore(words, bowlingGame.getStrikeBonusRolls(), bowlingGame.getSpareBonusRolls());
+    }
+
+    /**
+     * @param words The {@code long}s.
+     * @param strikeBonusRolls The number of bonus rolls earned by a strike.
+     * @param spareBonusRolls The number of bonus rolls earned by a spare.
+     * @return The non-negative score of the game.
+     */
+    private static int calculateScore(@NonNull final long[] words, final int strikeBonusRolls, final int spareBonusRolls)
+    {
+        final int numberOfFrames = (int) (words[0] & 0xFFFF);
+        int totalScore = 0;
+        int firstRollMultiplier = 1;
+        int secondRollMultiplier = 1;
+        for (int lane = 1; lane <= numberOfFrames; lane++)
+        {
+            final short packedFrame = getLane(words, lane);
+            totalScore += scoreFrame(packedFrame, firstRollMultiplier, secondRollMultiplier);
+            final int multipliers = nextMultipliers(packedFrame, firstRollMultiplier, secondRollMultiplier, strikeBonusRolls, spareBonusRolls);
+            firstRollMultiplier = multipliers >>> Short.SIZE;
+            secondRollMultiplier = multipliers & 0xFFFF;
+        }
+        return totalScore;
+    }
+
+    /**
+     * @param packedFrame The packed frame.
+     * @return The non-null {@link FrameType} of the packed frame.
+     */
+    @NonNull
+    public static FrameType getFrameType(final short packedFrame)
+    {
+        return FRAME_TYPES[packedFrame & FRAME_TYPE_MASK];
+    }
+
+    /**
+     * @param packedFrame The packed frame.
+     * @return The non-negative first roll value of the packed frame.
+     */
+    public static int getFirstRollValue(final short packedFrame)
+    {
+        return (packedFrame >>> FIRST_ROLL_SHIFT) & MAX_ROLL_VALUE;
+    }
+
+    /**
+     * @param packedFrame The packed frame.
+     * @return The non-negative second roll value of the packed frame.
+     */
+    public static int getSecondRollValue(final short packedFrame)
+    {
+        return (packedFrame >>> SECOND_ROLL_SHIFT) & MAX_ROLL_VALUE;
+    }
+
+    /**
+     * @param bowlingGame The {@link BowlingGame}.
+     * @param numberOfFrames The number of frames of a packed game, including the {@link FrameType#BONUS} frame.
+     * @throws IllegalArgumentException If the number of frames is not that of the {@link BowlingGame}.
+     */
+    private static void checkNumberOfFrames(@NonNull final BowlingGame bowlingGame, final int numberOfFrames)
+    {
+        Preconditions.checkArgument(numberOfFrames == bowlingGame.getNumberOfFrames() + 1, "packedGame must have %s frames.",
+                bowlingGame.getNumberOfFrames() + 1);
+    }
+
+    /**
+     * @param words The {@code long}s.
+     * @param lane The index of the {@code short} lane.
+     * @return The {@code short} in the lane.
+     */
+    private static short getLane(@NonNull final long[] words, final int lane)
+    {
+        return (short) (words[lane / SHORTS_PER_LONG] >>> (Short.SIZE * (lane % SHORTS_PER_LONG)));
+    }
+
+    /**
+     * Scores a packed frame with the multipliers earned by the previous frames.
+     * @param packedFrame The packed frame.
+     * @param firstRollMultiplier The multiplier of the first roll.
+     * @param secondRollMultiplier The multiplier of the second roll.
+     * @return The score of the frame.
+     */
+    private static int scoreFrame(final short packedFrame, final int firstRollMultiplier, final int secondRollMultiplier)
+    {
+        final int firstRollValue = getFirstRollValue(packedFrame);
+        final int secondRollValue = getSecondRollValue(packedFrame);
+        final int score = (firstRollValue * firstRollMultiplier) + (secondRollValue * secondRollMultiplier);
+        // For the bonus frame remove base value otherwise it will be counted twice.
+        return (packedFrame & FRAME_TYPE_MASK) == FrameType.BONUS.ordinal() ? score - firstRollValue - secondRollValue : score;
+    }
+
+    /**
+     * Gets the multipliers of the frame after the packed frame, as in {@link BowlingGame#calculateScore}.
+     * @param packedFrame The packed frame.
+     * @param firstRollMultiplier The multiplier of the first roll of the packed frame.
+     * @param secondRollMultiplier The multiplier of the second roll of the packed frame.
+     * @param strikeBonusRolls The number of bonus rolls earned by a strike, at most two.
+     * @param spareBonusRolls The number of bonus rolls earned by a spare, at most two.
+     * @return The first roll multiplier in the high 16 bits and the second roll multiplier in the low 16 bits.
+     */
+    private static int nextMultipliers(final short packedFrame, final int firstRollMultiplier, final int secondRollMultiplier,
+                                       final int strikeBonusRolls, final int spareBonusRolls)
+    {
+        switch (getFrameType(packedFrame))
+        {
+            case PINS:
+                return (1 << Short.SIZE) | 1;
+            case SPARE:
+                return ((1 + Math.min(spareBonusRolls, 1)) << Short.SIZE) | (1 + Math.max(spareBonusRolls - 1, 0));
+            case STRIKE:
+                return ((secondRollMultiplier + Math.min(strikeBonusRolls, 1)) << Short.SIZE) | (1 + Math.max(strikeBonusRolls - 1, 0));
+            default:
+                return (firstRollMultiplier << Short.SIZE) | secondRollMultiplier;
+        }
+    }
+}
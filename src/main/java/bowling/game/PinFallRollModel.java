@@ -0,0 +1,74 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.SplittableRandom;
+
+/**
+ * A {@link RollModel} that draws the pins knocked down from a fixed distribution per number of standing pins, held as
+ * cumulative probabilities, so that a roll takes one random double and a scan of at most one more entry than there
+ * are standing pins.
+ */
+final class PinFallRollModel implements RollModel
+{
+    private final double[][] cumulativeProbabilities;
+
+    /**
+     * Constructor for {@link PinFallRollModel}.
+     * @param weightsByStandingPins For each number of standing pins {@code s} from 0, the non-negative relative
+     * weights of knocking down 0 to {@code s} pins.
+     * @throws IllegalArgumentException If weightsByStandingPins is {@code null}, has fewer than two rows, or a row is
+     * not a valid distribution.
+     */
+    PinFallRollModel(@NonNull final double[][] weightsByStandingPins)
+    {
+        Preconditions.checkArgument(weightsByStandingPins != null, "weightsByStandingPins cannot be null.");
+        Preconditions.checkArgument(weightsByStandingPins.length > 1, "weightsByStandingPins must have a row for at least one pin.");
+        this.cumulativeProbabilities = new double[weightsByStandingPins.length][];
+        for (int standingPins = 0; standingPins < weightsByStandingPins.length; standingPins++)
+        {
+            final double[] weights = weightsByStandingPins[standingPins];
+            Preconditions.checkArgument(weights != null && weights.length == standingPins + 1,
+                    "weights for %s standing pins must have %s entries.", standingPins, standingPins + 1);
+            double total = 0;
+            for (final double weight : weights)
+            {
+                Preconditions.checkArgument(weight >= 0 && weight < Double.POSITIVE_INFINITY,
+                        "weights for %s standing pins must be non-negative and finite.", standingPins);
+                total += weight;
+            }
+            Preconditions.checkArgument(total > 0, "weights for %s standing pins cannot all be 0.", standingPins);
+
+            final double[] cumulative = new double[standingPins + 1];
+            double sum = 0;
+            for (int pins = 0; pins <= standingPins; pins++)
+            {
+                sum += weights[pins];
+                cumulative[pins] = sum / total;
+            }
+            // Rounding must not leave a draw just below 1 past the last entry.
+            cumulative[standingPins] = 1;
+            cumulativeProbabilities[standingPins] = cumulative;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException If there are more standing pins than the distribution has rows for.
+     */
+    @Override
+    public int roll(final int frame, final int rollInFrame, final int standingPins, @NonNull final SplittableRandom random)
+    {
+        Preconditions.checkArgument(standingPins < cumulativeProbabilities.length,
+                "Distribution has no weights for %s standing pins.", standingPins);
+        final double[] cumulative = cumulativeProbabilities[standingPins];
+        final double draw = random.nextDouble();
+        int pins = 0;
+        while (draw >= cumulative[pins])
+        {
+            pins++;
+        }
+        return pins;
+    }
+}
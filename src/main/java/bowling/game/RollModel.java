@@ -0,0 +1,76 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.SplittableRandom;
+
+/**
+ * A probability model of the pins a bowler knocks down, which a {@link GameSimulator} draws every roll from. A model
+ * draws only from the given random, and is called from many threads at once, so it must be thread-safe; a model
+ * without mutable state, such as one of the factories here, is.
+ */
+@FunctionalInterface
+public interface RollModel
+{
+    /**
+     * Draws the number of pins knocked down by a roll.
+     * @param frame The index of the frame, or the number of frames for a bonus roll.
+     * @param rollInFrame The index of the roll in its frame, or in the bonus rolls.
+     * @param standingPins The positive number of standing pins.
+     * @param random The {@link SplittableRandom} to draw from.
+     * @return The number of pins knocked down, between 0 and standingPins.
+     */
+    int roll(int frame, int rollInFrame, int standingPins, @NonNull SplittableRandom random);
+
+    /**
+     * @return The non-null {@link RollModel} that knocks down any number of the standing pins with equal probability.
+     */
+    @NonNull
+    static RollModel uniform()
+    {
+        return (frame, rollInFrame, standingPins, random) -> random.nextInt(standingPins + 1);
+    }
+
+    /**
+     * Creates a {@link RollModel} in which every standing pin falls independently with the same probability.
+     * @param numberOfPins The largest number of standing pins.
+     * @param pinFallProbability The probability that a standing pin falls, between 0 and 1.
+     * @return The non-null {@link RollModel}.
+     * @throws IllegalArgumentException If numberOfPins is not positive, or pinFallProbability is not between 0 and 1.
+     */
+    @NonNull
+    static RollModel binomial(final int numberOfPins, final double pinFallProbability)
+    {
+        Preconditions.checkArgument(numberOfPins > 0, "numberOfPins must be positive.");
+        Preconditions.checkArgument(pinFallProbability >= 0 && pinFallProbability <= 1, "pinFallProbability must be between 0 and 1.");
+        final double[][] weights = new double[numberOfPins + 1][];
+        for (int standingPins = 0; standingPins <= numberOfPins; standingPins++)
+        {
+            weights[standingPins] = new double[standingPins + 1];
+            double binomialCoefficient = 1;
+            for (int pins = 0; pins <= standingPins; pins++)
+            {
+                weights[standingPins][pins] = binomialCoefficient * Math.pow(pinFallProbability, pins)
+                        * Math.pow(1 - pinFallProbability, standingPins - pins);
+                binomialCoefficient = binomialCoefficient * (standingPins - pins) / (pins + 1);
+            }
+        }
+        return new PinFallRollModel(weights);
+    }
+
+    /**
+     * Creates a {@link RollModel} from a pin-fall distribution per number of standing pins, such as one counted from
+     * the games of a bowler.
+     * @param weightsByStandingPins For each number of standing pins {@code s} from 0, the non-negative relative
+     * weights of knocking down 0 to {@code s} pins, which are {@code s + 1} weights that do not all equal 0.
+     * @return The non-null {@link RollModel}, for games of at most {@code weightsByStandingPins.length - 1} pins.
+     * @throws IllegalArgumentException If weightsByStandingPins is {@code null}, has fewer than two rows, or a row is
+     * not a valid distribution.
+     */
+    @NonNull
+    static RollModel fromWeights(@NonNull final double[][] weightsByStandingPins)
+    {
+        return new PinFallRollModel(weightsByStandingPins);
+    }
+}
@@ -0,0 +1,291 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of the outcomes of scoring games with one {@link BowlingGame}, for traffic in which the
+ * same games repeat. Games are looked up by a hash of their characters, computed over the given {@link CharSequence}
+ * or bytes in place, and matched against the characters of the cached game, so a hit copies nothing. Only a miss
+ * copies the game, once, into the {@link String} it is cached under, and concurrent misses on the same game score it
+ * once. Invalid games are cached too, and the least recently used games are evicted first.
+ */
+public class ScoreCache
+{
+    private static final ThreadLocal<GameKey> LOOKUP_KEYS = ThreadLocal.withInitial(GameKey::new);
+    private static final ThreadLocal<AsciiByteSequence> BYTE_VIEWS = ThreadLocal.withInitial(AsciiByteSequence::new);
+
+    private final BowlingGame bowlingGame;
+    private final Cache<GameKey, Long> outcomes;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor for {@link ScoreCache}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param maximumSize The maximum number of cached games.
+     * @throws IllegalArgumentException If bowlingGame is {@code null} or maximumSize is not positive.
+     */
+    public ScoreCache(@NonNull final BowlingGame bowlingGame, final long maximumSize)
+    {
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        Preconditions.checkArgument(maximumSize > 0, "maximumSize must be positive.");
+
+        this.bowlingGame = bowlingGame;
+        this.outcomes = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Calculates the score of the given game, like {@link BowlingGame#calculateScore(CharSequence)}.
+     * @param game The game to calculate the score of.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If game is null, empty, blank, or invalid.
+     */
+    public int calculateScore(@NonNull final CharSequence game)
+    {
+        final long outcome = getOutcome(game);
+        if (ScoreResult.isError(outcome))
+        {
+            throw bowlingGame.createException(game, outcome);
+        }
+        return (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the game held as ASCII bytes in the given range of the array, like
+     * {@link BowlingGame#calculateScore(byte[], int, int)}, looking it up without copying the bytes.
+     * @param bytes The array holding the game.
+     * @param offset The index of the first byte of the game.
+     * @param length The number of bytes of the game.
+     * @return The non-negative score of the game.
+     * @throws IllegalArgumentException If bytes is null, the range is not within bytes, or the game is empty, blank, or
+     * invalid.
+     */
+    public int calculateScore(@NonNull final byte[] bytes, final int offset, final int length)
+    {
+        final long outcome = getOutcome(bytes, offset, length);
+        if (ScoreResult.isError(outcome))
+        {
+            throw bowlingGame.createException(bytes == null ? null : new AsciiByteSequence().wrap(bytes, offset, length), outcome);
+        }
+        return (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the given game without throwing, like {@link BowlingGame#tryCalculateScore(CharSequence)}.
+     * @param game The game to calculate the score of.
+     * @return The non-negative score of the game, or {@link BowlingGame#INVALID_SCORE} if the game is invalid.
+     */
+    public int tryCalculateScore(final CharSequence game)
+    {
+        final long outcome = getOutcome(game);
+        return ScoreResult.isError(outcome) ? BowlingGame.INVALID_SCORE : (int) outcome;
+    }
+
+    /**
+     * Calculates the score of the game held as ASCII bytes in the given range of the array without throwing, like
+     * {@link BowlingGame#tryCalculateScore(byte[], int, int)}, looking it up without copying the bytes.
+     * @param bytes The array holding the game.
+     * @param offset The index of the first byte of the game.
+     * @param length The number of bytes of the game.
+     * @return The non-negative score of the game, or {@link BowlingGame#INVALID_SCORE} if bytes is null or the game is
+     * invalid.
+     * @throws IllegalArgumentException If the range is not within bytes.
+     */
+    public int tryCalculateScore(final byte[] bytes, final int offset, final int length)
+    {
+        final long outcome = getOutcome(bytes, offset, length);
+        return ScoreResult.isError(outcome) ? BowlingGame.INVALID_SCORE : (int) outcome;
+    }
+
+    /**
+     * Scores or validates the given game without throwing, like {@link BowlingGame#evaluate}.
+     * @param game The game to evaluate.
+     * @return The non-null {@link ScoreResult} of the game.
+     */
+    @NonNull
+    public ScoreResult evaluate(final CharSequence game)
+    {
+        return ScoreResult.decode(getOutcome(game));
+    }
+
+    /**
+     * @return The number of lookups that found a cached game.
+     */
+    public long hitCount()
+    {
+        return lookups.sum() - misses.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to score the game.
+     */
+    public long missCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of games evicted to respect the maximum size.
+     */
+    public long evictionCount()
+    {
+        return outcomes.stats().evictionCount();
+    }
+
+    /**
+     * @return The approximate number of cached games.
+     */
+    public long size()
+    {
+        return outcomes.size();
+    }
+
+    /**
+     * Gets the cached outcome of the game, scoring and caching it on a miss.
+     * @param game The game.
+     * @return The encoded outcome as described in {@link ScoreResult}.
+     */
+    private long getOutcome(final CharSequence game)
+    {
+        if (game == null)
+        {
+            return bowlingGame.evaluateSinglePass(null);
+        }
+        final GameKey lookupKey = LOOKUP_KEYS.get().wrap(game);
+        try
+        {
+            return getOutcome(lookupKey);
+        }
+        finally
+        {
+            lookupKey.release();
+        }
+    }
+
+    /**
+     * Gets the cached outcome of the game held as bytes, through this thread's reusable view of them.
+     * @param bytes The array, or {@code null}.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes.
+     * @return The encoded outcome as described in {@link ScoreResult}.
+     * @throws IllegalArgumentException If the range is not within bytes.
+     */
+    private long getOutcome(final byte[] bytes, final int offset, final int length)
+    {
+        if (bytes == null)
+        {
+            return bowlingGame.evaluateSinglePass(null);
+        }
+        Preconditions.checkArgument(offset >= 0 && length >= 0 && offset <= bytes.length - length,
+                "offset %s and length %s are not within %s bytes.", offset, length, bytes.length);
+        final AsciiByteSequence view = BYTE_VIEWS.get().wrap(bytes, offset, length);
+        try
+        {
+            return getOutcome(view);
+        }
+        finally
+        {
+            view.release();
+        }
+    }
+
+    /**
+     * Gets the cached outcome of the game. A miss copies the game into a new key, and only the first of concurrent
+     * misses on the same game scores it.
+     * @param lookupKey The {@link GameKey} wrapping the game.
+     * @return The encoded outcome as described in {@link ScoreResult}.
+     */
+    private long getOutcome(@NonNull final GameKey lookupKey)
+    {
+        lookups.increment();
+        final Long cachedOutcome = outcomes.asMap().get(lookupKey);
+        if (cachedOutcome != null)
+        {
+            return cachedOutcome;
+        }
+        return outcomes.asMap().computeIfAbsent(new GameKey().wrap(lookupKey.game.toString()), key ->
+        {
+            misses.increment();
+            return bowlingGame.evaluateSinglePass(key.game);
+        });
+    }
+
+    /**
+     * The key of a cached game: its characters and their hash, which is that of {@link String#hashCode()}, so a
+     * {@link String} game reuses the hash it caches. A lookup wraps the game in a reusable key without copying it, while
+     * a cached game is wrapped as a {@link String}.
+     */
+    private static final class GameKey
+    {
+        private CharSequence game;
+        private int hash;
+
+        /**
+         * Points this key at the given game and hashes its characters.
+         * @param game The game.
+         * @return This {@link GameKey}.
+         */
+        @NonNull
+        private GameKey wrap(@NonNull final CharSequence game)
+        {
+            this.game = game;
+            if (game instanceof String)
+            {
+                this.hash = game.hashCode();
+                return this;
+            }
+            int hash = 0;
+            for (int i = 0; i < game.length(); i++)
+            {
+                hash = 31 * hash + game.charAt(i);
+            }
+            this.hash = hash;
+            return this;
+        }
+
+        /**
+         * Drops the reference to the game, so that a key kept for reuse does not keep it reachable.
+         */
+        private void release()
+        {
+            this.game = null;
+        }
+
+        @Override
+        public boolean equals(final Object other)
+        {
+            if (!(other instanceof GameKey) || ((GameKey) other).hash != hash)
+            {
+                return false;
+            }
+            final CharSequence otherGame = ((GameKey) other).game;
+            if (otherGame.length() != game.length())
+            {
+                return false;
+            }
+            for (int i = 0; i < game.length(); i++)
+            {
+                if (otherGame.charAt(i) != game.charAt(i))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
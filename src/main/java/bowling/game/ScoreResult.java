@@ -0,0 +1,154 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * The outcome of scoring a game without throwing: either the score, or the {@link GameError} and the character offset
+ * at which the game is invalid. Results for common scores are shared instances.
+ * <p>
+ * Internally an outcome is a {@code long} that is the non-negative score, or has the sign bit set with the offset in
+ * bits 8-38 and the {@link GameError} ordinal in bits 0-7.
+ */
+public final class ScoreResult
+{
+    private static final int CACHED_SCORES = 1024;
+    private static final ScoreResult[] VALID_RESULTS = new ScoreResult[CACHED_SCORES];
+    private static final GameError[] GAME_ERRORS = GameError.values();
+    private static final long ERROR_FLAG = Long.MIN_VALUE;
+    private static final int OFFSET_SHIFT = 8;
+    private static final long ERROR_MASK = (1L << OFFSET_SHIFT) - 1;
+
+    static
+    {
+        for (int score = 0; score < CACHED_SCORES; score++)
+        {
+            VALID_RESULTS[score] = new ScoreResult(score, null, -1);
+        }
+    }
+
+    private final int score;
+    private final GameError error;
+    private final int errorOffset;
+
+    /**
+     * Constructor for {@link ScoreResult}. Declared private to prevent direct instantiation.
+     * @param score The score, or {@link BowlingGame#INVALID_SCORE}.
+     * @param error The {@link GameError}, or {@code null} if valid.
+     * @param errorOffset The offset of the error, or -1 if valid.
+     */
+    private ScoreResult(final int score, final GameError error, final int errorOffset)
+    {
+        this.score = score;
+        this.error = error;
+        this.errorOffset = errorOffset;
+    }
+
+    /**
+     * @param score The non-negative score.
+     * @return The non-null valid {@link ScoreResult}.
+     */
+    @NonNull
+    static ScoreResult valid(final int score)
+    {
+        return score < CACHED_SCORES ? VALID_RESULTS[score] : new ScoreResult(score, null, -1);
+    }
+
+    /**
+     * @param error The {@link GameError}.
+     * @param errorOffset The non-negative offset of the error.
+     * @return The non-null invalid {@link ScoreResult}.
+     */
+    @NonNull
+    static ScoreResult invalid(@NonNull final GameError error, final int errorOffset)
+    {
+        return new ScoreResult(BowlingGame.INVALID_SCORE, error, errorOffset);
+    }
+
+    /**
+     * @param outcome The encoded outcome.
+     * @return The non-null {@link ScoreResult} of the outcome.
+     */
+    @NonNull
+    static ScoreResult decode(final long outcome)
+    {
+        return isError(outcome) ? invalid(getError(outcome), getErrorOffset(outcome)) : valid((int) outcome);
+    }
+
+    /**
+     * @param error The {@link GameError}.
+     * @param errorOffset The non-negative offset of the error.
+     * @return The encoded outcome of the error.
+     */
+    static long encodeError(@NonNull final GameError error, final int errorOffset)
+    {
+        return ERROR_FLAG | ((long) errorOffset << OFFSET_SHIFT) | error.ordinal();
+    }
+
+    /**
+     * @param outcome The encoded outcome.
+     * @return True if the outcome is an error, false if it is a score.
+     */
+    static boolean isError(final long outcome)
+    {
+        return outcome < 0;
+    }
+
+    /**
+     * @param outcome The encoded error outcome.
+     * @return The non-null {@link GameError} of the outcome.
+     */
+    @NonNull
+    static GameError getError(final long outcome)
+    {
+        return GAME_ERRORS[(int) (outcome & ERROR_MASK)];
+    }
+
+    /**
+     * @param outcome The encoded error outcome.
+     * @return The non-negative offset of the error.
+     */
+    static int getErrorOffset(final long outcome)
+    {
+        return (int) ((outcome & ~ERROR_FLAG) >>> OFFSET_SHIFT);
+    }
+
+    /**
+     * @return True if the game is valid, false otherwise.
+     */
+    public boolean isValid()
+    {
+        return error == null;
+    }
+
+    /**
+     * @return The non-negative score of a valid game, or {@link BowlingGame#INVALID_SCORE} if the game is invalid.
+     */
+    public int getScore()
+    {
+        return score;
+    }
+
+    /**
+     * @return The {@link GameError} of an invalid game, or {@code null} if the game is valid.
+     */
+    @CheckForNull
+    public GameError getError()
+    {
+        return error;
+    }
+
+    /**
+     * @return The offset of the character at which an invalid game fails, or -1 if the game is valid.
+     */
+    public int getErrorOffset()
+    {
+        return errorOffset;
+    }
+
+    @Override
+    public String toString()
+    {
+        return isValid() ? String.format("ScoreResult[score=%d]", score) : String.format("ScoreResult[error=%s, errorOffset=%d]", error, errorOffset);
+    }
+}
@@ -0,0 +1,200 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The state of one {@link ScoringServer} connection, driven by its event loop. Every complete request line in the
+ * input buffer is scored in place and its response is appended to the output buffer, so pipelined requests are
+ * answered together by one write. While responses cannot be written the connection stops reading, which pushes back
+ * on the client through TCP flow control.
+ */
+final class ScoringConnection
+{
+    private static final int MAX_RESPONSE_LENGTH = 64;
+    private static final byte[] ERROR_PREFIX = "ERROR ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_TOO_LONG = "ERROR LINE_TOO_LONG\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] ERROR_NAMES = createErrorNames();
+
+    private final SocketChannel channel;
+    private final BowlingGame bowlingGame;
+    private final ByteBuffer input;
+    private final ByteBuffer output;
+    private final AsciiByteSequence line = new AsciiByteSequence();
+    private boolean endOfInput;
+    private boolean lineTooLong;
+
+    /**
+     * Constructor for {@link ScoringConnection}.
+     * @param channel The connected {@link SocketChannel}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param maxLineLength The largest request line, including its line ending.
+     * @param outputBufferSize The number of response bytes buffered before the connection stops reading.
+     */
+    ScoringConnection(@NonNull final SocketChannel channel, @NonNull final BowlingGame bowlingGame, final int maxLineLength,
+                      final int outputBufferSize)
+    {
+        this.channel = channel;
+        this.bowlingGame = bowlingGame;
+        this.input = ByteBuffer.allocate(maxLineLength);
+        this.output = ByteBuffer.allocate(Math.max(outputBufferSize, MAX_RESPONSE_LENGTH));
+    }
+
+    /**
+     * @return The non-null names of the {@link GameError}s as ASCII bytes, indexed by ordinal.
+     */
+    @NonNull
+    private static byte[][] createErrorNames()
+    {
+        final GameError[] errors = GameError.values();
+        final byte[][] names = new byte[errors.length][];
+        for (final GameError error : errors)
+        {
+            names[error.ordinal()] = error.name().getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+
+    /**
+     * Reads what the channel has, answers every complete request that fits the output buffer and writes the responses.
+     * @param key The {@link SelectionKey} of the channel, whose interest is updated.
+     * @throws IOException If the channel cannot be read or written.
+     */
+    void handle(@NonNull final SelectionKey key) throws IOException
+    {
+        if (key.isReadable() && !endOfInput && channel.read(input) < 0)
+        {
+            endOfInput = true;
+        }
+        // Requests left over by a full output buffer are answered as soon as the write makes room, as no more input
+        // may ever come to trigger them.
+        boolean requestsPending;
+        do
+        {
+            requestsPending = processLines();
+            output.flip();
+            channel.write(output);
+            output.compact();
+        }
+        while (requestsPending && output.remaining() >= MAX_RESPONSE_LENGTH);
+
+        final boolean responsesPending = output.position() > 0;
+        if (!responsesPending && !requestsPending && (endOfInput || lineTooLong))
+        {
+            close(key);
+        }
+        else
+        {
+            key.interestOps(responsesPending || requestsPending ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Closes the channel.
+     * @param key The {@link SelectionKey} of the channel.
+     */
+    void close(@NonNull final SelectionKey key)
+    {
+        key.cancel();
+        try
+        {
+            channel.close();
+        }
+        catch (final IOException e)
+        {
+            // The connection is being discarded, there is nothing left to report to.
+        }
+    }
+
+    /**
+     * Answers the complete request lines in the input buffer while the output buffer has room. After the end of input,
+     * a last line without a line ending is a request too.
+     * @return True if complete requests are left unanswered because the output buffer is full, false otherwise.
+     */
+    private boolean processLines()
+    {
+        if (lineTooLong)
+        {
+            return false;
+        }
+        input.flip();
+        int lineStart = input.position();
+        boolean requestsPending = false;
+        for (int i = lineStart; i < input.limit(); i++)
+        {
+            if (input.get(i) == '\n')
+            {
+                if (output.remaining() < MAX_RESPONSE_LENGTH)
+                {
+                    requestsPending = true;
+                    break;
+                }
+                respond(lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        if (!requestsPending && endOfInput && lineStart < input.limit() && output.remaining() >= MAX_RESPONSE_LENGTH)
+        {
+            respond(lineStart, input.limit());
+            lineStart = input.limit();
+        }
+        input.position(lineStart);
+        input.compact();
+
+        if (!requestsPending && !input.hasRemaining())
+        {
+            lineTooLong = true;
+            output.put(LINE_TOO_LONG);
+        }
+        return requestsPending;
+    }
+
+    /**
+     * Scores the request line between the given offsets of the input buffer, ignoring a trailing {@code \r}, and
+     * appends the score or {@code ERROR <GameError> <offset>} as a line to the output buffer.
+     * @param from The offset of the first byte of the line.
+     * @param to The offset of the {@code \n} ending the line, or the end of the input.
+     */
+    private void respond(final int from, final int to)
+    {
+        final int end = to > from && input.get(to - 1) == '\r' ? to - 1 : to;
+        final long outcome = bowlingGame.evaluateSinglePass(line.wrap(input, from, end - from));
+        if (ScoreResult.isError(outcome))
+        {
+            output.put(ERROR_PREFIX).put(ERROR_NAMES[ScoreResult.getError(outcome).ordinal()]).put((byte) ' ');
+            putDecimal(ScoreResult.getErrorOffset(outcome));
+        }
+        else
+        {
+            putDecimal(outcome);
+        }
+        output.put((byte) '\n');
+    }
+
+    /**
+     * Appends the non-negative value as ASCII decimal digits to the output buffer.
+     * @param value The non-negative value.
+     */
+    private void putDecimal(final long value)
+    {
+        final int start = output.position();
+        long remaining = value;
+        do
+        {
+            output.put((byte) ('0' + remaining % 10));
+            remaining /= 10;
+        }
+        while (remaining > 0);
+        for (int left = start, right = output.position() - 1; left < right; left++, right--)
+        {
+            final byte digit = output.get(left);
+            output.put(left, output.get(right));
+            output.put(right, digit);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package bowling.game;
+
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records what the {@link BowlingGame}s it is attached to with {@link BowlingGame.Builder#withMetrics} score: the
+ * number of valid games, the failures by {@link GameError}, the frames of valid games by {@link FrameType}, and a
+ * histogram of scoring latencies. Every count is a striped {@link LongAdder}, so recording from many threads does not
+ * contend; reads are not atomic snapshots across counts. A {@link BowlingGame} without metrics does not record at
+ * all. Latencies are bucketed by powers of two: bucket 0 counts latencies of 0 ns and bucket {@code b} counts
+ * latencies from {@code 2^(b - 1)} inclusive to {@code 2^b} exclusive nanoseconds.
+ */
+public class ScoringMetrics
+{
+    /**
+     * The number of latency histogram buckets.
+     */
+    public static final int LATENCY_BUCKETS = Long.SIZE;
+
+    private static final GameError[] GAME_ERRORS = GameError.values();
+    private static final FrameType[] FRAME_TYPES = FrameType.values();
+
+    private final LongAdder gamesScored = new LongAdder();
+    private final LongAdder[] failures = createAdders(GAME_ERRORS.length);
+    private final LongAdder[] frames = createAdders(FRAME_TYPES.length);
+    private final LongAdder[] latencyBuckets = createAdders(LATENCY_BUCKETS);
+    private final LongAdder totalLatencyNanos = new LongAdder();
+
+    /**
+     * @param size The number of adders.
+     * @return The non-null array of new {@link LongAdder}s.
+     */
+    @NonNull
+    private static LongAdder[] createAdders(final int size)
+    {
+        final LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++)
+        {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Records a valid game.
+     * @param strikes The number of {@link FrameType#STRIKE} frames.
+     * @param spares The number of {@link FrameType#SPARE} frames.
+     * @param pins The number of {@link FrameType#PINS} frames.
+     * @param latencyNanos The time taken to score the game.
+     */
+    void recordGame(final int strikes, final int spares, final int pins, final long latencyNanos)
+    {
+        gamesScored.increment();
+        frames[FrameType.STRIKE.ordinal()].add(strikes);
+        frames[FrameType.SPARE.ordinal()].add(spares);
+        frames[FrameType.PINS.ordinal()].add(pins);
+        frames[FrameType.BONUS.ordinal()].increment();
+        recordLatency(latencyNanos);
+    }
+
+    /**
+     * Records an invalid game.
+     * @param error The {@link GameError} of the game.
+     * @param latencyNanos The time taken to validate the game.
+     */
+    void recordFailure(@NonNull final GameError error, final long latencyNanos)
+    {
+        failures[error.ordinal()].increment();
+        recordLatency(latencyNanos);
+    }
+
+    /**
+     * @param latencyNanos The latency to add to the histogram.
+     */
+    private void recordLatency(final long latencyNanos)
+    {
+        final long latency = Math.max(latencyNanos, 0);
+        latencyBuckets[Math.min(Long.SIZE - Long.numberOfLeadingZeros(latency), LATENCY_BUCKETS - 1)].increment();
+        totalLatencyNanos.add(latency);
+    }
+
+    /**
+     * @return The number of valid games scored.
+     */
+    public long getGamesScored()
+    {
+        return gamesScored.sum();
+    }
+
+    /**
+     * @param error The {@link GameError}.
+     * @return The number of games that failed with the given error.
+     * @throws IllegalArgumentException If error is {@code null}.
+     */
+    public long getFailures(@NonNull final GameError error)
+    {
+        Preconditions.checkArgument(error != null, "error cannot be null.");
+        return failures[error.ordinal()].sum();
+    }
+
+    /**
+     * @return The number of games that failed with any error.
+     */
+    public long getTotalFailures()
+    {
+        long total = 0;
+        for (final LongAdder failure : failures)
+        {
+            total += failure.sum();
+        }
+        return total;
+    }
+
+    /**
+     * @param frameType The {@link FrameType}.
+     * @return The number of frames of the given type in the valid games scored.
+     * @throws IllegalArgumentException If frameType is {@code null}.
+     */
+    public long getFrames(@NonNull final FrameType frameType)
+    {
+        Preconditions.checkArgument(frameType != null, "frameType cannot be null.");
+        return frames[frameType.ordinal()].sum();
+    }
+
+    /**
+     * @return The non-null counts of each latency bucket, as described in {@link ScoringMetrics}.
+     */
+    @NonNull
+    public long[] getLatencyHistogram()
+    {
+        final long[] histogram = new long[LATENCY_BUCKETS];
+        for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++)
+        {
+            histogram[bucket] = latencyBuckets[bucket].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * @return The mean latency in nanoseconds of the games recorded, or 0 if there are none.
+     */
+    public double getMeanLatencyNanos()
+    {
+        final long count = getGamesScored() + getTotalFailures();
+        return count == 0 ? 0 : (double) totalLatencyNanos.sum() / count;
+    }
+
+    /**
+     * Gets an upper bound of a latency percentile from the histogram.
+     * @param percentile The percentile, between 0 exclusive and 100 inclusive.
+     * @return The exclusive upper bound in nanoseconds of the bucket holding the percentile, or 0 if no games were
+     * recorded.
+     * @throws IllegalArgumentException If percentile is not greater than 0 and at most 100.
+     */
+    public long getLatencyPercentileNanos(final double percentile)
+    {
+        Preconditions.checkArgument(percentile > 0 && percentile <= 100, "percentile must be greater than 0 and at most 100.");
+        final long[] histogram = getLatencyHistogram();
+        long count = 0;
+        for (final long bucketCount : histogram)
+        {
+            count += bucketCount;
+        }
+        final long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < LATENCY_BUCKETS; bucket++)
+        {
+            seen += histogram[bucket];
+            if (seen >= rank && seen > 0)
+            {
+                return bucket == LATENCY_BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,67 @@
+package bowling.game;
+
+import com.google.common.annotations.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link Flow.Processor} that receives one game per item and publishes its {@link ScoreResult}, as described in
+ * {@link AbstractScoringProcessor}.
+ */
+public class ScoringProcessor extends AbstractScoringProcessor<CharSequence>
+{
+    /**
+     * Constructor for {@link ScoringProcessor} delivering on the common {@link ForkJoinPool}, with
+     * {@link Flow#defaultBufferSize()} and {@link #DEFAULT_BATCH_SIZE}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}.
+     */
+    public ScoringProcessor(@NonNull final BowlingGame bowlingGame)
+    {
+        this(bowlingGame, ForkJoinPool.commonPool(), Flow.defaultBufferSize(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor for {@link ScoringProcessor}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param executor The {@link Executor} delivering results to subscribers.
+     * @param maxBufferCapacity The maximum number of results buffered for each subscriber.
+     * @param batchSize The number of games requested from upstream at once.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, or maxBufferCapacity or batchSize is not
+     * positive.
+     * @throws NullPointerException If executor is {@code null}.
+     */
+    public ScoringProcessor(@NonNull final BowlingGame bowlingGame, @NonNull final Executor executor, final int maxBufferCapacity,
+                            final int batchSize)
+    {
+        this(bowlingGame, executor, maxBufferCapacity, batchSize, DEFAULT_OFFER_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructor for {@link ScoringProcessor} with the given offer timeout.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param executor The {@link Executor} delivering results to subscribers.
+     * @param maxBufferCapacity The maximum number of results buffered for each subscriber.
+     * @param batchSize The number of games requested from upstream at once.
+     * @param offerTimeoutMillis The longest time publishing a result waits for a full subscriber buffer, in
+     * milliseconds.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, or maxBufferCapacity, batchSize or
+     * offerTimeoutMillis is not positive.
+     * @throws NullPointerException If executor is {@code null}.
+     */
+    @VisibleForTesting
+    ScoringProcessor(@NonNull final BowlingGame bowlingGame, @NonNull final Executor executor, final int maxBufferCapacity,
+                     final int batchSize, final long offerTimeoutMillis)
+    {
+        super(bowlingGame, executor, maxBufferCapacity, batchSize, offerTimeoutMillis);
+    }
+
+    @Override
+    void process(@NonNull final CharSequence game)
+    {
+        publish(game);
+    }
+}
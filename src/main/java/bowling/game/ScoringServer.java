@@ -0,0 +1,394 @@
+package bowling.game;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.Channel;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * An embedded TCP server that scores games with one shared {@link BowlingGame}. The protocol is line based: every
+ * request is a game on its own line, ending with {@code \n} or {@code \r\n}, and every response is a line with the
+ * score, or {@code ERROR <GameError> <offset>} for an invalid game, in the order of the requests. Clients may pipeline
+ * any number of requests without waiting for responses. Lines longer than the maximum line length are answered with
+ * {@code ERROR LINE_TOO_LONG} and the connection is closed.
+ * <p>
+ * Connections are spread round-robin over a fixed pool of event loop threads, each with its own {@link Selector}, and
+ * scoring happens on the event loop, which never blocks. An event loop whose {@link Selector} fails closes its
+ * connections and stops, new connections go to the other event loops, and the server reports the failure from
+ * {@link #isRunning()} and {@link #close()}. If the event loop that accepts connections fails, the server stops
+ * listening too, so clients are refused rather than left waiting in the backlog.
+ */
+public class ScoringServer implements Closeable
+{
+    /**
+     * The default largest request line, including its line ending.
+     */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 4096;
+
+    private static final int OUTPUT_BUFFER_SIZE = 16 * 1024;
+    private static final int ACCEPT_BACKLOG = 4096;
+
+    private final BowlingGame bowlingGame;
+    private final int maxLineLength;
+    private final EventLoop[] eventLoops;
+    private ServerSocketChannel serverChannel;
+    private int nextEventLoop;
+    private boolean closed;
+
+    /**
+     * Constructor for {@link ScoringServer} with {@link #DEFAULT_MAX_LINE_LENGTH}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param eventLoops The number of event loop threads.
+     * @throws IllegalArgumentException If bowlingGame is {@code null} or eventLoops is not positive.
+     */
+    public ScoringServer(@NonNull final BowlingGame bowlingGame, final int eventLoops)
+    {
+        this(bowlingGame, eventLoops, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Constructor for {@link ScoringServer}.
+     * @param bowlingGame The {@link BowlingGame} to score with.
+     * @param eventLoops The number of event loop threads.
+     * @param maxLineLength The largest request line, including its line ending.
+     * @throws IllegalArgumentException If bowlingGame is {@code null}, or eventLoops or maxLineLength is not positive.
+     */
+    public ScoringServer(@NonNull final BowlingGame bowlingGame, final int eventLoops, final int maxLineLength)
+    {
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        Preconditions.checkArgument(eventLoops > 0, "eventLoops must be positive.");
+        Preconditions.checkArgument(maxLineLength > 0, "maxLineLength must be positive.");
+
+        this.bowlingGame = bowlingGame;
+        this.maxLineLength = maxLineLength;
+        this.eventLoops = new EventLoop[eventLoops];
+    }
+
+    /**
+     * Binds the server and starts the event loops.
+     * @param address The address to listen on, with port 0 for an ephemeral port.
+     * @throws IOException If the server cannot be bound.
+     * @throws IllegalStateException If the server was already started.
+     */
+    public synchronized void start(@NonNull final InetSocketAddress address) throws IOException
+    {
+        Preconditions.checkState(serverChannel == null, "server is already started.");
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, ACCEPT_BACKLOG);
+        serverChannel.configureBlocking(false);
+
+        for (int i = 0; i < eventLoops.length; i++)
+        {
+            eventLoops[i] = new EventLoop(Selector.open());
+        }
+        serverChannel.register(eventLoops[0].selector, SelectionKey.OP_ACCEPT);
+        for (int i = 0; i < eventLoops.length; i++)
+        {
+            final Thread thread = new Thread(eventLoops[i], "scoring-server-" + i);
+            thread.setDaemon(true);
+            eventLoops[i].thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * @return The non-null address the server listens on.
+     * @throws IOException If the address cannot be read.
+     * @throws IllegalStateException If the server was not started.
+     */
+    @NonNull
+    public synchronized InetSocketAddress getLocalAddress() throws IOException
+    {
+        Preconditions.checkState(serverChannel != null, "server is not started.");
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * @return Whether the server is started and not closed, and none of its event loops failed.
+     */
+    public synchronized boolean isRunning()
+    {
+        if (serverChannel == null || closed)
+        {
+            return false;
+        }
+        for (final EventLoop eventLoop : eventLoops)
+        {
+            if (eventLoop.failure != null)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops accepting, closes every connection and waits for the event loops to finish. Closing a closed server has no
+     * effect.
+     * @throws IOException If the server channel cannot be closed, or an event loop failed while the server was
+     * running, with the failure of the first such event loop as the cause.
+     */
+    @Override
+    public synchronized void close() throws IOException
+    {
+        if (serverChannel == null || closed)
+        {
+            return;
+        }
+        closed = true;
+        for (final EventLoop eventLoop : eventLoops)
+        {
+            eventLoop.running = false;
+            eventLoop.selector.wakeup();
+        }
+        try
+        {
+            for (final EventLoop eventLoop : eventLoops)
+            {
+                eventLoop.thread.join();
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        serverChannel.close();
+        for (final EventLoop eventLoop : eventLoops)
+        {
+            if (eventLoop.failure != null)
+            {
+                throw new IOException(String.format("%s failed.", eventLoop.thread.getName()), eventLoop.failure);
+            }
+        }
+    }
+
+    /**
+     * Fails the event loop as if its {@link Selector} failed with the given exception.
+     * @param eventLoop The zero based event loop.
+     * @param failure The failure.
+     */
+    @VisibleForTesting
+    void failEventLoop(final int eventLoop, @NonNull final IOException failure)
+    {
+        eventLoops[eventLoop].injectedFailure = failure;
+        eventLoops[eventLoop].selector.wakeup();
+    }
+
+    /**
+     * Accepts the pending connections and hands them to the running event loops in turn. Runs on the first event loop,
+     * so there is always one.
+     * @throws IOException If a connection cannot be accepted.
+     */
+    private void accept() throws IOException
+    {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null)
+        {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            while (!eventLoops[nextEventLoop].running)
+            {
+                nextEventLoop = (nextEventLoop + 1) % eventLoops.length;
+            }
+            eventLoops[nextEventLoop].add(channel);
+            nextEventLoop = (nextEventLoop + 1) % eventLoops.length;
+        }
+    }
+
+    /**
+     * An event loop thread serving the connections registered with its {@link Selector}.
+     */
+    private final class EventLoop implements Runnable
+    {
+        private final Selector selector;
+        private final Queue<SocketChannel> newChannels = new ConcurrentLinkedQueue<>();
+        private volatile boolean running = true;
+        private volatile IOException failure;
+        private volatile IOException injectedFailure;
+        private Thread thread;
+
+        /**
+         * Constructor for {@link EventLoop}.
+         * @param selector The {@link Selector} of the event loop.
+         */
+        private EventLoop(@NonNull final Selector selector)
+        {
+            this.selector = selector;
+        }
+
+        /**
+         * Hands an accepted connection to this event loop, or closes it if the event loop stopped meanwhile.
+         * @param channel The non-blocking {@link SocketChannel}.
+         */
+        private void add(@NonNull final SocketChannel channel)
+        {
+            newChannels.add(channel);
+            if (running)
+            {
+                selector.wakeup();
+            }
+            else
+            {
+                // The event loop may have drained its new connections before this one was added.
+                closeNewChannels();
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while (running)
+                {
+                    selector.select();
+                    if (injectedFailure != null)
+                    {
+                        throw injectedFailure;
+                    }
+                    registerNewChannels();
+                    final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext())
+                    {
+                        final SelectionKey key = keys.next();
+                        keys.remove();
+                        handle(key);
+                    }
+                }
+            }
+            catch (final IOException e)
+            {
+                failure = e;
+            }
+            catch (final ClosedSelectorException e)
+            {
+                // The server is closing.
+            }
+            finally
+            {
+                running = false;
+                closeAll();
+            }
+        }
+
+        /**
+         * Registers the connections handed to this event loop for reading, closing any that are already closed.
+         */
+        private void registerNewChannels()
+        {
+            SocketChannel channel;
+            while ((channel = newChannels.poll()) != null)
+            {
+                try
+                {
+                    channel.register(selector, SelectionKey.OP_READ, new ScoringConnection(channel, bowlingGame, maxLineLength, OUTPUT_BUFFER_SIZE));
+                }
+                catch (final IOException e)
+                {
+                    closeQuietly(channel);
+                }
+            }
+        }
+
+        /**
+         * Serves a ready key, closing its connection if it fails. A failed accept is left to the next selection.
+         * @param key The selected {@link SelectionKey}.
+         */
+        private void handle(@NonNull final SelectionKey key)
+        {
+            if (!key.isValid())
+            {
+                return;
+            }
+            if (key.isAcceptable())
+            {
+                try
+                {
+                    accept();
+                }
+                catch (final IOException e)
+                {
+                    // For example too many open files: the connection stays in the backlog until it can be accepted.
+                }
+                return;
+            }
+            final ScoringConnection connection = (ScoringConnection) key.attachment();
+            try
+            {
+                connection.handle(key);
+            }
+            catch (final IOException e)
+            {
+                connection.close(key);
+            }
+        }
+
+        /**
+         * Closes every connection of this event loop, any connection not yet registered and the {@link Selector}. If
+         * this event loop accepts connections, the server channel is closed first.
+         */
+        private void closeAll()
+        {
+            if (serverChannel.keyFor(selector) != null)
+            {
+                closeQuietly(serverChannel);
+            }
+            for (final SelectionKey key : selector.keys())
+            {
+                if (key.attachment() instanceof ScoringConnection)
+                {
+                    ((ScoringConnection) key.attachment()).close(key);
+                }
+            }
+            closeNewChannels();
+            try
+            {
+                selector.close();
+            }
+            catch (final IOException e)
+            {
+                // The server is closing, there is nothing left to report to.
+            }
+        }
+
+        /**
+         * Closes the connections handed to this event loop but not yet registered.
+         */
+        private void closeNewChannels()
+        {
+            SocketChannel channel;
+            while ((channel = newChannels.poll()) != null)
+            {
+                closeQuietly(channel);
+            }
+        }
+
+        /**
+         * @param channel The {@link Channel} to close.
+         */
+        private void closeQuietly(@NonNull final Channel channel)
+        {
+            try
+            {
+                channel.close();
+            }
+            catch (final IOException e)
+            {
+                // The connection is being discarded, there is nothing left to report to.
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package bowling.game;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * A table of the {@link GameSession}s in progress on a fixed number of lanes, in a memory-mapped file, so that a
+ * restarted process resumes every lane from the table instead of replaying its rolls. Each lane has a fixed slot in the
+ * file, which is mapped once and written in place, and holds the state of its session as written by
+ * {@link GameSession}: the running score, the frame scores, the position in the game and the pending multipliers.
+ * <p>
+ * A lane has two records, and a save writes the record that does not hold the latest state, with a sequence number one
+ * higher and a CRC32C checksum of its content written last. So a save torn by a crash never damages the state saved
+ * before it, and opening the table resumes every lane from its valid record with the highest sequence number. A saved
+ * state survives a crash of the process as soon as it is saved, and {@link #force()} makes it survive a crash of the
+ * machine, so a service calls it periodically, such as every second, rather than on every roll. A table is not
+ * thread-safe.
+ */
+public class SessionTable implements Closeable
+{
+    /**
+     * The size of the header of the file.
+     */
+    @VisibleForTesting
+    static final int HEADER_SIZE = 8 * Integer.BYTES;
+
+    private static final int MAGIC = 0x4C414E45;
+    private static final int VERSION = 1;
+    private static final int RECORDS_PER_LANE = 2;
+    private static final int STATE_OFFSET = Long.BYTES;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path path;
+    private final BowlingGame bowlingGame;
+    private final int lanes;
+    private final int recordSize;
+    private final long[] sequences;
+    private final byte[] latestRecords;
+    private final CRC32C checksum = new CRC32C();
+    private MappedByteBuffer table;
+    private boolean closed;
+
+    /**
+     * Constructor for {@link SessionTable}. Declared private, use {@link #open} to open one.
+     * @param path The path of the file.
+     * @param bowlingGame The {@link BowlingGame} of the sessions.
+     * @param lanes The number of lanes.
+     */
+    private SessionTable(@NonNull final Path path, @NonNull final BowlingGame bowlingGame, final int lanes)
+    {
+        this.path = path;
+        this.bowlingGame = bowlingGame;
+        this.lanes = lanes;
+        this.recordSize = STATE_OFFSET + GameSession.getStateSize(bowlingGame.getNumberOfFrames()) + Integer.BYTES;
+        this.sequences = new long[lanes];
+        this.latestRecords = new byte[lanes];
+    }
+
+    /**
+     * Opens the table in the given file, creating the file if it does not exist, and finds the latest saved state of
+     * every lane.
+     * @param path The path of the file.
+     * @param bowlingGame The {@link BowlingGame} of the sessions, which must be the same as when the states were saved.
+     * @param lanes The number of lanes, which must be the same as when the states were saved.
+     * @return The non-null, open {@link SessionTable}.
+     * @throws IOException If the file cannot be created or read, or is a table of another configuration.
+     * @throws IllegalArgumentException If path or bowlingGame is {@code null}, or lanes is not positive or too large for
+     * a file.
+     */
+    @NonNull
+    public static SessionTable open(@NonNull final Path path, @NonNull final BowlingGame bowlingGame, final int lanes) throws IOException
+    {
+        Preconditions.checkArgument(path != null, "path cannot be null.");
+        Preconditions.checkArgument(bowlingGame != null, "bowlingGame cannot be null.");
+        Preconditions.checkArgument(lanes > 0, "lanes must be positive.");
+        final long recordSize = STATE_OFFSET + GameSession.getStateSize(bowlingGame.getNumberOfFrames()) + (long) Integer.BYTES;
+        Preconditions.checkArgument(HEADER_SIZE + (long) lanes * RECORDS_PER_LANE * recordSize <= Integer.MAX_VALUE,
+                "lanes is too large for a file.");
+
+        final SessionTable sessionTable = new SessionTable(path, bowlingGame, lanes);
+        if (Files.notExists(path))
+        {
+            sessionTable.create();
+        }
+        sessionTable.table = sessionTable.map();
+        sessionTable.recover();
+        return sessionTable;
+    }
+
+    /**
+     * Saves the state of the session as the latest state of the lane.
+     * @param lane The zero based lane.
+     * @param session The {@link GameSession} in progress on the lane.
+     * @throws IllegalArgumentException If lane is out of range, or session is {@code null} or of another configuration.
+     * @throws IllegalStateException If the table is closed.
+     */
+    public void save(final int lane, @NonNull final GameSession session)
+    {
+        checkLane(lane);
+        Preconditions.checkArgument(session != null, "session cannot be null.");
+        Preconditions.checkArgument(session.isSessionOf(bowlingGame), "session must be of the configuration of the table.");
+
+        // The record that does not hold the latest state is either older or torn, so it is safe to overwrite.
+        final int record = sequences[lane] == 0 ? 0 : 1 - latestRecords[lane];
+        final int offset = getRecordOffset(lane, record);
+        table.putLong(offset, sequences[lane] + 1);
+        session.writeState(table, offset + STATE_OFFSET);
+        table.putInt(offset + recordSize - Integer.BYTES, computeChecksum(offset));
+        sequences[lane]++;
+        latestRecords[lane] = (byte) record;
+    }
+
+    /**
+     * Resumes the session of the lane from its latest saved state.
+     * @param lane The zero based lane.
+     * @return A new {@link GameSession} that continues as the session last saved on the lane, or {@code null} if the lane
+     * has no saved state.
+     * @throws IllegalArgumentException If lane is out of range.
+     * @throws IllegalStateException If the table is closed.
+     */
+    @CheckForNull
+    public GameSession restore(final int lane)
+    {
+        checkLane(lane);
+        if (sequences[lane] == 0)
+        {
+            return null;
+        }
+        final GameSession session = bowlingGame.newSession();
+        session.readState(table, getRecordOffset(lane, latestRecords[lane]) + STATE_OFFSET);
+        return session;
+    }
+
+    /**
+     * Clears the saved state of the lane, such as when its game is complete. The record that does not hold the latest
+     * state is cleared first, so a clear torn by a crash leaves either the latest state or none.
+     * @param lane The zero based lane.
+     * @throws IllegalArgumentException If lane is out of range.
+     * @throws IllegalStateException If the table is closed.
+     */
+    public void clear(final int lane)
+    {
+        checkLane(lane);
+        if (sequences[lane] == 0)
+        {
+            return;
+        }
+        clearRecord(getRecordOffset(lane, 1 - latestRecords[lane]));
+        clearRecord(getRecordOffset(lane, latestRecords[lane]));
+        sequences[lane] = 0;
+    }
+
+    /**
+     * @return The number of lanes.
+     */
+    public int getLanes()
+    {
+        return lanes;
+    }
+
+    /**
+     * Forces the states saved so far to the disk, so that they survive a crash of the machine.
+     * @throws IllegalStateException If the table is closed.
+     */
+    public void force()
+    {
+        Preconditions.checkState(!closed, "table is closed.");
+        table.force();
+    }
+
+    /**
+     * Closes the table. The file stays mapped until the mapping is garbage collected, and the states that were not
+     * forced reach the disk when the operating system writes them back.
+     */
+    @Override
+    public void close()
+    {
+        closed = true;
+        table = null;
+    }
+
+    /**
+     * @param lane The zero based lane.
+     * @return The offset of the record of the lane with the latest state, or -1 if the lane has no saved state.
+     */
+    @VisibleForTesting
+    int getLatestRecordOffset(final int lane)
+    {
+        checkLane(lane);
+        return sequences[lane] == 0 ? -1 : getRecordOffset(lane, latestRecords[lane]);
+    }
+
+    /**
+     * Creates the file under a temporary name, writes its header to the disk and renames it into place, so a crash
+     * leaves either no table or an empty one.
+     * @throws IOException If the file cannot be created.
+     */
+    private void create() throws IOException
+    {
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, getTableSize());
+            for (final int value : getHeader())
+            {
+                header.putInt(value);
+            }
+            header.force();
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the file and checks its header against the configuration of the table.
+     * @return The non-null mapped file.
+     * @throws IOException If the file cannot be mapped or is a table of another configuration.
+     */
+    @NonNull
+    private MappedByteBuffer map() throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            if (channel.size() != getTableSize())
+            {
+                throw new IOException(String.format("%s is not a session table of this configuration.", path));
+            }
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, getTableSize());
+            final int[] expectedHeader = getHeader();
+            for (int i = 0; i < expectedHeader.length; i++)
+            {
+                if (mapped.getInt(i * Integer.BYTES) != expectedHeader[i])
+                {
+                    throw new IOException(String.format("%s is not a session table of this configuration.", path));
+                }
+            }
+            return mapped;
+        }
+    }
+
+    /**
+     * Finds the valid record with the highest sequence number of every lane. The record with the higher sequence number
+     * is checked first, so the other one is only checksummed if a save was torn.
+     */
+    private void recover()
+    {
+        for (int lane = 0; lane < lanes; lane++)
+        {
+            final int newerRecord = table.getLong(getRecordOffset(lane, 1)) > table.getLong(getRecordOffset(lane, 0)) ? 1 : 0;
+            for (int record = newerRecord, checked = 0; checked < RECORDS_PER_LANE && sequences[lane] == 0; record = 1 - record, checked++)
+            {
+                final int offset = getRecordOffset(lane, record);
+                final long sequence = table.getLong(offset);
+                if (sequence > 0 && table.getInt(offset + recordSize - Integer.BYTES) == computeChecksum(offset))
+                {
+                    sequences[lane] = sequence;
+                    latestRecords[lane] = (byte) record;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The non-null header of the file, which identifies the configuration of the table.
+     */
+    @NonNull
+    private int[] getHeader()
+    {
+        return new int[] {MAGIC, VERSION, recordSize, lanes, bowlingGame.getNumberOfFrames(), bowlingGame.getNumberOfPins(),
+                bowlingGame.getStrikeBonusRolls(), bowlingGame.getSpareBonusRolls()};
+    }
+
+    /**
+     * @return The size of the file.
+     */
+    private int getTableSize()
+    {
+        return HEADER_SIZE + lanes * RECORDS_PER_LANE * recordSize;
+    }
+
+    /**
+     * @param offset The offset of the record.
+     * @return The CRC32C checksum of the record, without its checksum.
+     */
+    private int computeChecksum(final int offset)
+    {
+        final ByteBuffer record = table.duplicate();
+        record.limit(offset + recordSize - Integer.BYTES).position(offset);
+        checksum.reset();
+        checksum.update(record);
+        return (int) checksum.getValue();
+    }
+
+    /**
+     * Clears the record, so that its sequence number of zero never counts as a saved state.
+     * @param offset The offset of the record.
+     */
+    private void clearRecord(final int offset)
+    {
+        for (int i = 0; i < recordSize; i++)
+        {
+            table.put(offset + i, (byte) 0);
+        }
+    }
+
+    /**
+     * @param lane The zero based lane.
+     * @param record The record of the lane, zero or one.
+     * @return The offset of the record in the file.
+     */
+    private int getRecordOffset(final int lane, final int record)
+    {
+        return HEADER_SIZE + (lane * RECORDS_PER_LANE + record) * recordSize;
+    }
+
+    /**
+     * @param lane The zero based lane.
+     * @throws IllegalArgumentException If lane is out of range.
+     * @throws IllegalStateException If the table is closed.
+     */
+    private void checkLane(final int lane)
+    {
+        Preconditions.checkState(!closed, "table is closed.");
+        Preconditions.checkArgument(lane >= 0 && lane < lanes, "lane must be between 0 and %s.", lanes - 1);
+    }
+}
@@ -0,0 +1,55 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates a number of games, splitting them in half until there are no more than the chunk size and combining the
+ * statistics of the halves. The half that is forked gets a {@link SplittableRandom} split from this task's, before
+ * this task draws from it, so the games of every task are the same whichever thread runs it.
+ */
+final class SimulationTask extends RecursiveTask<GameStatistics>
+{
+    private static final long serialVersionUID = 1L;
+
+    private final transient GameSimulator simulator;
+    private final transient SplittableRandom random;
+    private final int chunkSize;
+    private final long games;
+
+    /**
+     * Constructor for {@link SimulationTask}.
+     * @param simulator The {@link GameSimulator} to simulate with.
+     * @param random The {@link SplittableRandom} of this task, which no other task draws from.
+     * @param chunkSize The largest number of games simulated without splitting.
+     * @param games The number of games to simulate.
+     */
+    SimulationTask(@NonNull final GameSimulator simulator, @NonNull final SplittableRandom random, final int chunkSize, final long games)
+    {
+        this.simulator = simulator;
+        this.random = random;
+        this.chunkSize = chunkSize;
+        this.games = games;
+    }
+
+    @Override
+    protected GameStatistics compute()
+    {
+        if (games <= chunkSize)
+        {
+            final GameStatistics statistics = new GameStatistics(simulator.getBowlingGame());
+            for (long game = 0; game < games; game++)
+            {
+                simulator.simulateGame(random, statistics);
+            }
+            return statistics;
+        }
+        final long half = games >>> 1;
+        final SimulationTask right = new SimulationTask(simulator, random.split(), chunkSize, games - half);
+        right.fork();
+        final GameStatistics left = new SimulationTask(simulator, random, chunkSize, half).compute();
+        return left.combine(right.join());
+    }
+}
@@ -2,6 +2,18 @@ package bowling.game;
 
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntSupplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -149,6 +161,38 @@ public class BowlingGameTest
                 .isInstanceOf(IllegalArgumentException.class).hasMessage("Number of pins exceeds limit of 10.");
     }
 
+    /**
+     * Ensures that parsing hands out the same shared {@link Frame}s for equal frames, across games with the same
+     * number of pins, and that they equal frames built with {@link Frame#newBuilder()}.
+     */
+    @Test
+    public void testParseBowlingGame_SharedFrames()
+    {
+        final List<Frame> frames = BowlingGame.createStandardGame().parseBowlingGame("X|7/|9-|X|-8|8/|-6|X|X|X||81");
+        final List<Frame> otherFrames = BowlingGame.newBuilder().withSpareBonusRolls(2).build().parseBowlingGame("X|7/|9-|X|-8|8/|-6|X|X|X||81");
+        final Frame spare = Frame.newBuilder().withFrameType(FrameType.SPARE).withFirstRollValue(7).withSecondRollValue(3).build();
+
+        assertThat(frames.get(0)).isSameAs(frames.get(3)).isSameAs(otherFrames.get(0));
+        assertThat(frames.get(1)).isSameAs(otherFrames.get(1)).isEqualTo(spare).hasSameHashCodeAs(spare).isNotSameAs(spare);
+        assertThat(frames.get(1)).isNotEqualTo(frames.get(5)).isNotEqualTo(null);
+        assertThat(frames.get(10)).hasToString("Frame[frameType=BONUS, firstRollValue=8, secondRollValue=1]");
+        assertThat(new HashSet<>(frames)).hasSize(7);
+    }
+
+    /**
+     * Ensures that more pins than {@link FrameFlyweights#MAX_NUMBER_OF_PINS}, as a decoded {@link PackedGames} frame
+     * can hold, get new, equal frames.
+     */
+    @Test
+    public void testGetFrame_TooManyPinsToShare()
+    {
+        final FrameFlyweights frameFlyweights = FrameFlyweights.forNumberOfPins(100);
+        final Frame frame = frameFlyweights.getFrame(FrameType.STRIKE, 100, 0);
+
+        assertThat(frame).isEqualTo(frameFlyweights.getFrame(FrameType.STRIKE, 100, 0)).isNotSameAs(frameFlyweights.getFrame(FrameType.STRIKE, 100, 0));
+        assertThat(frame.getFirstRollValue()).isEqualTo(100);
+    }
+
     /**
      * Ensures that an {@link NumberFormatException} is thrown when {@link BowlingGame#calculateScore} is called with
      * a game having a frame with a roll that cannot be parsed to an integer.
@@ -204,4 +248,484 @@ public class BowlingGameTest
         final String game = "X|7/|9-|X|-8|8/|-6|X|X|X||81";
         assertThat(BowlingGame.createStandardGame().calculateScore(game)).isEqualTo(167);
     }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message when
+     * {@link BowlingGame#calculateScore} is called with a game missing the bonus frame separator.
+     */
+    @Test
+    public void testCalculateScore_MissingBonusFrameSeparator()
+    {
+        final String game = "1-|2-|3-|4-|5-|6-|7-|8-|9-|1-|";
+        assertThatThrownBy(() ->
+                BowlingGame.createStandardGame().calculateScore(game))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage(String.format("[%s] is not a valid bowling game.", game));
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#calculateScore} returns the same score or throws the same exception as the
+     * reference {@link BowlingGame#calculateScoreFromFrames} for a corpus of random valid and corrupted games.
+     */
+    @Test
+    public void testCalculateScore_MatchesReferenceImplementation()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(20221016L);
+        for (int i = 0; i < 20_000; i++)
+        {
+            final String game = TestGames.randomGame(random);
+            assertMatchesReference(bowlingGame, game);
+            assertMatchesReference(bowlingGame, TestGames.corruptGame(random, game));
+        }
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#calculateScore} agrees with the reference {@link BowlingGame#calculateScoreFromFrames}
+     * for games with custom symbols and pin counts, including symbols that clash with digits.
+     */
+    @Test
+    public void testCalculateScore_CustomConfigurationsMatchReferenceImplementation()
+    {
+        final BowlingGame[] bowlingGames = {
+                BowlingGame.newBuilder().withNumberOfPins(7).withStrikeSymbol('S').withSpareSymbol('%').withMissSymbol('_').build(),
+                BowlingGame.newBuilder().withNumberOfPins(9).build(),
+                BowlingGame.newBuilder().withMissSymbol('0').build(),
+                BowlingGame.newBuilder().withStrikeSymbol('9').build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(1).withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(0).build()
+        };
+        final Random random = new Random(8L);
+        for (int i = 0; i < 5_000; i++)
+        {
+            final String game = TestGames.randomGame(random);
+            final String corruptedGame = TestGames.corruptGame(random, game);
+            assertMatchesReference(bowlingGames[0], game.replace('X', 'S').replace('/', '%').replace('-', '_'));
+            for (final BowlingGame bowlingGame : bowlingGames)
+            {
+                assertMatchesReference(bowlingGame, game);
+                assertMatchesReference(bowlingGame, corruptedGame);
+            }
+        }
+    }
+
+    /**
+     * Ensures that a {@link BowlingGame} built without changes has the standard rules.
+     */
+    @Test
+    public void testNewBuilder_Defaults()
+    {
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().build();
+
+        assertThat(bowlingGame.getNumberOfFrames()).isEqualTo(10);
+        assertThat(bowlingGame.getNumberOfPins()).isEqualTo(10);
+        assertThat(bowlingGame.getStrikeBonusRolls()).isEqualTo(2);
+        assertThat(bowlingGame.getSpareBonusRolls()).isEqualTo(1);
+        assertThat(bowlingGame.calculateScore("X|7/|9-|X|-8|8/|-6|X|X|X||81")).isEqualTo(167);
+    }
+
+    /**
+     * Ensures that strike and spare symbols are worth the configured number of pins, and that the configured bonus
+     * rolls are required and scored.
+     */
+    @Test
+    public void testNewBuilder_FivePinsOneStrikeBonusRoll()
+    {
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().withNumberOfFrames(5).withNumberOfPins(5).withStrikeBonusRolls(1).build();
+
+        assertThat(bowlingGame.getRollValue('X')).isEqualTo(5);
+        assertThat(bowlingGame.getRollValue('/')).isEqualTo(5);
+        assertThat(bowlingGame.calculateScore("X|X|X|X|X||X")).isEqualTo(50);
+        assertThat(bowlingGame.calculateScore("X|3/|12|-5|X||4")).isEqualTo(31);
+        assertThat(bowlingGame.calculateScoreFromFrames("X|3/|12|-5|X||4")).isEqualTo(31);
+        assertThat(bowlingGame.evaluate("X|X|X|X|X||XX").getError()).isEqualTo(GameError.INVALID_BONUS_FRAME);
+        assertThatThrownBy(() -> bowlingGame.calculateScore("X|X|X|X|X||XX"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("[X|X|X|X|X||XX] is not a valid bowling game.");
+    }
+
+    /**
+     * Ensures that a game without bonus rolls accepts an empty bonus frame after a strike.
+     */
+    @Test
+    public void testNewBuilder_NoBonusRolls()
+    {
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(0).build();
+
+        assertThat(bowlingGame.calculateScore("X|X|X|X|X|X|X|X|X|X||")).isEqualTo(100);
+        assertThat(bowlingGame.calculateScore("5/|5/|5/|5/|5/|5/|5/|5/|5/|5/||")).isEqualTo(100);
+        assertThat(bowlingGame.calculateScoreFromFrames("X|X|X|X|X|X|X|X|X|X||")).isEqualTo(100);
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message for invalid rules.
+     */
+    @Test
+    public void testNewBuilder_InvalidRules()
+    {
+        assertThatThrownBy(() -> BowlingGame.newBuilder().withNumberOfFrames(0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("numberOfFrames must be positive.");
+        assertThatThrownBy(() -> BowlingGame.newBuilder().withNumberOfPins(0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("numberOfPins must be positive.");
+        assertThatThrownBy(() -> BowlingGame.newBuilder().withNumberOfPins(11))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("numberOfPins cannot exceed 10.");
+        assertThatThrownBy(() -> BowlingGame.newBuilder().withStrikeSymbol('|'))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("strikeSymbol cannot be the frame delimiter.");
+        assertThatThrownBy(() -> BowlingGame.newBuilder().withStrikeBonusRolls(3))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("strikeBonusRolls must be between 0 and 2.");
+        assertThatThrownBy(() -> BowlingGame.newBuilder().withSpareBonusRolls(-1))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("spareBonusRolls must be between 0 and 2.");
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#calculateFrameScores} fills in the cumulative score after every frame.
+     */
+    @Test
+    public void testCalculateFrameScores()
+    {
+        final int[] cumulativeScores = new int[10];
+
+        assertThat(BowlingGame.createStandardGame().calculateFrameScores("X|7/|9-|X|-8|8/|-6|X|X|X||81", cumulativeScores)).isEqualTo(167);
+        assertThat(cumulativeScores).containsExactly(20, 39, 48, 66, 74, 84, 90, 120, 148, 167);
+        assertThat(BowlingGame.createStandardGame().calculateFrameScores("X|X|X|X|X|X|X|X|X|X||XX", cumulativeScores)).isEqualTo(300);
+        assertThat(cumulativeScores).containsExactly(30, 60, 90, 120, 150, 180, 210, 240, 270, 300);
+    }
+
+    /**
+     * Ensures that the cumulative frame scores agree with the frame scores of a {@link GameSession} and end with the
+     * final score, under the standard and other rules.
+     */
+    @Test
+    public void testTryCalculateFrameScores_MatchesGameSession()
+    {
+        final BowlingGame[] bowlingGames = {
+                BowlingGame.createStandardGame(),
+                BowlingGame.newBuilder().withNumberOfPins(5).withNumberOfFrames(3).build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(1).withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(0).build(),
+                BowlingGame.newBuilder().withNumberOfFrames(1).build()
+        };
+        final Random random = new Random(14L);
+        for (final BowlingGame bowlingGame : bowlingGames)
+        {
+            final int[] cumulativeScores = new int[bowlingGame.getNumberOfFrames() + 1];
+            for (int i = 0; i < 2_000; i++)
+            {
+                final GameSession session = bowlingGame.newSession();
+                final String game = GameSessionTest.playRandomGame(bowlingGame, session, random);
+                cumulativeScores[bowlingGame.getNumberOfFrames()] = -7;
+
+                assertThat(bowlingGame.tryCalculateFrameScores(game, cumulativeScores)).as(game).isEqualTo(session.getScore());
+                int expectedScore = 0;
+                for (int frame = 0; frame < bowlingGame.getNumberOfFrames(); frame++)
+                {
+                    expectedScore += session.getFrameScore(frame);
+                    assertThat(cumulativeScores[frame]).as(game).isEqualTo(expectedScore);
+                }
+                assertThat(cumulativeScores[bowlingGame.getNumberOfFrames()]).isEqualTo(-7);
+            }
+        }
+    }
+
+    /**
+     * Ensures that invalid games and arrays are reported like {@link BowlingGame#calculateScore} reports them.
+     */
+    @Test
+    public void testCalculateFrameScores_InvalidGamesAndArrays()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+
+        assertThat(bowlingGame.tryCalculateFrameScores("X|X|X|X|X|X|X|X|X||XX", new int[10])).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThat(bowlingGame.tryCalculateFrameScores(null, new int[10])).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThatThrownBy(() -> bowlingGame.calculateFrameScores("X|X|X|X|X|X|X|X|X|X||X", new int[10]))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("[X|X|X|X|X|X|X|X|X|X||X] is not a valid bowling game.");
+        assertThatThrownBy(() -> bowlingGame.calculateFrameScores("X|X|X|X|X|X|X|X|X|X||XX", new int[9]))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("cumulativeScores must hold at least 10 frames.");
+        assertThatThrownBy(() -> bowlingGame.tryCalculateFrameScores("X|X|X|X|X|X|X|X|X|X||XX", null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("cumulativeScores cannot be null.");
+    }
+
+    /**
+     * Ensures that the {@link CharSequence}, byte array and {@link ByteBuffer} overloads give the same scores, exception
+     * types and messages as the {@link String} for valid and corrupted games.
+     */
+    @Test
+    public void testCalculateScore_InputOverloadsMatchString()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(16L);
+        for (int i = 0; i < 5_000; i++)
+        {
+            final String game = i % 2 == 0 ? TestGames.randomGame(random) : TestGames.corruptGame(random, TestGames.randomGame(random));
+            final byte[] bytes = game.getBytes(StandardCharsets.ISO_8859_1);
+            final byte[] paddedBytes = new byte[bytes.length + 6];
+            System.arraycopy(bytes, 0, paddedBytes, 3, bytes.length);
+            final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length + 6);
+            directBuffer.position(3);
+            directBuffer.put(bytes).flip().position(3);
+            final String expected = describeOutcome(() -> bowlingGame.calculateScore(game));
+
+            assertThat(describeOutcome(() -> bowlingGame.calculateScore(new StringBuilder(game)))).isEqualTo(expected);
+            assertThat(describeOutcome(() -> bowlingGame.calculateScore(paddedBytes, 3, bytes.length))).isEqualTo(expected);
+            assertThat(describeOutcome(() -> bowlingGame.calculateScore(ByteBuffer.wrap(paddedBytes, 3, bytes.length)))).isEqualTo(expected);
+            assertThat(describeOutcome(() -> bowlingGame.calculateScore(directBuffer))).isEqualTo(expected);
+            assertThat(directBuffer.position()).isEqualTo(3);
+            assertThat(bowlingGame.tryCalculateScore(paddedBytes, 3, bytes.length)).isEqualTo(bowlingGame.tryCalculateScore(game));
+            assertThat(bowlingGame.tryCalculateScore(directBuffer)).isEqualTo(bowlingGame.tryCalculateScore(game));
+        }
+    }
+
+    /**
+     * Ensures that the byte overloads, which scan 8 bytes at a time, score a randomised corpus like the {@link String} at
+     * every alignment of the game within its array, including long games whose frames cross many words, games with
+     * bytes outside ASCII or the alphabet at any position, and games with other symbols.
+     */
+    @Test
+    public void testCalculateScore_ScannedBytesMatchString()
+    {
+        final BowlingGame standardGame = BowlingGame.createStandardGame();
+        final BowlingGame longGame = BowlingGame.newBuilder().withNumberOfFrames(40).withStrikeSymbol('S').withSpareSymbol('%')
+                .withMissSymbol('_').build();
+        final Random random = new Random(23L);
+        for (int i = 0; i < 3_000; i++)
+        {
+            final StringBuilder longGameText = new StringBuilder();
+            for (int frame = 0; frame < 4; frame++)
+            {
+                final String game = TestGames.randomGame(random);
+                longGameText.append(game, 0, game.indexOf("||") + (frame == 3 ? game.length() - game.indexOf("||") : 1));
+            }
+            final String[] games = {
+                    TestGames.randomGame(random),
+                    TestGames.corruptGame(random, TestGames.randomGame(random)),
+                    TestGames.corruptGame(random, TestGames.corruptGame(random, TestGames.randomGame(random))),
+                    new StringBuilder(TestGames.randomGame(random)).insert(random.nextInt(20), (char) (0x80 + random.nextInt(0x80))).toString(),
+                    longGameText.toString().replace('X', 'S').replace('/', '%').replace('-', '_'),
+                    TestGames.corruptGame(random, longGameText.toString().replace('X', 'S').replace('/', '%').replace('-', '_'))};
+            for (int g = 0; g < games.length; g++)
+            {
+                final BowlingGame bowlingGame = g < 4 ? standardGame : longGame;
+                final String game = games[g];
+                final byte[] bytes = game.getBytes(StandardCharsets.ISO_8859_1);
+                final int alignment = random.nextInt(FrameScanner.WORD_BYTES);
+                final byte[] alignedBytes = new byte[alignment + bytes.length + random.nextInt(FrameScanner.WORD_BYTES)];
+                Arrays.fill(alignedBytes, (byte) '|');
+                System.arraycopy(bytes, 0, alignedBytes, alignment, bytes.length);
+                final String expected = describeOutcome(() -> bowlingGame.calculateScore(game));
+
+                assertThat(describeOutcome(() -> bowlingGame.calculateScore(alignedBytes, alignment, bytes.length))).as(game).isEqualTo(expected);
+                assertThat(describeOutcome(() -> bowlingGame.calculateScore(ByteBuffer.wrap(alignedBytes, alignment, bytes.length).slice())))
+                        .as(game).isEqualTo(expected);
+                assertThat(describeOutcome(() -> bowlingGame.calculateScore(ByteBuffer.wrap(alignedBytes, alignment, bytes.length)
+                        .asReadOnlyBuffer()))).as(game).isEqualTo(expected);
+            }
+        }
+    }
+
+    /**
+     * Ensures that null and out of range byte inputs are reported.
+     */
+    @Test
+    public void testCalculateScore_InvalidByteInputs()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+
+        assertThatThrownBy(() -> bowlingGame.calculateScore(null, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("game cannot be null, empty, or blank");
+        assertThatThrownBy(() -> bowlingGame.calculateScore((ByteBuffer) null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("game cannot be null, empty, or blank");
+        assertThat(bowlingGame.tryCalculateScore(null, 0, 0)).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThatThrownBy(() -> bowlingGame.calculateScore(new byte[4], 2, 3))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("offset 2 and length 3 are not within 4 bytes.");
+        assertThatThrownBy(() -> bowlingGame.tryCalculateScore(new byte[4], -1, 2))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("offset -1 and length 2 are not within 4 bytes.");
+    }
+
+    /**
+     * @param scorer The scoring call.
+     * @return The non-null score, or the type and message of the exception thrown.
+     */
+    private static String describeOutcome(final IntSupplier scorer)
+    {
+        try
+        {
+            return String.valueOf(scorer.getAsInt());
+        }
+        catch (final RuntimeException e)
+        {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#evaluate} reports the score of a valid game.
+     */
+    @Test
+    public void testEvaluate_ValidGame()
+    {
+        final ScoreResult result = BowlingGame.createStandardGame().evaluate("X|7/|9-|X|-8|8/|-6|X|X|X||81");
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getScore()).isEqualTo(167);
+        assertThat(result.getError()).isNull();
+        assertThat(result.getErrorOffset()).isEqualTo(-1);
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#evaluate} reports the reason and offset of each kind of invalid game, in the same
+     * order of precedence as the exceptions of {@link BowlingGame#calculateScore}.
+     */
+    @Test
+    public void testEvaluate_InvalidGames()
+    {
+        assertInvalid("  ", GameError.BLANK_GAME, 0);
+        assertInvalid(null, GameError.BLANK_GAME, 0);
+        assertInvalid("1-|2-|3-|4-|5-|6-|7-|8-|9-|1-|", GameError.MISSING_BONUS_FRAME, 30);
+        assertInvalid("X|9-||", GameError.WRONG_NUMBER_OF_FRAMES, 4);
+        assertInvalid("1-|2-|T|4-|5-|6-|7-|8-|9-|1-|11||", GameError.WRONG_NUMBER_OF_FRAMES, 31);
+        assertInvalid("1-|2-|T|4-|5-|6-|7-|8-|9-|123||", GameError.INVALID_FRAME, 26);
+        assertInvalid("1-|2-|T|4-|5-|6-|7-|8-|9-|X||9", GameError.INVALID_BONUS_FRAME, 29);
+        assertInvalid("1-|2-|T|4-|5-|6-|7-|8-|9-|1-||", GameError.INVALID_FRAME, 6);
+        assertInvalid("1-|2-|3-|9G|5-|6-|7-|8-|9-|1-||", GameError.INVALID_ROLL, 10);
+        assertInvalid("1-|2-|3-|99|5-|6-|7-|8-|9-|1-||", GameError.TOO_MANY_PINS, 9);
+        assertInvalid("1-|2-|3-|4-|5-|6-|7-|8-|9-|X||9?", GameError.INVALID_ROLL, 31);
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#tryCalculateScore} returns the score of a valid game and
+     * {@link BowlingGame#INVALID_SCORE} for an invalid game.
+     */
+    @Test
+    public void testTryCalculateScore()
+    {
+        assertThat(BowlingGame.createStandardGame().tryCalculateScore(new StringBuilder("5/|5/|5/|5/|5/|5/|5/|5/|5/|5/||5"))).isEqualTo(150);
+        assertThat(BowlingGame.createStandardGame().tryCalculateScore("1-|2-|3-|99|5-|6-|7-|8-|9-|1-||")).isEqualTo(BowlingGame.INVALID_SCORE);
+    }
+
+    /**
+     * Asserts that {@link BowlingGame#evaluate} reports the given error for the game.
+     * @param game The invalid game.
+     * @param error The expected {@link GameError}.
+     * @param errorOffset The expected offset of the error.
+     */
+    private static void assertInvalid(final String game, final GameError error, final int errorOffset)
+    {
+        final ScoreResult result = BowlingGame.createStandardGame().evaluate(game);
+        assertThat(result.isValid()).as(game).isFalse();
+        assertThat(result.getScore()).as(game).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThat(result.getError()).as(game).isEqualTo(error);
+        assertThat(result.getErrorOffset()).as(game).isEqualTo(errorOffset);
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#calculateScores(List)} returns the score of each game at its index and
+     * {@link BowlingGame#INVALID_SCORE} for invalid games instead of failing the batch.
+     */
+    @Test
+    public void testCalculateScores_MixedValidAndInvalidGames()
+    {
+        final List<String> games = Arrays.asList("X|X|X|X|X|X|X|X|X|X||XX", "X|9-||", null, "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||",
+                "1-|2-|3-|9G|5-|6-|7-|8-|9-|1-||", " ");
+        assertThat(BowlingGame.createStandardGame().calculateScores(games))
+                .containsExactly(300, BowlingGame.INVALID_SCORE, BowlingGame.INVALID_SCORE, 90, BowlingGame.INVALID_SCORE, BowlingGame.INVALID_SCORE);
+    }
+
+    /**
+     * Ensures that {@link BowlingGame#calculateScores(List, ForkJoinPool, int)} agrees with
+     * {@link BowlingGame#calculateScore} when the batch is split into many small chunks.
+     */
+    @Test
+    public void testCalculateScores_SmallChunks()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(3L);
+        final List<String> games = new LinkedList<>();
+        final int[] expectedScores = new int[10_000];
+        for (int i = 0; i < expectedScores.length; i++)
+        {
+            final String game = i % 3 == 0 ? TestGames.corruptGame(random, TestGames.randomGame(random)) : TestGames.randomGame(random);
+            games.add(game);
+            try
+            {
+                expectedScores[i] = bowlingGame.calculateScore(game);
+            }
+            catch (final IllegalArgumentException e)
+            {
+                expectedScores[i] = BowlingGame.INVALID_SCORE;
+            }
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            assertThat(bowlingGame.calculateScores(games, pool, 7)).containsExactly(expectedScores);
+            assertThat(bowlingGame.calculateScores(new ArrayList<>(games).parallelStream()).toArray()).containsExactly(expectedScores);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message when
+     * {@link BowlingGame#calculateScores(List, ForkJoinPool, int)} is called with a non-positive chunk size.
+     */
+    @Test
+    public void testCalculateScores_NonPositiveChunkSize()
+    {
+        assertThatThrownBy(() -> BowlingGame.createStandardGame().calculateScores(List.of(), ForkJoinPool.commonPool(), 0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("chunkSize must be positive.");
+    }
+
+    /**
+     * Asserts that {@link BowlingGame#calculateScore} and {@link BowlingGame#calculateScoreFromFrames} agree on the game,
+     * and that the byte array and {@link ByteBuffer} overloads agree with them on its ISO-8859-1 bytes.
+     * @param bowlingGame The {@link BowlingGame}.
+     * @param game The game.
+     */
+    static void assertMatchesReference(final BowlingGame bowlingGame, final String game)
+    {
+        assertBytesMatchString(bowlingGame, game);
+        Integer expectedScore = null;
+        RuntimeException expectedException = null;
+        try
+        {
+            expectedScore = bowlingGame.calculateScoreFromFrames(game);
+        }
+        catch (final RuntimeException e)
+        {
+            expectedException = e;
+        }
+
+        if (expectedException == null)
+        {
+            assertThat(bowlingGame.calculateScore(game)).as(game).isEqualTo(expectedScore);
+        }
+        else
+        {
+            assertThatThrownBy(() -> bowlingGame.calculateScore(game)).as(game)
+                    .isExactlyInstanceOf(expectedException.getClass()).hasMessage(expectedException.getMessage());
+        }
+    }
+
+    /**
+     * Asserts that the byte array and {@link ByteBuffer} overloads score the ISO-8859-1 bytes of the game like the
+     * {@link String}, if it has such bytes.
+     * @param bowlingGame The {@link BowlingGame}.
+     * @param game The game.
+     */
+    private static void assertBytesMatchString(final BowlingGame bowlingGame, final String game)
+    {
+        if (!StandardCharsets.ISO_8859_1.newEncoder().canEncode(game))
+        {
+            return;
+        }
+        final byte[] bytes = game.getBytes(StandardCharsets.ISO_8859_1);
+        final String expected = describeOutcome(() -> bowlingGame.calculateScore(game));
+        assertThat(describeOutcome(() -> bowlingGame.calculateScore(bytes, 0, bytes.length))).as(game).isEqualTo(expected);
+        for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN})
+        {
+            final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length).order(order);
+            directBuffer.put(bytes).flip();
+            assertThat(describeOutcome(() -> bowlingGame.calculateScore(directBuffer))).as(game).isEqualTo(expected);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FrameScanner}.
+ */
+public class FrameScannerTest
+{
+    /**
+     * Ensures that the delimiter and invalid byte masks flag exactly the bytes a byte at a time check flags, for every
+     * byte value at every position of a word, next to random neighbours, so that no carry or borrow leaks between bytes.
+     */
+    @Test
+    public void testFindBytes_MatchesByteAtATime()
+    {
+        final FrameScanner scanner = new FrameScanner('X', '/', '-');
+        final Random random = new Random(24L);
+        for (int value = 0; value < 256; value++)
+        {
+            for (int position = 0; position < FrameScanner.WORD_BYTES; position++)
+            {
+                final byte[] bytes = new byte[FrameScanner.WORD_BYTES];
+                random.nextBytes(bytes);
+                bytes[position] = (byte) value;
+                final long word = FrameScanner.readWord(bytes, null, 0, bytes.length);
+                long expectedDelimiters = 0;
+                long expectedInvalid = 0;
+                for (int i = 0; i < bytes.length; i++)
+                {
+                    final char roll = (char) (bytes[i] & 0xFF);
+                    if (roll == '|')
+                    {
+                        expectedDelimiters |= 0x80L << (i * Byte.SIZE);
+                    }
+                    if (roll != '|' && roll != 'X' && roll != '/' && roll != '-' && (roll < '0' || roll > '9'))
+                    {
+                        expectedInvalid |= 0x80L << (i * Byte.SIZE);
+                    }
+                }
+
+                assertThat(FrameScanner.findDelimiters(word)).isEqualTo(expectedDelimiters);
+                assertThat(scanner.findInvalidBytes(word)).isEqualTo(expectedInvalid);
+            }
+        }
+    }
+
+    /**
+     * Ensures that words are read little-endian from arrays and buffers of either byte order, padded with zeros past
+     * the end.
+     */
+    @Test
+    public void testReadWord_LittleEndianAndPadded()
+    {
+        final byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        final ByteBuffer bigEndian = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        final ByteBuffer littleEndian = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN).put(bytes);
+
+        assertThat(FrameScanner.readWord(bytes, null, 1, 9)).isEqualTo(0x0908070605040302L);
+        assertThat(FrameScanner.readWord(null, bigEndian, 1, 9)).isEqualTo(0x0908070605040302L);
+        assertThat(FrameScanner.readWord(null, littleEndian, 1, 9)).isEqualTo(0x0908070605040302L);
+        assertThat(FrameScanner.readWord(bytes, null, 6, 9)).isEqualTo(0x090807L);
+        assertThat(FrameScanner.readWord(null, bigEndian, 6, 9)).isEqualTo(0x090807L);
+        assertThat(FrameScanner.getHighBits(3)).isEqualTo(0x808080L);
+        assertThat(FrameScanner.getHighBits(8)).isEqualTo(0x8080808080808080L);
+    }
+
+    /**
+     * Ensures that the next line ending is found at every position, in arrays and buffers of either byte order, and
+     * that the end is returned when there is none.
+     */
+    @Test
+    public void testFindLineEnding_MatchesByteAtATime()
+    {
+        final byte[] bytes = "X|X|X|X|X|X|X|X|X|X||XX\n\n9-|9-\r\n--".getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer bigEndian = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        final ByteBuffer littleEndian = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN).put(bytes);
+        for (int index = 0; index <= bytes.length; index++)
+        {
+            int expected = index;
+            while (expected < bytes.length && bytes[expected] != '\n')
+            {
+                expected++;
+            }
+
+            assertThat(FrameScanner.findLineEnding(bytes, null, index, bytes.length)).as("index %s", index).isEqualTo(expected);
+            assertThat(FrameScanner.findLineEnding(null, bigEndian, index, bytes.length)).as("index %s", index).isEqualTo(expected);
+            assertThat(FrameScanner.findLineEnding(null, littleEndian, index, bytes.length)).as("index %s", index).isEqualTo(expected);
+        }
+        assertThat(FrameScanner.findLineEnding(bytes, null, 0, 20)).isEqualTo(20);
+    }
+}
@@ -0,0 +1,269 @@
+package bowling.game;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link GameArchive}.
+ */
+public class GameArchiveTest
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Ensures that appended games are read back with their keys, scores and frames.
+     */
+    @Test
+    public void testAppend_ReadBack() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        try (GameArchive archive = GameArchive.open(temporaryFolder.getRoot().toPath(), bowlingGame, 4))
+        {
+            assertThat(archive.append(7L, "X|7/|9-|X|-8|8/|-6|X|X|X||81")).isEqualTo(0);
+            assertThat(archive.append(3L, new StringBuilder("X|X|X|X|X|X|X|X|X|X||XX"))).isEqualTo(1);
+
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.getKey(0)).isEqualTo(7L);
+            assertThat(archive.getScore(0)).isEqualTo(167);
+            assertThat(archive.getScore(1)).isEqualTo(300);
+            assertThat(archive.getFrames(0)).isEqualTo(bowlingGame.parseBowlingGame("X|7/|9-|X|-8|8/|-6|X|X|X||81"));
+            assertThat(archive.countFrames(0, FrameType.STRIKE)).isEqualTo(5);
+            assertThat(archive.countFrames(1, FrameType.STRIKE)).isEqualTo(10);
+            assertThatThrownBy(() -> archive.append(1L, "X|X|X|X|X|X|X|X|X||XX")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> archive.getScore(2))
+                    .isInstanceOf(IllegalArgumentException.class).hasMessage("id must be between 0 and 1.");
+            assertThat(archive.size()).isEqualTo(2);
+        }
+    }
+
+    /**
+     * Ensures that queries by key, by score and by both match a scan of every game, across several segments and with
+     * keys out of order, and again after the archive is reopened.
+     */
+    @Test
+    public void testFind_MatchesScan() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Path directory = temporaryFolder.getRoot().toPath();
+        final Random random = new Random(20L);
+        final List<Long> keys = new ArrayList<>();
+        final List<Integer> scores = new ArrayList<>();
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 100))
+        {
+            for (int i = 0; i < 1_000; i++)
+            {
+                final String game = TestGames.randomGame(random);
+                final long key = i < 500 ? i / 10 : random.nextInt(200);
+                keys.add(key);
+                scores.add(bowlingGame.calculateScore(game));
+                archive.append(key, game);
+                if (i % 97 == 0)
+                {
+                    assertMatchesScan(archive, keys, scores, random);
+                }
+            }
+            assertMatchesScan(archive, keys, scores, random);
+        }
+        assertThat(Files.exists(archive(directory, bowlingGame, 100).getSegmentPath(9))).isTrue();
+
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 100))
+        {
+            assertThat(archive.size()).isEqualTo(1_000);
+            assertMatchesScan(archive, keys, scores, random);
+            archive.append(-1L, "X|X|X|X|X|X|X|X|X|X||XX");
+            assertThat(archive.findByKey(Long.MIN_VALUE, -1L)).containsExactly(1_000);
+            assertThat(archive.findByScore(300, 300)).contains(1_000);
+        }
+    }
+
+    /**
+     * Ensures that a record torn by a crash, with a checksum that does not match, is dropped on open and overwritten by
+     * the next game.
+     */
+    @Test
+    public void testOpen_TornRecord() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Path directory = temporaryFolder.getRoot().toPath();
+        final int recordSize;
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 4))
+        {
+            archive.append(1L, "X|X|X|X|X|X|X|X|X|X||XX");
+            archive.append(2L, "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||");
+            recordSize = archive.getRecordSize();
+        }
+        final Path segment = archive(directory, bowlingGame, 4).getSegmentPath(0);
+        TestGames.corrupt(segment, GameArchive.HEADER_SIZE + recordSize + 20);
+
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 4))
+        {
+            assertThat(archive.size()).isEqualTo(1);
+            assertThat(archive.getScore(0)).isEqualTo(300);
+            assertThat(archive.append(3L, "5/|5/|5/|5/|5/|5/|5/|5/|5/|5/||5")).isEqualTo(1);
+        }
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 4))
+        {
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.getScore(1)).isEqualTo(150);
+            assertThat(archive.findByKey(2L, 3L)).containsExactly(1);
+        }
+    }
+
+    /**
+     * Ensures that the games after a lost record are dropped with the segments after it, so that they are never
+     * resurrected once the hole is overwritten.
+     */
+    @Test
+    public void testOpen_RecordsAfterHoleDropped() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Path directory = temporaryFolder.getRoot().toPath();
+        final int recordSize;
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 4))
+        {
+            for (int i = 0; i < 10; i++)
+            {
+                archive.append(i, "X|X|X|X|X|X|X|X|X|X||XX");
+            }
+            recordSize = archive.getRecordSize();
+        }
+        final GameArchive closed = archive(directory, bowlingGame, 4);
+        TestGames.corrupt(closed.getSegmentPath(0), GameArchive.HEADER_SIZE + 2 * recordSize + 9);
+
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 4))
+        {
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.findByScore(0, 300)).containsExactly(0, 1);
+            assertThat(Files.exists(closed.getSegmentPath(1))).isFalse();
+            assertThat(Files.exists(closed.getSegmentPath(2))).isFalse();
+            archive.append(2L, "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||");
+        }
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 4))
+        {
+            assertThat(archive.size()).isEqualTo(3);
+            assertThat(archive.getScore(2)).isEqualTo(90);
+        }
+    }
+
+    /**
+     * Ensures that a segment left under its temporary name by a crash during rollover is deleted, and the segment is
+     * created again by the next game.
+     */
+    @Test
+    public void testOpen_InterruptedRollover() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Path directory = temporaryFolder.getRoot().toPath();
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 2))
+        {
+            archive.append(1L, "X|X|X|X|X|X|X|X|X|X||XX");
+            archive.append(2L, "X|X|X|X|X|X|X|X|X|X||XX");
+        }
+        final Path segment = archive(directory, bowlingGame, 2).getSegmentPath(1);
+        final Path temporary = segment.resolveSibling(segment.getFileName() + ".tmp");
+        Files.write(temporary, new byte[7]);
+
+        try (GameArchive archive = GameArchive.open(directory, bowlingGame, 2))
+        {
+            assertThat(Files.exists(temporary)).isFalse();
+            assertThat(archive.size()).isEqualTo(2);
+            assertThat(archive.append(3L, "X|X|X|X|X|X|X|X|X|X||XX")).isEqualTo(2);
+            assertThat(Files.exists(segment)).isTrue();
+            assertThat(Files.exists(temporary)).isFalse();
+        }
+    }
+
+    /**
+     * Ensures that an archive cannot be opened with another configuration than it was written with, nor with one whose
+     * scores it cannot index.
+     */
+    @Test
+    public void testOpen_OtherConfiguration() throws IOException
+    {
+        final Path directory = temporaryFolder.getRoot().toPath();
+        try (GameArchive archive = GameArchive.open(directory, BowlingGame.createStandardGame(), 4))
+        {
+            archive.append(1L, "X|X|X|X|X|X|X|X|X|X||XX");
+        }
+
+        assertThatThrownBy(() -> GameArchive.open(directory, BowlingGame.createStandardGame(), 8))
+                .isInstanceOf(IOException.class).hasMessageEndingWith("is not a segment of this archive.");
+        assertThatThrownBy(() -> GameArchive.open(directory, BowlingGame.newBuilder().withSpareBonusRolls(2).build(), 4))
+                .isInstanceOf(IOException.class).hasMessageEndingWith("is not a segment of this archive.");
+        assertThatThrownBy(() -> GameArchive.open(directory, BowlingGame.newBuilder().withNumberOfFrames(3_000).build()))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("bowlingGame cannot score above 65535 to be indexed by score.");
+    }
+
+    /**
+     * Ensures that a closed archive cannot be used.
+     */
+    @Test
+    public void testClose_ClosedArchive() throws IOException
+    {
+        final GameArchive archive = GameArchive.open(temporaryFolder.getRoot().toPath(), BowlingGame.createStandardGame());
+        archive.append(1L, "X|X|X|X|X|X|X|X|X|X||XX");
+        archive.close();
+
+        assertThatThrownBy(() -> archive.append(2L, "X|X|X|X|X|X|X|X|X|X||XX"))
+                .isInstanceOf(IllegalStateException.class).hasMessage("archive is closed.");
+        assertThatThrownBy(() -> archive.getScore(0)).isInstanceOf(IllegalStateException.class).hasMessage("archive is closed.");
+    }
+
+    /**
+     * Asserts that random queries match a scan of every game.
+     * @param archive The {@link GameArchive}.
+     * @param keys The keys of the games.
+     * @param scores The scores of the games.
+     * @param random The {@link Random} to pick the ranges with.
+     */
+    private static void assertMatchesScan(final GameArchive archive, final List<Long> keys, final List<Integer> scores, final Random random)
+    {
+        for (int query = 0; query < 50; query++)
+        {
+            final long fromKey = random.nextInt(220) - 10;
+            final long toKey = fromKey + random.nextInt(query % 2 == 0 ? 5 : 200);
+            final int minScore = random.nextInt(310) - 5;
+            final int maxScore = minScore + random.nextInt(query % 3 == 0 ? 3 : 150);
+            final List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < keys.size(); id++)
+            {
+                if (keys.get(id) >= fromKey && keys.get(id) <= toKey && scores.get(id) >= minScore && scores.get(id) <= maxScore)
+                {
+                    expected.add(id);
+                }
+            }
+
+            assertThat(archive.find(fromKey, toKey, minScore, maxScore)).as("%s-%s, %s-%s", fromKey, toKey, minScore, maxScore)
+                    .containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+            assertThat(archive.findByKey(fromKey, toKey)).hasSize((int) keys.stream().filter(key -> key >= fromKey && key <= toKey).count());
+            assertThat(archive.findByScore(minScore, maxScore))
+                    .hasSize((int) scores.stream().filter(score -> score >= minScore && score <= maxScore).count());
+        }
+    }
+
+    /**
+     * Opens and closes the archive, to resolve the paths of its segment files.
+     * @param directory The directory of the segment files.
+     * @param bowlingGame The {@link BowlingGame}.
+     * @param recordsPerSegment The number of games per segment file.
+     * @return The non-null, closed {@link GameArchive}.
+     */
+    private static GameArchive archive(final Path directory, final BowlingGame bowlingGame, final int recordsPerSegment) throws IOException
+    {
+        final GameArchive archive = GameArchive.open(directory, bowlingGame, recordsPerSegment);
+        archive.close();
+        return archive;
+    }
+}
@@ -0,0 +1,146 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link GameColumnStore}.
+ */
+public class GameColumnStoreTest
+{
+    /**
+     * Ensures that {@link GameColumnStore#scoreAll()} agrees with {@link BowlingGame#calculateScore} across several
+     * blocks of random games, and that the aggregates match.
+     */
+    @Test
+    public void testScoreAll_RandomGames()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(23L);
+        final int games = 5_000;
+        final GameColumnStore store = new GameColumnStore(bowlingGame, games);
+        final int[] expectedScores = new int[games];
+        final long[] expectedHistogram = new long[31];
+        long expectedTotal = 0;
+        int expectedPerfectGames = 0;
+        for (int i = 0; i < games; i++)
+        {
+            final String game = i % 100 == 0 ? "X|X|X|X|X|X|X|X|X|X||XX" : TestGames.randomGame(random);
+            assertThat(store.add(PackedGames.encode(bowlingGame, game))).isEqualTo(i);
+            expectedScores[i] = bowlingGame.calculateScore(game);
+            expectedHistogram[expectedScores[i] / 10]++;
+            expectedTotal += expectedScores[i];
+            expectedPerfectGames += expectedScores[i] == 300 ? 1 : 0;
+        }
+
+        store.scoreAll();
+
+        assertThat(store.size()).isEqualTo(games);
+        for (int i = 0; i < games; i++)
+        {
+            assertThat(store.getScore(i)).isEqualTo(expectedScores[i]);
+        }
+        assertThat(store.meanScore()).isEqualTo((double) expectedTotal / games);
+        assertThat(store.histogram(10)).containsExactly(expectedHistogram);
+        assertThat(store.countPerfectGames()).isEqualTo(expectedPerfectGames);
+        assertThat(store.countScore(expectedScores[1])).isPositive();
+    }
+
+    /**
+     * Ensures that {@link GameColumnStore#scoreAll()} applies the bonus rules of its {@link BowlingGame}.
+     */
+    @Test
+    public void testScoreAll_OtherRules()
+    {
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().withNumberOfPins(5).withStrikeBonusRolls(1).withSpareBonusRolls(2).build();
+        final Random random = new Random(24L);
+        final int games = 2_000;
+        final GameColumnStore store = new GameColumnStore(bowlingGame, games);
+        final int[] expectedScores = new int[games];
+        for (int i = 0; i < games; i++)
+        {
+            final String game = i == 0 ? "X|X|X|X|X|X|X|X|X|X||X" : GameSessionTest.playRandomGame(bowlingGame, bowlingGame.newSession(), random);
+            store.add(PackedGames.encode(bowlingGame, game));
+            expectedScores[i] = bowlingGame.calculateScore(game);
+        }
+
+        store.scoreAll();
+
+        for (int i = 0; i < games; i++)
+        {
+            assertThat(store.getScore(i)).isEqualTo(expectedScores[i]);
+        }
+        assertThat(expectedScores[0]).isEqualTo(100);
+        assertThat(store.countPerfectGames()).isPositive();
+    }
+
+    /**
+     * Ensures that when a spare earns more bonus rolls than a strike, the histogram has buckets up to the highest score
+     * of the rules, and only games of all strikes count as perfect, not other games with the same score.
+     */
+    @Test
+    public void testHistogram_SparesScoreAboveStrikes()
+    {
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(2).build();
+        final String[] games = {"X|X|X|X|X|X|X|X|X|X||", "-/|9-|9-|9-|9-|9-|9-|9-|9-|9-||", "-/|-/|-/|-/|-/|-/|-/|-/|-/|-/||XX",
+                "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||"};
+        final GameColumnStore store = new GameColumnStore(bowlingGame, games.length);
+        for (final String game : games)
+        {
+            store.add(PackedGames.encode(bowlingGame, game));
+        }
+
+        store.scoreAll();
+
+        assertThat(store.getScore(0)).isEqualTo(100);
+        assertThat(store.getScore(1)).isEqualTo(100);
+        assertThat(store.getScore(2)).isEqualTo(bowlingGame.calculateScore(games[2])).isGreaterThan(200);
+        assertThat(store.countScore(100)).isEqualTo(2);
+        assertThat(store.countPerfectGames()).isEqualTo(1);
+        final long[] histogram = store.histogram(10);
+        assertThat(histogram).hasSize((int) bowlingGame.getScoreBound() / 10 + 1);
+        assertThat(histogram[9]).isEqualTo(1);
+        assertThat(histogram[10]).isEqualTo(2);
+        assertThat(histogram[store.getScore(2) / 10]).isEqualTo(1);
+    }
+
+    /**
+     * Ensures that an {@link IllegalStateException} is thrown with the correct message when the store is full.
+     */
+    @Test
+    public void testAdd_StoreFull()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final GameColumnStore store = new GameColumnStore(bowlingGame, 1);
+        final short[] packedGame = PackedGames.encode(bowlingGame, "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||");
+        store.add(packedGame);
+        assertThatThrownBy(() -> store.add(packedGame)).isInstanceOf(IllegalStateException.class).hasMessage("store is full.");
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message when a game has the wrong
+     * number of frames.
+     */
+    @Test
+    public void testAdd_WrongNumberOfFrames()
+    {
+        final GameColumnStore store = new GameColumnStore(BowlingGame.createStandardGame(), 1);
+        assertThatThrownBy(() -> store.add(new short[3]))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("packedGame must have 11 frames.");
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message when a valid game can score
+     * above {@link BowlingGame#MAX_INDEXED_SCORE}.
+     */
+    @Test
+    public void testConstructor_ScoreBoundTooLarge()
+    {
+        assertThatThrownBy(() -> new GameColumnStore(BowlingGame.newBuilder().withNumberOfFrames(100_000_000).build(), 1))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("bowlingGame cannot score above 65535 to be indexed by score.");
+    }
+}
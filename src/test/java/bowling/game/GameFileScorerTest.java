@@ -0,0 +1,116 @@
+package bowling.game;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link GameFileScorer}.
+ */
+public class GameFileScorerTest
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Ensures that {@link GameFileScorer#scoreFile} writes the score of each line, including invalid games, lines ending
+     * with {@code \r\n} and a last line without a line ending.
+     */
+    @Test
+    public void testScoreFile_MixedLines() throws IOException
+    {
+        final Path input = write("X|X|X|X|X|X|X|X|X|X||XX\r\nX|9-||\n\n9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||\n5/|5/|5/|5/|5/|5/|5/|5/|5/|5/||5");
+        final Path output = temporaryFolder.getRoot().toPath().resolve("scores.txt");
+
+        assertThat(new GameFileScorer(BowlingGame.createStandardGame()).scoreFile(input, output)).isEqualTo(5);
+        assertThat(Files.readAllLines(output)).containsExactly("300", "-1", "-1", "90", "150");
+    }
+
+    /**
+     * Ensures that {@link GameFileScorer#scoreFile} gives the same scores as {@link BowlingGame#calculateScore} when
+     * the input is mapped in many small segments and split across workers.
+     */
+    @Test
+    public void testScoreFile_SegmentsAndWorkers() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(11L);
+        final StringBuilder content = new StringBuilder();
+        final List<String> expectedScores = new ArrayList<>();
+        for (final String game : TestGames.mixedGames(random, 5_000, 4))
+        {
+            content.append(game.replace('\n', ' ')).append('\n');
+            int score;
+            try
+            {
+                score = bowlingGame.calculateScore(game.replace('\n', ' '));
+            }
+            catch (final IllegalArgumentException e)
+            {
+                score = BowlingGame.INVALID_SCORE;
+            }
+            expectedScores.add(Integer.toString(score));
+        }
+        final Path input = write(content.toString());
+
+        for (final int workers : new int[] {1, 3, 8})
+        {
+            final Path output = temporaryFolder.getRoot().toPath().resolve("scores-" + workers + ".txt");
+            assertThat(new GameFileScorer(bowlingGame, 100).scoreFile(input, output, workers)).isEqualTo(expectedScores.size());
+            assertThat(Files.readAllLines(output)).isEqualTo(expectedScores);
+        }
+    }
+
+    /**
+     * Ensures that {@link GameFileScorer#findLineBoundaries} only splits after line endings.
+     */
+    @Test
+    public void testFindLineBoundaries() throws IOException
+    {
+        final Path input = write("aaaa\nbb\ncccccccc\nd\n");
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ))
+        {
+            assertThat(GameFileScorer.findLineBoundaries(channel, 1)).containsExactly(0, 19);
+            assertThat(GameFileScorer.findLineBoundaries(channel, 2)).containsExactly(0, 17, 19);
+            assertThat(GameFileScorer.findLineBoundaries(channel, 4)).containsExactly(0, 5, 8, 17, 19);
+        }
+    }
+
+    /**
+     * Ensures that an {@link IllegalStateException} is thrown when a line does not fit in a segment.
+     */
+    @Test
+    public void testScoreFile_LineLongerThanSegment() throws IOException
+    {
+        final Path input = write("X|X|X|X|X|X|X|X|X|X||XX\n");
+        final Path output = temporaryFolder.getRoot().toPath().resolve("scores.txt");
+        assertThatThrownBy(() -> new GameFileScorer(BowlingGame.createStandardGame(), 8).scoreFile(input, output))
+                .isInstanceOf(IllegalStateException.class).hasMessage("Line at offset 0 is longer than the segment size of 8 bytes.");
+    }
+
+    /**
+     * Writes the content to a new temporary file.
+     * @param content The content.
+     * @return The path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private Path write(final String content) throws IOException
+    {
+        final Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+}
@@ -0,0 +1,322 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link GameSession}.
+ */
+public class GameSessionTest
+{
+    /**
+     * Ensures that a perfect game is complete after twelve strikes with a score of 300 and 30 in every frame.
+     */
+    @Test
+    public void testRoll_PerfectGame()
+    {
+        final GameSession session = BowlingGame.createStandardGame().newSession();
+        for (int roll = 0; roll < 12; roll++)
+        {
+            assertThat(session.isComplete()).isFalse();
+            session.roll(10);
+        }
+        assertThat(session.isComplete()).isTrue();
+        assertThat(session.getScore()).isEqualTo(300);
+        assertThat(IntStream.range(0, 10).map(session::getFrameScore)).containsOnly(30);
+    }
+
+    /**
+     * Ensures that the running score only counts bonuses once the rolls earning them arrive.
+     */
+    @Test
+    public void testRoll_RunningScore()
+    {
+        final GameSession session = BowlingGame.createStandardGame().newSession();
+        session.roll(10);
+        assertThat(session.getScore()).isEqualTo(10);
+        session.roll(7);
+        assertThat(session.getScore()).isEqualTo(24);
+        session.roll(3);
+        assertThat(session.getScore()).isEqualTo(30);
+        session.roll(9);
+        assertThat(session.getScore()).isEqualTo(48);
+        assertThat(session.getFrameScore(0)).isEqualTo(20);
+        assertThat(session.getFrameScore(1)).isEqualTo(19);
+        assertThat(session.getFrameScore(2)).isEqualTo(9);
+        assertThat(session.getFrameIndex()).isEqualTo(2);
+    }
+
+    /**
+     * Ensures that a game ending with an open frame is complete without bonus rolls.
+     */
+    @Test
+    public void testRoll_NoBonusRolls()
+    {
+        final GameSession session = BowlingGame.createStandardGame().newSession();
+        for (int roll = 0; roll < 20; roll++)
+        {
+            session.roll(roll % 2 == 0 ? 9 : 0);
+        }
+        assertThat(session.isComplete()).isTrue();
+        assertThat(session.getScore()).isEqualTo(90);
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message when more pins are knocked
+     * down than are standing, and that the session is left unchanged.
+     */
+    @Test
+    public void testRoll_TooManyPins()
+    {
+        final GameSession session = BowlingGame.createStandardGame().newSession();
+        session.roll(7);
+        assertThatThrownBy(() -> session.roll(4))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Number of pins exceeds the 3 standing pins.");
+        assertThat(session.getScore()).isEqualTo(7);
+        session.roll(3);
+        assertThat(session.getFrameIndex()).isEqualTo(1);
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message for a negative roll.
+     */
+    @Test
+    public void testRoll_NegativePins()
+    {
+        assertThatThrownBy(() -> BowlingGame.createStandardGame().newSession().roll(-1))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("pinsKnockedDown must be non-negative.");
+    }
+
+    /**
+     * Ensures that an {@link IllegalStateException} is thrown with the correct message when rolling after the game is
+     * complete.
+     */
+    @Test
+    public void testRoll_GameComplete()
+    {
+        final GameSession session = BowlingGame.createStandardGame().newSession();
+        for (int roll = 0; roll < 20; roll++)
+        {
+            session.roll(0);
+        }
+        assertThatThrownBy(() -> session.roll(0))
+                .isInstanceOf(IllegalStateException.class).hasMessage("game is already complete.");
+    }
+
+    /**
+     * Ensures that the session agrees with {@link BowlingGame#calculateScore} for random games, and that the frame
+     * scores always add up to the running score.
+     */
+    @Test
+    public void testRoll_MatchesCalculateScore()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(5L);
+        for (int i = 0; i < 10_000; i++)
+        {
+            final GameSession session = bowlingGame.newSession();
+            final String game = playRandomGame(bowlingGame, session, random);
+            assertThat(session.getScore()).as(game).isEqualTo(bowlingGame.calculateScore(game));
+        }
+    }
+
+    /**
+     * Ensures that the session, {@link BowlingGame#calculateScore} and the reference
+     * {@link BowlingGame#calculateScoreFromFrames} agree for games played under other rules.
+     */
+    @Test
+    public void testRoll_MatchesCalculateScoreForOtherRules()
+    {
+        final BowlingGame[] bowlingGames = {
+                BowlingGame.newBuilder().withNumberOfPins(5).withNumberOfFrames(5).build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(1).build(),
+                BowlingGame.newBuilder().withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(0).withNumberOfFrames(3).build()
+        };
+        final Random random = new Random(6L);
+        for (final BowlingGame bowlingGame : bowlingGames)
+        {
+            for (int i = 0; i < 2_000; i++)
+            {
+                final GameSession session = bowlingGame.newSession();
+                final String game = playRandomGame(bowlingGame, session, random);
+                assertThat(bowlingGame.calculateScore(game)).as(game).isEqualTo(session.getScore());
+                assertThat(bowlingGame.calculateScoreFromFrames(game)).as(game).isEqualTo(session.getScore());
+            }
+        }
+    }
+
+    /**
+     * Ensures that the score range and the rolls to reach a target are answered for known games.
+     */
+    @Test
+    public void testGetRollsToReach_KnownGames()
+    {
+        final GameSession session = BowlingGame.createStandardGame().newSession();
+        assertThat(session.getMinimumScore()).isZero();
+        assertThat(session.getMaximumScore()).isEqualTo(300);
+        assertThat(session.getRollsToReach(300)).containsOnly(10).hasSize(12);
+        assertThat(session.getRollsToReach(301)).isNull();
+        assertThat(session.getRollsToReach(0)).containsOnly(0).hasSize(20);
+
+        for (int frame = 0; frame < 9; frame++)
+        {
+            session.roll(9);
+            session.roll(0);
+        }
+        assertThat(session.getMinimumScore()).isEqualTo(81);
+        assertThat(session.getMaximumScore()).isEqualTo(111);
+        assertThat(session.getRollsToReach(100)).containsExactly(0, 10, 9);
+        assertThat(session.getRollsToReach(90)).containsExactly(0, 9);
+
+        session.roll(10);
+        assertThat(session.getStandingPins()).isEqualTo(10);
+        assertThat(session.getMaximumScore()).isEqualTo(111);
+        assertThat(session.getRollsToReach(95)).containsExactly(0, 4);
+        session.roll(4);
+        assertThat(session.getStandingPins()).isEqualTo(6);
+        assertThat(session.getRollsToReach(96)).containsExactly(1);
+        assertThat(session.getRollsToReach(101)).containsExactly(6);
+        session.roll(6);
+        assertThat(session.getMaximumScore()).isEqualTo(101);
+        assertThat(session.getRollsToReach(101)).isEmpty();
+        assertThat(session.getRollsToReach(102)).isNull();
+    }
+
+    /**
+     * Ensures that, for random games in progress under various rules, the score range matches the lowest and highest
+     * score of every completion, and the rolls to reach each target are the first completion in lexicographic order
+     * that reaches it.
+     */
+    @Test
+    public void testGetRollsToReach_MatchesEveryCompletion()
+    {
+        final BowlingGame[] bowlingGames = {
+                BowlingGame.newBuilder().withNumberOfPins(3).withNumberOfFrames(3).build(),
+                BowlingGame.newBuilder().withNumberOfPins(3).withNumberOfFrames(3).withStrikeBonusRolls(1).build(),
+                BowlingGame.newBuilder().withNumberOfPins(3).withNumberOfFrames(3).withStrikeBonusRolls(0).withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withNumberOfPins(2).withNumberOfFrames(4).withStrikeBonusRolls(1).withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withNumberOfPins(1).withNumberOfFrames(4).build(),
+                BowlingGame.newBuilder().withNumberOfPins(4).withNumberOfFrames(2).withStrikeBonusRolls(0).withSpareBonusRolls(0).build()
+        };
+        final Random random = new Random(18L);
+        for (final BowlingGame bowlingGame : bowlingGames)
+        {
+            for (int i = 0; i < 40; i++)
+            {
+                final List<Integer> rolls = new ArrayList<>();
+                final GameSession session = bowlingGame.newSession();
+                final int prefixLength = random.nextInt(2 * bowlingGame.getNumberOfFrames() + 2);
+                while (rolls.size() < prefixLength && !session.isComplete())
+                {
+                    final int pins = random.nextInt(session.getStandingPins() + 1);
+                    session.roll(pins);
+                    rolls.add(pins);
+                }
+                final List<int[]> completions = new ArrayList<>();
+                final List<Integer> scores = new ArrayList<>();
+                completeGames(bowlingGame, rolls, rolls.size(), completions, scores);
+
+                final String description = rolls.toString();
+                assertThat(session.getMinimumScore()).as(description).isEqualTo(scores.stream().mapToInt(Integer::intValue).min().getAsInt());
+                assertThat(session.getMaximumScore()).as(description).isEqualTo(scores.stream().mapToInt(Integer::intValue).max().getAsInt());
+                for (int target = session.getMinimumScore() - 1; target <= session.getMaximumScore() + 1; target++)
+                {
+                    int[] expected = null;
+                    for (int completion = 0; completion < completions.size() && expected == null; completion++)
+                    {
+                        expected = scores.get(completion) >= target ? completions.get(completion) : null;
+                    }
+                    assertThat(session.getRollsToReach(target)).as(description + " " + target).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    /**
+     * Enumerates every completion of a game in progress, in lexicographic order of the rolls.
+     * @param bowlingGame The {@link BowlingGame}.
+     * @param rolls The rolls so far, which are restored before returning.
+     * @param prefixLength The number of rolls of the game in progress.
+     * @param completions The List receiving the rolls of each completion after the game in progress.
+     * @param scores The List receiving the final score of each completion.
+     */
+    private static void completeGames(final BowlingGame bowlingGame, final List<Integer> rolls, final int prefixLength,
+                                      final List<int[]> completions, final List<Integer> scores)
+    {
+        final GameSession session = bowlingGame.newSession();
+        rolls.forEach(session::roll);
+        if (session.isComplete())
+        {
+            completions.add(rolls.subList(prefixLength, rolls.size()).stream().mapToInt(Integer::intValue).toArray());
+            scores.add(session.getScore());
+            return;
+        }
+        for (int pins = 0; pins <= session.getStandingPins(); pins++)
+        {
+            rolls.add(pins);
+            completeGames(bowlingGame, rolls, prefixLength, completions, scores);
+            rolls.remove(rolls.size() - 1);
+        }
+    }
+
+    /**
+     * Plays random rolls into the session until it is complete, checking that the frame scores always add up to the
+     * running score.
+     * @param bowlingGame The {@link BowlingGame} of the session, with at most ten pins.
+     * @param session The new {@link GameSession}.
+     * @param random The {@link Random}.
+     * @return The game that was played, written with the standard symbols.
+     */
+    static String playRandomGame(final BowlingGame bowlingGame, final GameSession session, final Random random)
+    {
+        final int numberOfFrames = bowlingGame.getNumberOfFrames();
+        final int numberOfPins = bowlingGame.getNumberOfPins();
+        final StringBuilder game = new StringBuilder();
+        int standingPins = numberOfPins;
+        boolean firstRoll = true;
+        while (!session.isComplete())
+        {
+            final int frameIndex = session.getFrameIndex();
+            final boolean bonusRoll = frameIndex == numberOfFrames;
+            final int pins = random.nextInt(standingPins + 1);
+            session.roll(pins);
+            game.append(toSymbol(pins, standingPins, numberOfPins, firstRoll || bonusRoll));
+            standingPins = pins == standingPins || session.getFrameIndex() != frameIndex ? numberOfPins : standingPins - pins;
+            firstRoll = session.getFrameIndex() != frameIndex;
+            if (session.getFrameIndex() != frameIndex)
+            {
+                game.append(session.getFrameIndex() == numberOfFrames ? "||" : "|");
+            }
+            assertThat(IntStream.range(0, numberOfFrames).map(session::getFrameScore).sum()).isEqualTo(session.getScore());
+        }
+        return game.toString();
+    }
+
+    /**
+     * @param pins The number of pins knocked down.
+     * @param standingPins The number of pins standing before the roll.
+     * @param numberOfPins The number of pins.
+     * @param canStrike Whether the roll is the first roll of a frame or a bonus roll, which cannot be a spare.
+     * @return The symbol of the roll.
+     */
+    private static char toSymbol(final int pins, final int standingPins, final int numberOfPins, final boolean canStrike)
+    {
+        if (pins == standingPins && !canStrike)
+        {
+            return '/';
+        }
+        if (pins == numberOfPins)
+        {
+            return 'X';
+        }
+        return pins == 0 ? '-' : (char) ('0' + pins);
+    }
+}
@@ -0,0 +1,158 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link GameSimulator} and {@link RollModel}.
+ */
+public class GameSimulatorTest
+{
+    /**
+     * Ensures that every simulated game scores the same as replaying its rolls in a {@link GameSession}, which also
+     * agrees on the standing pins of every roll and on when the game is complete, under several rules and models.
+     */
+    @Test
+    public void testSimulateGame_MatchesSession()
+    {
+        final List<BowlingGame> bowlingGames = Arrays.asList(BowlingGame.createStandardGame(),
+                BowlingGame.newBuilder().withNumberOfFrames(5).withNumberOfPins(8).withStrikeBonusRolls(1).withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withNumberOfFrames(3).withNumberOfPins(4).withStrikeBonusRolls(0).withSpareBonusRolls(0).build());
+        final SplittableRandom random = new SplittableRandom(21L);
+        for (final BowlingGame bowlingGame : bowlingGames)
+        {
+            for (final RollModel model : Arrays.asList(RollModel.uniform(), RollModel.binomial(bowlingGame.getNumberOfPins(), 0.8)))
+            {
+                for (int game = 0; game < 2_000; game++)
+                {
+                    final GameSession session = bowlingGame.newSession();
+                    final RollModel replay = (frame, rollInFrame, standingPins, rollRandom) ->
+                    {
+                        assertThat(session.isComplete()).isFalse();
+                        assertThat(standingPins).isEqualTo(session.getStandingPins());
+                        final int pins = model.roll(frame, rollInFrame, standingPins, rollRandom);
+                        session.roll(pins);
+                        return pins;
+                    };
+
+                    assertThat(bowlingGame.newSimulator(replay).simulateGame(random)).isEqualTo(session.getScore());
+                    assertThat(session.isComplete()).isTrue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Ensures that models that always strike, always spare or always miss give the known scores.
+     */
+    @Test
+    public void testSimulateGame_KnownModels()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final SplittableRandom random = new SplittableRandom(22L);
+        final double[][] alwaysNineThenSpare = new double[11][];
+        for (int standingPins = 0; standingPins <= 10; standingPins++)
+        {
+            alwaysNineThenSpare[standingPins] = new double[standingPins + 1];
+            alwaysNineThenSpare[standingPins][standingPins == 10 ? 9 : standingPins] = 1;
+        }
+
+        assertThat(bowlingGame.newSimulator(RollModel.binomial(10, 1)).simulateGame(random)).isEqualTo(300);
+        assertThat(bowlingGame.newSimulator(RollModel.binomial(10, 0)).simulateGame(random)).isEqualTo(0);
+        assertThat(bowlingGame.newSimulator(RollModel.fromWeights(alwaysNineThenSpare)).simulateGame(random)).isEqualTo(190);
+    }
+
+    /**
+     * Ensures that a simulation gives the same statistics on pools of any parallelism for the same seed, that every
+     * game is in the score distribution, and that the pin-fall probability drives the strike rate.
+     */
+    @Test
+    public void testSimulate_Reproducible()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final GameSimulator simulator = bowlingGame.newSimulator(RollModel.binomial(10, 0.9));
+        final ForkJoinPool singleThreaded = new ForkJoinPool(1);
+        final ForkJoinPool multiThreaded = new ForkJoinPool(4);
+        try
+        {
+            final GameStatistics expected = simulator.simulate(100_000, 23L, singleThreaded, 1_000);
+            final GameStatistics actual = simulator.simulate(100_000, 23L, multiThreaded, 1_000);
+            final GameStatistics otherSeed = simulator.simulate(100_000, 24L, multiThreaded, 1_000);
+
+            assertThat(actual.getGames()).isEqualTo(100_000);
+            assertThat(actual.getScoreDistribution()).isEqualTo(expected.getScoreDistribution());
+            assertThat(actual.getFrames(FrameType.STRIKE)).isEqualTo(expected.getFrames(FrameType.STRIKE));
+            assertThat(actual.getMeanFirstRollPins()).isEqualTo(expected.getMeanFirstRollPins());
+            assertThat(otherSeed.getScoreDistribution()).isNotEqualTo(expected.getScoreDistribution());
+            assertThat(Arrays.stream(actual.getScoreDistribution()).sum()).isEqualTo(100_000);
+            assertThat(actual.getStrikeRate()).isBetween(Math.pow(0.9, 10) - 0.01, Math.pow(0.9, 10) + 0.01);
+            assertThat(actual.getMeanFirstRollPins()).isBetween(8.95, 9.05);
+        }
+        finally
+        {
+            singleThreaded.shutdown();
+            multiThreaded.shutdown();
+        }
+    }
+
+    /**
+     * Ensures that a simulation can be combined with statistics of scored games, and that a simulation of no games is
+     * empty.
+     */
+    @Test
+    public void testSimulate_CombinesWithScoredGames()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final GameStatistics statistics = bowlingGame.newSimulator(RollModel.binomial(10, 1)).simulate(10, 25L);
+        statistics.accept("9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||");
+
+        assertThat(statistics.getGames()).isEqualTo(11);
+        assertThat(statistics.getMaxScore()).isEqualTo(300);
+        assertThat(statistics.getMinScore()).isEqualTo(90);
+        assertThat(bowlingGame.newSimulator(RollModel.uniform()).simulate(0, 25L).getGames()).isZero();
+    }
+
+    /**
+     * Ensures that a model knocking down more pins than are standing fails the simulation.
+     */
+    @Test
+    public void testSimulate_InvalidModel()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final GameSimulator simulator = bowlingGame.newSimulator((frame, rollInFrame, standingPins, random) -> 7);
+
+        assertThatThrownBy(() -> simulator.simulateGame(new SplittableRandom(26L)))
+                .isInstanceOf(IllegalStateException.class).hasMessage("rollModel knocked down 7 of 3 standing pins.");
+        assertThatThrownBy(() -> simulator.simulate(100, 26L))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("rollModel knocked down 7 of 3 standing pins.");
+        assertThatThrownBy(() -> bowlingGame.newSimulator(RollModel.binomial(8, 0.5)).simulateGame(new SplittableRandom(26L)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Distribution has no weights for 10 standing pins.");
+        assertThatThrownBy(() -> bowlingGame.newSimulator(null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("rollModel cannot be null.");
+    }
+
+    /**
+     * Ensures that invalid pin-fall distributions are rejected.
+     */
+    @Test
+    public void testFromWeights_InvalidWeights()
+    {
+        assertThatThrownBy(() -> RollModel.fromWeights(new double[][] {{1}}))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("weightsByStandingPins must have a row for at least one pin.");
+        assertThatThrownBy(() -> RollModel.fromWeights(new double[][] {{1}, {1, 1, 1}}))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("weights for 1 standing pins must have 2 entries.");
+        assertThatThrownBy(() -> RollModel.fromWeights(new double[][] {{1}, {1, -1}}))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("weights for 1 standing pins must be non-negative and finite.");
+        assertThatThrownBy(() -> RollModel.fromWeights(new double[][] {{1}, {0, 0}}))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("weights for 1 standing pins cannot all be 0.");
+        assertThatThrownBy(() -> RollModel.binomial(10, 1.5))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("pinFallProbability must be between 0 and 1.");
+    }
+}
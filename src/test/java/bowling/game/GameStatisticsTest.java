@@ -0,0 +1,183 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@link GameStatistics}.
+ */
+public class GameStatisticsTest
+{
+    /**
+     * Ensures that frames, first rolls, scores and failures are aggregated over known games.
+     */
+    @Test
+    public void testAccept_KnownGames()
+    {
+        final GameStatistics statistics = new GameStatistics(BowlingGame.createStandardGame());
+
+        assertThat(statistics.accept("X|7/|9-|X|-8|8/|-6|X|X|X||81")).isTrue();
+        assertThat(statistics.accept(new StringBuilder("X|X|X|X|X|X|X|X|X|X||XX"))).isTrue();
+        assertThat(statistics.accept("9/|9/|9/|9/|9/|9/|9/|9/|9/|9/||9")).isTrue();
+        assertThat(statistics.accept(" ")).isFalse();
+        assertThat(statistics.accept("X|X|X|X|X|X|X|X|X||XX")).isFalse();
+
+        assertThat(statistics.getGames()).isEqualTo(3);
+        assertThat(statistics.getFailures(GameError.BLANK_GAME)).isEqualTo(1);
+        assertThat(statistics.getFailures(GameError.WRONG_NUMBER_OF_FRAMES)).isEqualTo(1);
+        assertThat(statistics.getTotalFailures()).isEqualTo(2);
+        assertThat(statistics.getFrames(FrameType.STRIKE)).isEqualTo(15);
+        assertThat(statistics.getFrames(FrameType.SPARE)).isEqualTo(12);
+        assertThat(statistics.getFrames(FrameType.PINS)).isEqualTo(3);
+        assertThat(statistics.getFrames(FrameType.BONUS)).isEqualTo(3);
+        assertThat(statistics.getCleanGames()).isEqualTo(2);
+        assertThat(statistics.getStrikeRate()).isEqualTo(0.5);
+        assertThat(statistics.getSpareConversionRate()).isEqualTo(0.8);
+        assertThat(statistics.getOpenFrameRate()).isEqualTo(0.1);
+        assertThat(statistics.getMeanFirstRollPins()).isCloseTo(8.8, within(1e-9));
+        assertThat(statistics.getMeanScore()).isEqualTo(219);
+        assertThat(statistics.getScoreStandardDeviation()).isCloseTo(Math.sqrt(10106.0 / 3), within(1e-9));
+        assertThat(statistics.getMinScore()).isEqualTo(167);
+        assertThat(statistics.getMaxScore()).isEqualTo(300);
+        assertThat(statistics.getScoreBucketWidth()).isEqualTo(1);
+        assertThat(statistics.getScoreDistribution()).hasSize(301);
+        assertThat(statistics.getScoreDistribution()[190]).isEqualTo(1);
+        assertThat(statistics.getScorePercentile(1)).isEqualTo(167);
+        assertThat(statistics.getScorePercentile(50)).isEqualTo(190);
+        assertThat(statistics.getScorePercentile(100)).isEqualTo(300);
+    }
+
+    /**
+     * Ensures that statistics without valid games report no scores.
+     */
+    @Test
+    public void testGetters_NoGames()
+    {
+        final GameStatistics statistics = new GameStatistics(BowlingGame.createStandardGame());
+
+        assertThat(statistics.getGames()).isZero();
+        assertThat(statistics.getStrikeRate()).isNaN();
+        assertThat(statistics.getMeanScore()).isNaN();
+        assertThat(statistics.getMinScore()).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThat(statistics.getMaxScore()).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThat(statistics.getScorePercentile(50)).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThatThrownBy(() -> statistics.getScorePercentile(0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("percentile must be greater than 0 and at most 100.");
+    }
+
+    /**
+     * Ensures that combining partial statistics in any grouping, aggregating on a {@link ForkJoinPool} and collecting a
+     * parallel stream all agree with aggregating the games one by one.
+     */
+    @Test
+    public void testCombine_MatchesSequential()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(17L);
+        final List<String> games = TestGames.mixedGames(random, 20_000, 7);
+        final GameStatistics sequential = new GameStatistics(bowlingGame);
+        games.forEach(sequential::accept);
+
+        final GameStatistics[] parts = new GameStatistics[3];
+        for (int part = 0; part < parts.length; part++)
+        {
+            parts[part] = new GameStatistics(bowlingGame);
+        }
+        for (int i = 0; i < games.size(); i++)
+        {
+            parts[i * parts.length / games.size()].accept(games.get(i));
+        }
+        final GameStatistics leftFirst = new GameStatistics(bowlingGame).combine(parts[0]).combine(parts[1]).combine(parts[2]);
+        final GameStatistics rightFirst = new GameStatistics(bowlingGame).combine(parts[2])
+                .combine(new GameStatistics(bowlingGame).combine(parts[1]).combine(parts[0]));
+
+        assertThat(sequential.getGames() + sequential.getTotalFailures()).isEqualTo(games.size());
+        assertThat(describe(leftFirst)).isEqualTo(describe(sequential));
+        assertThat(describe(rightFirst)).isEqualTo(describe(sequential));
+        assertThat(describe(bowlingGame.calculateStatistics(games, ForkJoinPool.commonPool(), 64))).isEqualTo(describe(sequential));
+        assertThat(describe(games.parallelStream().collect(GameStatistics.collector(bowlingGame)))).isEqualTo(describe(sequential));
+    }
+
+    /**
+     * Ensures that statistics can be collected per bowler.
+     */
+    @Test
+    public void testCollector_PerBowler()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final List<String> games = Arrays.asList("ann:X|X|X|X|X|X|X|X|X|X||XX", "bob:9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||",
+                "ann:9/|9/|9/|9/|9/|9/|9/|9/|9/|9/||9");
+
+        final Map<String, GameStatistics> statistics = games.stream().collect(Collectors.groupingBy(game -> game.substring(0, 3),
+                Collectors.mapping(game -> game.substring(4), GameStatistics.collector(bowlingGame))));
+
+        assertThat(statistics.get("ann").getGames()).isEqualTo(2);
+        assertThat(statistics.get("ann").getMeanScore()).isEqualTo(245);
+        assertThat(statistics.get("bob").getOpenFrameRate()).isEqualTo(1);
+        assertThat(statistics.get("bob").getMaxScore()).isEqualTo(90);
+    }
+
+    /**
+     * Ensures that larger games group several scores per bucket, and that the bonus rules of the game are used.
+     */
+    @Test
+    public void testAccept_OtherRules()
+    {
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().withNumberOfFrames(1_000).withSpareBonusRolls(2).build();
+        final GameStatistics statistics = new GameStatistics(bowlingGame);
+        final String frames = String.join("|", Collections.nCopies(1_000, "X"));
+
+        assertThat(statistics.accept(frames + "||XX")).isTrue();
+        assertThat(statistics.getScoreBucketWidth()).isEqualTo(30);
+        assertThat(statistics.getScoreDistribution()).hasSize(1001);
+        assertThat(statistics.getMaxScore()).isEqualTo(30_000);
+        assertThat(statistics.getScorePercentile(100)).isEqualTo(30_000);
+    }
+
+    /**
+     * Ensures that statistics of another {@link BowlingGame} cannot be combined.
+     */
+    @Test
+    public void testCombine_OtherBowlingGame()
+    {
+        final GameStatistics statistics = new GameStatistics(BowlingGame.createStandardGame());
+
+        assertThatThrownBy(() -> statistics.combine(new GameStatistics(BowlingGame.createStandardGame())))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("other must be aggregated with the same BowlingGame.");
+        assertThatThrownBy(() -> new GameStatistics(null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("bowlingGame cannot be null.");
+    }
+
+    /**
+     * @param statistics The {@link GameStatistics}.
+     * @return The non-null description of every statistic.
+     */
+    private static String describe(final GameStatistics statistics)
+    {
+        final StringBuilder description = new StringBuilder();
+        for (final GameError error : GameError.values())
+        {
+            description.append(error).append('=').append(statistics.getFailures(error)).append(' ');
+        }
+        for (final FrameType frameType : FrameType.values())
+        {
+            description.append(frameType).append('=').append(statistics.getFrames(frameType)).append(' ');
+        }
+        return description.append(statistics.getGames()).append(' ').append(statistics.getCleanGames())
+                .append(' ').append(statistics.getMeanFirstRollPins()).append(' ').append(statistics.getMeanScore())
+                .append(' ').append(statistics.getScoreStandardDeviation()).append(' ').append(statistics.getMinScore())
+                .append(' ').append(statistics.getMaxScore()).append(' ').append(Arrays.toString(statistics.getScoreDistribution()))
+                .toString();
+    }
+}
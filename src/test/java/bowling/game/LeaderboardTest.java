@@ -0,0 +1,160 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link Leaderboard}.
+ */
+public class LeaderboardTest
+{
+    /**
+     * Ensures that the best score of every key is kept, ordered from the highest score and then by key, and ranked in
+     * standard competition ranking.
+     */
+    @Test
+    public void testSubmit_BestScorePerKey()
+    {
+        final Leaderboard leaderboard = new Leaderboard(BowlingGame.createStandardGame());
+
+        assertThat(leaderboard.submit(1L, "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||")).isEqualTo(90);
+        assertThat(leaderboard.submit(2L, "5/|5/|5/|5/|5/|5/|5/|5/|5/|5/||5")).isEqualTo(150);
+        assertThat(leaderboard.submit(1L, "X|7/|9-|X|-8|8/|-6|X|X|X||81")).isEqualTo(167);
+        assertThat(leaderboard.submit(1L, "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||")).isEqualTo(90);
+        assertThat(leaderboard.submit(3L, new StringBuilder("5/|5/|5/|5/|5/|5/|5/|5/|5/|5/||5"))).isEqualTo(150);
+        assertThat(leaderboard.submit(4L, "-1|-1|-1|-1|-1|-1|-1|-1|-1|-1||")).isEqualTo(10);
+        assertThatThrownBy(() -> leaderboard.submit(4L, "X|X|X|X|X|X|X|X|X||XX")).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(leaderboard.size()).isEqualTo(4);
+        assertThat(leaderboard.getTop(3)).extracting(Leaderboard.Entry::getKey).containsExactly(1L, 2L, 3L);
+        assertThat(leaderboard.getTop(10)).extracting(Leaderboard.Entry::getScore).containsExactly(167, 150, 150, 10);
+        assertThat(leaderboard.getTop(0)).isEmpty();
+        assertThat(leaderboard.getBestScore(1L)).isEqualTo(167);
+        assertThat(leaderboard.getBestScore(5L)).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThat(leaderboard.getRank(1L)).isEqualTo(1);
+        assertThat(leaderboard.getRank(2L)).isEqualTo(2);
+        assertThat(leaderboard.getRank(3L)).isEqualTo(2);
+        assertThat(leaderboard.getRank(4L)).isEqualTo(4);
+        assertThat(leaderboard.getRank(5L)).isZero();
+        assertThat(leaderboard.getRankOfScore(300)).isEqualTo(1);
+        assertThat(leaderboard.getRankOfScore(100)).isEqualTo(4);
+        assertThat(leaderboard.getRankOfScore(0)).isEqualTo(5);
+        assertThatThrownBy(() -> leaderboard.getTop(-1))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("count must be non-negative.");
+    }
+
+    /**
+     * Ensures that games submitted from many threads end with the best score of every key, and that every snapshot
+     * read meanwhile has each key once, in order, never loses a key that was on an earlier snapshot and never ranks a
+     * key lower than on an earlier snapshot.
+     * @throws Exception If a submitter or the reader fails.
+     */
+    @Test
+    public void testSubmit_ConcurrentSnapshots() throws Exception
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Leaderboard leaderboard = new Leaderboard(bowlingGame);
+        final int threads = 8;
+        final List<List<String>> games = new ArrayList<>();
+        final Map<Long, Integer> expected = new HashMap<>();
+        final Random random = new Random(22L);
+        for (int thread = 0; thread < threads; thread++)
+        {
+            final List<String> threadGames = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++)
+            {
+                final String game = TestGames.randomGame(random);
+                final long key = random.nextInt(500);
+                threadGames.add(key + ":" + game);
+                expected.merge(key, bowlingGame.calculateScore(game), Math::max);
+            }
+            games.add(threadGames);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try
+        {
+            final AtomicBoolean done = new AtomicBoolean();
+            final Future<Integer> reader = executor.submit(() ->
+            {
+                final Map<Long, Integer> seen = new HashMap<>();
+                int snapshots = 0;
+                while (!done.get())
+                {
+                    final List<Leaderboard.Entry> snapshot = leaderboard.getTop(Integer.MAX_VALUE);
+                    final Set<Long> keys = snapshot.stream().map(Leaderboard.Entry::getKey).collect(Collectors.toSet());
+                    assertThat(keys).hasSameSizeAs(snapshot).containsAll(seen.keySet());
+                    assertThat(snapshot).isSorted();
+                    for (final Leaderboard.Entry entry : snapshot)
+                    {
+                        assertThat(entry.getScore()).isGreaterThanOrEqualTo(seen.getOrDefault(entry.getKey(), 0));
+                        seen.put(entry.getKey(), entry.getScore());
+                    }
+                    snapshots++;
+                }
+                return snapshots;
+            });
+            final List<Future<?>> submitters = new ArrayList<>();
+            for (final List<String> threadGames : games)
+            {
+                submitters.add(executor.submit(() ->
+                {
+                    for (final String game : threadGames)
+                    {
+                        final int separator = game.indexOf(':');
+                        leaderboard.submit(Long.parseLong(game.substring(0, separator)), game.substring(separator + 1));
+                    }
+                }));
+            }
+            for (final Future<?> submitter : submitters)
+            {
+                submitter.get(30, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            assertThat(reader.get(30, TimeUnit.SECONDS)).isPositive();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertThat(leaderboard.size()).isEqualTo(expected.size());
+        final List<Leaderboard.Entry> top = leaderboard.getTop(Integer.MAX_VALUE);
+        assertThat(top).hasSize(expected.size()).isSorted();
+        final Set<Long> keys = new HashSet<>();
+        for (final Leaderboard.Entry entry : top)
+        {
+            assertThat(keys.add(entry.getKey())).isTrue();
+            assertThat(entry.getScore()).isEqualTo(expected.get(entry.getKey()));
+            assertThat(leaderboard.getRank(entry.getKey()))
+                    .isEqualTo(1 + (int) expected.values().stream().filter(score -> score > entry.getScore()).count());
+        }
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message when a valid game can score
+     * above {@link BowlingGame#MAX_INDEXED_SCORE}.
+     */
+    @Test
+    public void testConstructor_ScoreBoundTooLarge()
+    {
+        assertThatThrownBy(() -> new Leaderboard(BowlingGame.newBuilder().withNumberOfFrames(100_000_000).build()))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("bowlingGame cannot score above 65535 to be indexed by score.");
+    }
+}
@@ -0,0 +1,152 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link PackedGames}.
+ */
+public class PackedGamesTest
+{
+    /**
+     * Ensures that a standard game packs into 11 {@code short}s, 24 bytes and 3 {@code long}s.
+     */
+    @Test
+    public void testEncode_PerfectGameSize()
+    {
+        final short[] packedGame = PackedGames.encode(BowlingGame.createStandardGame(), "X|X|X|X|X|X|X|X|X|X||XX");
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        PackedGames.write(packedGame, buffer);
+
+        assertThat(packedGame).hasSize(11);
+        assertThat(buffer.position()).isEqualTo(24);
+        assertThat(PackedGames.toLongs(packedGame)).hasSize(3);
+        assertThat(PackedGames.calculateScore(packedGame)).isEqualTo(300);
+    }
+
+    /**
+     * Ensures that random games survive every round trip and score the same as {@link BowlingGame#calculateScore}
+     * when scored in packed form.
+     */
+    @Test
+    public void testRoundTrip_RandomGames()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(17L);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (int i = 0; i < 10_000; i++)
+        {
+            final String game = TestGames.randomGame(random);
+            final List<Frame> frames = bowlingGame.parseBowlingGame(game);
+            final short[] packedGame = PackedGames.encode(bowlingGame, game);
+
+            assertSameFrames(PackedGames.decode(packedGame), frames);
+            assertThat(PackedGames.encodeValidGame(bowlingGame, new StringBuilder(game))).as(game).isEqualTo(packedGame);
+
+            buffer.clear();
+            PackedGames.write(packedGame, buffer);
+            buffer.flip();
+            assertThat(PackedGames.read(buffer)).isEqualTo(packedGame);
+            assertThat(buffer.hasRemaining()).isFalse();
+
+            final long[] words = PackedGames.toLongs(packedGame);
+            assertThat(PackedGames.fromLongs(words)).isEqualTo(packedGame);
+
+            final int score = bowlingGame.calculateScore(game);
+            assertThat(PackedGames.calculateScore(packedGame)).as(game).isEqualTo(score);
+            assertThat(PackedGames.calculateScore(words)).as(game).isEqualTo(score);
+        }
+    }
+
+    /**
+     * Ensures that packing a valid game from its frame tokens matches parsing and packing it, and that packed games are
+     * scored by the bonus rules of their {@link BowlingGame}, under other bonus rules and custom symbols.
+     */
+    @Test
+    public void testEncodeValidGame_OtherRules()
+    {
+        final BowlingGame[] bowlingGames = {
+                BowlingGame.newBuilder().withNumberOfPins(5).withStrikeBonusRolls(1).withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(0).build()};
+        final Random random = new Random(20L);
+        for (final BowlingGame bowlingGame : bowlingGames)
+        {
+            for (int i = 0; i < 2_000; i++)
+            {
+                final String game = GameSessionTest.playRandomGame(bowlingGame, bowlingGame.newSession(), random);
+                final short[] packedGame = PackedGames.encode(bowlingGame, game);
+                assertThat(PackedGames.encodeValidGame(bowlingGame, game)).as(game).isEqualTo(packedGame);
+                assertThat(PackedGames.calculateScore(bowlingGame, packedGame)).as(game).isEqualTo(bowlingGame.calculateScore(game));
+                assertThat(PackedGames.calculateScore(bowlingGame, PackedGames.toLongs(packedGame))).as(game)
+                        .isEqualTo(bowlingGame.calculateScore(game));
+            }
+        }
+        final BowlingGame customSymbols = BowlingGame.newBuilder().withStrikeSymbol('S').withSpareSymbol('P').withMissSymbol('M').build();
+        final String game = "S|7P|9M|S|M8|8P|M6|S|S|S||8S";
+        assertThat(PackedGames.encodeValidGame(customSymbols, game)).isEqualTo(PackedGames.encode(customSymbols, game));
+    }
+
+    /**
+     * Ensures that a packed game cannot be scored by a {@link BowlingGame} of another number of frames, and that a
+     * corrupt number of frames is read as unsigned and rejected before anything is allocated.
+     */
+    @Test
+    public void testRead_CorruptNumberOfFrames()
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final short[] packedGame = PackedGames.encode(bowlingGame, "X|X|X|X|X|X|X|X|X|X||XX");
+        assertThatThrownBy(() -> PackedGames.calculateScore(BowlingGame.newBuilder().withNumberOfFrames(5).build(), packedGame))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("packedGame must have 6 frames.");
+
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        PackedGames.write(packedGame, buffer);
+        buffer.putShort(0, (short) -2).flip();
+        assertThatThrownBy(() -> PackedGames.read(buffer)).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown when encoding an invalid game.
+     */
+    @Test
+    public void testEncode_InvalidGame()
+    {
+        final String game = "X|9-||";
+        assertThatThrownBy(() -> PackedGames.encode(BowlingGame.createStandardGame(), game))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage(String.format("[%s] is not a valid bowling game.", game));
+    }
+
+    /**
+     * Ensures that an {@link IllegalArgumentException} is thrown with the correct message when a roll value does not
+     * fit in a packed frame.
+     */
+    @Test
+    public void testEncodeFrame_RollValueTooLarge()
+    {
+        final Frame frame = Frame.newBuilder().withFrameType(FrameType.STRIKE).withFirstRollValue(128).withSecondRollValue(0).build();
+        assertThatThrownBy(() -> PackedGames.encodeFrame(frame))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Roll values cannot exceed 127.");
+    }
+
+    /**
+     * Asserts that the {@link Frame}s have the same types and roll values.
+     * @param actual The actual {@link Frame}s.
+     * @param expected The expected {@link Frame}s.
+     */
+    private static void assertSameFrames(final List<Frame> actual, final List<Frame> expected)
+    {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertThat(actual.get(i).getFrameType()).isEqualTo(expected.get(i).getFrameType());
+            assertThat(actual.get(i).getFirstRollValue()).isEqualTo(expected.get(i).getFirstRollValue());
+            assertThat(actual.get(i).getSecondRollValue()).isEqualTo(expected.get(i).getSecondRollValue());
+        }
+    }
+}
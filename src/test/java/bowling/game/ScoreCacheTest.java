@@ -0,0 +1,162 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ScoreCache}.
+ */
+public class ScoreCacheTest
+{
+    private static final String PERFECT_GAME = "X|X|X|X|X|X|X|X|X|X||XX";
+    private static final String GUTTER_GAME = "--|--|--|--|--|--|--|--|--|--||";
+
+    /**
+     * Ensures that repeated games are served from the cache and counted as hits.
+     */
+    @Test
+    public void testCalculateScore_HitsAndMisses()
+    {
+        final ScoreCache cache = new ScoreCache(BowlingGame.createStandardGame(), 10);
+        assertThat(cache.calculateScore(PERFECT_GAME)).isEqualTo(300);
+        assertThat(cache.calculateScore(new String(PERFECT_GAME.toCharArray()))).isEqualTo(300);
+        assertThat(cache.tryCalculateScore(GUTTER_GAME)).isZero();
+        assertThat(cache.evaluate(GUTTER_GAME).getScore()).isZero();
+
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    /**
+     * Ensures that cached invalid games throw the same exception as {@link BowlingGame#calculateScore}.
+     */
+    @Test
+    public void testCalculateScore_CachedInvalidGame()
+    {
+        final String game = "1-|2-|3-|99|5-|6-|7-|8-|9-|1-||";
+        final ScoreCache cache = new ScoreCache(BowlingGame.createStandardGame(), 10);
+        for (int i = 0; i < 2; i++)
+        {
+            assertThatThrownBy(() -> cache.calculateScore(game))
+                    .isInstanceOf(IllegalArgumentException.class).hasMessage("Number of pins exceeds limit of 10.");
+        }
+        assertThat(cache.evaluate(game).getError()).isEqualTo(GameError.TOO_MANY_PINS);
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThatThrownBy(() -> cache.calculateScore(null))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("game cannot be null, empty, or blank");
+    }
+
+    /**
+     * Ensures that the cache evicts games beyond its maximum size.
+     */
+    @Test
+    public void testCalculateScore_Eviction()
+    {
+        final ScoreCache cache = new ScoreCache(BowlingGame.createStandardGame(), 1);
+        cache.calculateScore(PERFECT_GAME);
+        cache.calculateScore(GUTTER_GAME);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    /**
+     * Ensures that caches are scoped to their {@link BowlingGame} configuration.
+     */
+    @Test
+    public void testCalculateScore_ScopedToConfiguration()
+    {
+        final String game = "X|X|X|X||XX";
+        assertThat(new ScoreCache(BowlingGame.createStandardGame(), 10).tryCalculateScore(game)).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThat(new ScoreCache(BowlingGame.newBuilder().withNumberOfFrames(4).build(), 10).tryCalculateScore(game)).isEqualTo(120);
+    }
+
+    /**
+     * Ensures that a game looked up as a {@link String}, another {@link CharSequence} or bytes is cached once, and
+     * that the bytes are looked up within their range.
+     */
+    @Test
+    public void testCalculateScore_CharSequenceAndBytes()
+    {
+        final ScoreCache cache = new ScoreCache(BowlingGame.createStandardGame(), 10);
+        final byte[] bytes = ("\n" + PERFECT_GAME + "\n").getBytes(StandardCharsets.US_ASCII);
+        assertThat(cache.calculateScore(bytes, 1, PERFECT_GAME.length())).isEqualTo(300);
+        assertThat(cache.calculateScore(new StringBuilder(PERFECT_GAME))).isEqualTo(300);
+        assertThat(cache.tryCalculateScore(PERFECT_GAME)).isEqualTo(300);
+        assertThat(cache.tryCalculateScore(bytes, 1, PERFECT_GAME.length() - 1)).isEqualTo(BowlingGame.INVALID_SCORE);
+        assertThatThrownBy(() -> cache.calculateScore(bytes, 1, 3))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("[X|X] is not a valid bowling game.");
+
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+        assertThatThrownBy(() -> cache.calculateScore(bytes, 1, bytes.length))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("offset 1 and length 25 are not within 25 bytes.");
+        assertThat(cache.tryCalculateScore(null, 0, 0)).isEqualTo(BowlingGame.INVALID_SCORE);
+    }
+
+    /**
+     * Ensures that games whose hashes collide are cached apart, each with its own outcome.
+     */
+    @Test
+    public void testCalculateScore_HashCollision()
+    {
+        final String game = "X|X|X|X|X|X|X|X|X|X||X9";
+        final String collidingGame = "X|X|X|X|X|X|X|X|X|X||WX";
+        assertThat(collidingGame.hashCode()).isEqualTo(game.hashCode());
+        final ScoreCache cache = new ScoreCache(BowlingGame.createStandardGame(), 10);
+        for (int i = 0; i < 2; i++)
+        {
+            assertThat(cache.tryCalculateScore(game)).isEqualTo(299);
+            assertThat(cache.tryCalculateScore(new StringBuilder(collidingGame))).isEqualTo(BowlingGame.INVALID_SCORE);
+        }
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    /**
+     * Ensures that concurrent misses on the same game score it once.
+     * @throws Exception If a lookup fails.
+     */
+    @Test
+    public void testCalculateScore_ConcurrentMisses() throws Exception
+    {
+        final ScoreCache cache = new ScoreCache(BowlingGame.createStandardGame(), 10);
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Integer>> scores = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++)
+            {
+                scores.add(executor.submit(() ->
+                {
+                    start.await();
+                    return cache.calculateScore(new String(PERFECT_GAME.toCharArray()));
+                }));
+            }
+            start.countDown();
+            for (final Future<Integer> score : scores)
+            {
+                assertThat(score.get()).isEqualTo(300);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(threads - 1);
+    }
+}
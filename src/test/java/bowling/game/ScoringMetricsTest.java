@@ -0,0 +1,103 @@
+package bowling.game;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ScoringMetrics}.
+ */
+public class ScoringMetricsTest
+{
+    /**
+     * Ensures that valid games, failures by {@link GameError} and frames by {@link FrameType} are counted through every
+     * scoring method.
+     */
+    @Test
+    public void testRecord_GamesFailuresAndFrames()
+    {
+        final ScoringMetrics metrics = new ScoringMetrics();
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().withMetrics(metrics).build();
+
+        bowlingGame.calculateScore("X|7/|9-|X|-8|8/|-6|X|X|X||81");
+        bowlingGame.tryCalculateScore("X|X|X|X|X|X|X|X|X|X||XX");
+        bowlingGame.evaluate("X|X|X|X|X|X|X|X|X||XX");
+        bowlingGame.evaluate(" ");
+        assertThatThrownBy(() -> bowlingGame.calculateScore("X|X|X|X|X|X|X|X|X|X||X"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(bowlingGame.getMetrics()).isSameAs(metrics);
+        assertThat(metrics.getGamesScored()).isEqualTo(2);
+        assertThat(metrics.getFailures(GameError.WRONG_NUMBER_OF_FRAMES)).isEqualTo(1);
+        assertThat(metrics.getFailures(GameError.BLANK_GAME)).isEqualTo(1);
+        assertThat(metrics.getFailures(GameError.INVALID_BONUS_FRAME)).isEqualTo(1);
+        assertThat(metrics.getTotalFailures()).isEqualTo(3);
+        assertThat(metrics.getFrames(FrameType.STRIKE)).isEqualTo(5 + 10);
+        assertThat(metrics.getFrames(FrameType.SPARE)).isEqualTo(2);
+        assertThat(metrics.getFrames(FrameType.PINS)).isEqualTo(3);
+        assertThat(metrics.getFrames(FrameType.BONUS)).isEqualTo(2);
+        assertThat(Arrays.stream(metrics.getLatencyHistogram()).sum()).isEqualTo(5);
+        assertThat(metrics.getMeanLatencyNanos()).isPositive();
+    }
+
+    /**
+     * Ensures that a {@link BowlingGame} without metrics has none.
+     */
+    @Test
+    public void testGetMetrics_Disabled()
+    {
+        assertThat(BowlingGame.createStandardGame().getMetrics()).isNull();
+    }
+
+    /**
+     * Ensures that no game is lost when many threads record to the same metrics.
+     */
+    @Test
+    public void testRecord_Concurrent()
+    {
+        final ScoringMetrics metrics = new ScoringMetrics();
+        final BowlingGame bowlingGame = BowlingGame.newBuilder().withMetrics(metrics).build();
+        final Random random = new Random(12L);
+        final List<String> games = TestGames.mixedGames(random, 20_000, 4);
+
+        final int[] scores = bowlingGame.calculateScores(games, new ForkJoinPool(8), 64);
+
+        final long invalidGames = Arrays.stream(scores).filter(score -> score == BowlingGame.INVALID_SCORE).count();
+        assertThat(metrics.getGamesScored()).isEqualTo(games.size() - invalidGames);
+        assertThat(metrics.getTotalFailures()).isEqualTo(invalidGames);
+        assertThat(metrics.getFrames(FrameType.STRIKE) + metrics.getFrames(FrameType.SPARE) + metrics.getFrames(FrameType.PINS))
+                .isEqualTo(10 * metrics.getGamesScored());
+        assertThat(Arrays.stream(metrics.getLatencyHistogram()).sum()).isEqualTo(games.size());
+    }
+
+    /**
+     * Ensures that latency percentiles are read from the power of two buckets.
+     */
+    @Test
+    public void testGetLatencyPercentileNanos()
+    {
+        final ScoringMetrics metrics = new ScoringMetrics();
+        assertThat(metrics.getLatencyPercentileNanos(99)).isEqualTo(0);
+
+        for (int i = 0; i < 99; i++)
+        {
+            metrics.recordGame(0, 0, 10, 100);
+        }
+        metrics.recordFailure(GameError.INVALID_ROLL, 5_000);
+
+        assertThat(metrics.getLatencyHistogram()[7]).isEqualTo(99);
+        assertThat(metrics.getLatencyHistogram()[13]).isEqualTo(1);
+        assertThat(metrics.getLatencyPercentileNanos(50)).isEqualTo(128);
+        assertThat(metrics.getLatencyPercentileNanos(99)).isEqualTo(128);
+        assertThat(metrics.getLatencyPercentileNanos(100)).isEqualTo(8192);
+        assertThat(metrics.getMeanLatencyNanos()).isEqualTo(149);
+        assertThatThrownBy(() -> metrics.getLatencyPercentileNanos(0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("percentile must be greater than 0 and at most 100.");
+    }
+}
@@ -0,0 +1,314 @@
+package bowling.game;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ScoringProcessor} and {@link LineScoringProcessor}.
+ */
+public class ScoringProcessorTest
+{
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Stops the executor.
+     */
+    @After
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Ensures that every game is scored like {@link BowlingGame#evaluate}, in order.
+     * @throws Exception If the pipeline fails.
+     */
+    @Test
+    public void testScoringProcessor_ResultsInOrder() throws Exception
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(15L);
+        final List<String> games = TestGames.mixedGames(random, 5_000, 3);
+
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        try (SubmissionPublisher<CharSequence> upstream = new SubmissionPublisher<>(executor, 16))
+        {
+            final ScoringProcessor processor = new ScoringProcessor(bowlingGame, executor, 16, 8);
+            processor.subscribe(subscriber);
+            upstream.subscribe(processor);
+            games.forEach(upstream::submit);
+        }
+
+        final List<ScoreResult> results = subscriber.completion.get(30, TimeUnit.SECONDS);
+        assertThat(results).hasSize(games.size());
+        for (int i = 0; i < games.size(); i++)
+        {
+            assertThat(results.get(i)).hasToString(bowlingGame.evaluate(games.get(i)).toString());
+        }
+    }
+
+    /**
+     * Ensures that a slow subscriber pushes back all the way to the producer, so that the number of games submitted but
+     * not yet received stays within the buffers and the batch in flight.
+     * @throws Exception If the pipeline fails.
+     */
+    @Test
+    public void testScoringProcessor_SlowSubscriberBoundsMemory() throws Exception
+    {
+        final int upstreamCapacity = 8;
+        final int processorCapacity = 8;
+        final int batchSize = 8;
+        final CollectingSubscriber subscriber = new CollectingSubscriber(1);
+        int maximumInFlight = 0;
+        try (SubmissionPublisher<CharSequence> upstream = new SubmissionPublisher<>(executor, upstreamCapacity))
+        {
+            final ScoringProcessor processor = new ScoringProcessor(BowlingGame.createStandardGame(), executor, processorCapacity, batchSize);
+            processor.subscribe(subscriber);
+            upstream.subscribe(processor);
+            for (int i = 0; i < 500; i++)
+            {
+                upstream.submit("X|X|X|X|X|X|X|X|X|X||XX");
+                maximumInFlight = Math.max(maximumInFlight, i + 1 - subscriber.received.get());
+            }
+        }
+
+        assertThat(subscriber.completion.get(30, TimeUnit.SECONDS)).hasSize(500).allMatch(result -> result.getScore() == 300);
+        // One more game is held by the processor while it blocks publishing, and one by the subscriber while it sleeps.
+        assertThat(maximumInFlight).isPositive().isLessThanOrEqualTo(upstreamCapacity + batchSize + processorCapacity + 2);
+    }
+
+    /**
+     * Ensures that games submitted before the processor has a subscriber are left upstream and scored once one
+     * subscribes, rather than dropped.
+     * @throws Exception If the pipeline fails.
+     */
+    @Test
+    public void testScoringProcessor_SubscriberAfterUpstream() throws Exception
+    {
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        try (SubmissionPublisher<CharSequence> upstream = new SubmissionPublisher<>(executor, 16))
+        {
+            final ScoringProcessor processor = new ScoringProcessor(BowlingGame.createStandardGame(), executor, 16, 8);
+            upstream.subscribe(processor);
+            for (int i = 0; i < 10; i++)
+            {
+                upstream.submit("X|X|X|X|X|X|X|X|X|X||XX");
+            }
+            Thread.sleep(200);
+            assertThat(upstream.estimateMaximumLag()).isEqualTo(10);
+            processor.subscribe(subscriber);
+        }
+
+        assertThat(subscriber.completion.get(30, TimeUnit.SECONDS)).hasSize(10).allMatch(result -> result.getScore() == 300);
+    }
+
+    /**
+     * Ensures that a subscriber that stops requesting fails the processor after the offer timeout, cancelling upstream
+     * instead of stalling it.
+     * @throws Exception If the pipeline fails.
+     */
+    @Test
+    public void testScoringProcessor_StalledSubscriberFails() throws Exception
+    {
+        final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        final SubmissionPublisher<CharSequence> upstream = new SubmissionPublisher<>(executor, 16);
+        final ScoringProcessor processor = new ScoringProcessor(BowlingGame.createStandardGame(), executor, 2, 8, 100);
+        processor.subscribe(new Flow.Subscriber<>()
+        {
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription)
+            {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(final ScoreResult item)
+            {
+            }
+
+            @Override
+            public void onError(final Throwable throwable)
+            {
+                failure.complete(throwable);
+            }
+
+            @Override
+            public void onComplete()
+            {
+                failure.complete(null);
+            }
+        });
+        upstream.subscribe(processor);
+        for (int i = 0; i < 20; i++)
+        {
+            upstream.submit("X|X|X|X|X|X|X|X|X|X||XX");
+        }
+
+        assertThat(failure.get(30, TimeUnit.SECONDS)).isInstanceOf(IllegalStateException.class)
+                .hasMessage("A subscriber did not take a result within 100 ms.");
+        assertThat(processor.isClosed()).isTrue();
+        for (int i = 0; i < 100 && upstream.hasSubscribers(); i++)
+        {
+            Thread.sleep(10);
+        }
+        assertThat(upstream.hasSubscribers()).isFalse();
+        upstream.close();
+    }
+
+    /**
+     * Ensures that lines split across chunks at random points, with {@code \n} or {@code \r\n} line endings and a last
+     * line without one, are scored like {@link BowlingGame#evaluate}, in order.
+     * @throws Exception If the pipeline fails.
+     */
+    @Test
+    public void testLineScoringProcessor_LinesSplitAcrossChunks() throws Exception
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Random random = new Random(16L);
+        final List<String> games = TestGames.mixedGames(random, 2_000, 5);
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < games.size(); i++)
+        {
+            text.append(games.get(i)).append(i == 1_999 ? "" : i % 2 == 0 ? "\n" : "\r\n");
+        }
+
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        try (SubmissionPublisher<ByteBuffer> upstream = new SubmissionPublisher<>(executor, 16))
+        {
+            final LineScoringProcessor processor = new LineScoringProcessor(bowlingGame, executor, 16, 8, 64);
+            processor.subscribe(subscriber);
+            upstream.subscribe(processor);
+            final byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+            for (int from = 0; from < bytes.length; )
+            {
+                final int length = Math.min(1 + random.nextInt(80), bytes.length - from);
+                final ByteBuffer chunk = ByteBuffer.allocate(length + 4).position(2);
+                chunk.put(bytes, from, length).flip().position(2);
+                upstream.submit(chunk);
+                from += length;
+            }
+        }
+
+        final List<ScoreResult> results = subscriber.completion.get(30, TimeUnit.SECONDS);
+        assertThat(results).hasSize(games.size());
+        for (int i = 0; i < games.size(); i++)
+        {
+            assertThat(results.get(i)).as(games.get(i)).hasToString(bowlingGame.evaluate(games.get(i)).toString());
+        }
+    }
+
+    /**
+     * Ensures that a line split across chunks that is longer than the maximum line length fails the processor.
+     */
+    @Test
+    public void testLineScoringProcessor_LineTooLong()
+    {
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        try (SubmissionPublisher<ByteBuffer> upstream = new SubmissionPublisher<>(executor, 16))
+        {
+            final LineScoringProcessor processor = new LineScoringProcessor(BowlingGame.createStandardGame(), executor, 16, 8, 16);
+            processor.subscribe(subscriber);
+            upstream.subscribe(processor);
+            upstream.submit(ByteBuffer.wrap("X|X|X|X|X|".getBytes(StandardCharsets.US_ASCII)));
+            upstream.submit(ByteBuffer.wrap("X|X|X|X|X||XX\n".getBytes(StandardCharsets.US_ASCII)));
+        }
+
+        assertThatThrownBy(() -> subscriber.completion.get(30, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Line is longer than 16 bytes.");
+    }
+
+    /**
+     * Ensures that an upstream failure is passed on to subscribers.
+     */
+    @Test
+    public void testScoringProcessor_UpstreamError()
+    {
+        final CollectingSubscriber subscriber = new CollectingSubscriber(0);
+        final SubmissionPublisher<CharSequence> upstream = new SubmissionPublisher<>(executor, 16);
+        final ScoringProcessor processor = new ScoringProcessor(BowlingGame.createStandardGame(), executor, 16, 8);
+        processor.subscribe(subscriber);
+        upstream.subscribe(processor);
+        upstream.closeExceptionally(new IllegalStateException("bus failed."));
+
+        assertThatThrownBy(() -> subscriber.completion.get(30, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class).hasMessageContaining("bus failed.");
+    }
+
+    /**
+     * A {@link Flow.Subscriber} that requests one result at a time, optionally sleeping before each request, and
+     * collects the results.
+     */
+    private static final class CollectingSubscriber implements Flow.Subscriber<ScoreResult>
+    {
+        private final long delayMillis;
+        private final List<ScoreResult> results = new ArrayList<>();
+        private final AtomicInteger received = new AtomicInteger();
+        private final CompletableFuture<List<ScoreResult>> completion = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        /**
+         * Constructor for {@link CollectingSubscriber}.
+         * @param delayMillis The time to sleep before requesting each result.
+         */
+        private CollectingSubscriber(final long delayMillis)
+        {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription)
+        {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(final ScoreResult item)
+        {
+            results.add(item);
+            received.incrementAndGet();
+            if (delayMillis > 0)
+            {
+                try
+                {
+                    Thread.sleep(delayMillis);
+                }
+                catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(final Throwable throwable)
+        {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete()
+        {
+            completion.complete(results);
+        }
+    }
+}
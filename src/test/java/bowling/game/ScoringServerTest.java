@@ -0,0 +1,319 @@
+package bowling.game;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ScoringServer}.
+ */
+public class ScoringServerTest
+{
+    private ScoringServer server;
+
+    /**
+     * Starts a server with two event loops and a small maximum line length on an ephemeral port.
+     * @throws IOException If the server cannot be started.
+     */
+    @Before
+    public void setUp() throws IOException
+    {
+        server = new ScoringServer(BowlingGame.createStandardGame(), 2, 64);
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    /**
+     * Stops the server.
+     * @throws IOException If the server cannot be stopped.
+     */
+    @After
+    public void tearDown() throws IOException
+    {
+        server.close();
+    }
+
+    /**
+     * Ensures that pipelined requests are answered in order, with errors for invalid games and {@code \r\n} line
+     * endings accepted.
+     * @throws IOException If the connection fails.
+     */
+    @Test
+    public void testServe_PipelinedRequests() throws IOException
+    {
+        try (Socket socket = connect())
+        {
+            final OutputStream output = socket.getOutputStream();
+            output.write(("X|X|X|X|X|X|X|X|X|X||XX\n"
+                    + "X|7/|9-|X|-8|8/|-6|X|X|X||81\r\n"
+                    + "X|X|X|X|X|X|X|X|X||XX\n"
+                    + "\n"
+                    + "X|X|X|X|X|X|X|X|X|X||XA\n").getBytes(StandardCharsets.US_ASCII));
+            final BufferedReader input = reader(socket);
+
+            assertThat(input.readLine()).isEqualTo("300");
+            assertThat(input.readLine()).isEqualTo("167");
+            assertThat(input.readLine()).isEqualTo("ERROR WRONG_NUMBER_OF_FRAMES 17");
+            assertThat(input.readLine()).isEqualTo("ERROR BLANK_GAME 0");
+            assertThat(input.readLine()).isEqualTo("ERROR INVALID_ROLL 22");
+        }
+    }
+
+    /**
+     * Ensures that pipelined requests already read in full are all answered when their responses do not fit the output
+     * buffer at once, without the client sending anything more. Blank lines fit the input buffer by the thousand, while
+     * their error responses take over 16 KB.
+     * @throws IOException If the connection fails.
+     */
+    @Test
+    public void testServe_PipelinedRequestsBeyondOutputBuffer() throws IOException
+    {
+        server.close();
+        server = new ScoringServer(BowlingGame.createStandardGame(), 1, 8192);
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        final int requests = 4_000;
+        try (Socket socket = connect())
+        {
+            socket.setSoTimeout(10_000);
+            final StringBuilder lines = new StringBuilder();
+            for (int i = 0; i < requests; i++)
+            {
+                lines.append(i % 1_000 == 999 ? "X|X|X|X|X|X|X|X|X|X||XX\n" : "\n");
+            }
+            socket.getOutputStream().write(lines.toString().getBytes(StandardCharsets.US_ASCII));
+            final BufferedReader input = reader(socket);
+
+            for (int i = 0; i < requests; i++)
+            {
+                assertThat(input.readLine()).as("response %s", i).isEqualTo(i % 1_000 == 999 ? "300" : "ERROR BLANK_GAME 0");
+            }
+        }
+    }
+
+    /**
+     * Ensures that a last request without a line ending is answered when the client shuts down its output, after
+     * which the server closes the connection.
+     * @throws IOException If the connection fails.
+     */
+    @Test
+    public void testServe_LastLineWithoutLineEnding() throws IOException
+    {
+        try (Socket socket = connect())
+        {
+            socket.getOutputStream().write("9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||\n--|--|--|--|--|--|--|--|--|--||".getBytes(StandardCharsets.US_ASCII));
+            socket.shutdownOutput();
+            final BufferedReader input = reader(socket);
+
+            assertThat(input.readLine()).isEqualTo("90");
+            assertThat(input.readLine()).isEqualTo("0");
+            assertThat(input.readLine()).isNull();
+        }
+    }
+
+    /**
+     * Ensures that a line longer than the maximum line length is rejected and the connection closed.
+     * @throws IOException If the connection fails.
+     */
+    @Test
+    public void testServe_LineTooLong() throws IOException
+    {
+        try (Socket socket = connect())
+        {
+            final StringBuilder line = new StringBuilder("X|X|X|X|X|X|X|X|X|X||XX\n");
+            while (line.length() < 200)
+            {
+                line.append('X');
+            }
+            socket.getOutputStream().write(line.append('\n').toString().getBytes(StandardCharsets.US_ASCII));
+            final BufferedReader input = reader(socket);
+
+            assertThat(input.readLine()).isEqualTo("300");
+            assertThat(input.readLine()).isEqualTo("ERROR LINE_TOO_LONG");
+            assertThat(input.readLine()).isNull();
+        }
+    }
+
+    /**
+     * Ensures that many concurrent connections, each pipelining more responses than the server buffers, get the score
+     * of every request in order.
+     * @throws Exception If a connection fails.
+     */
+    @Test
+    public void testServe_ConcurrentConnections() throws Exception
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        try
+        {
+            final List<Future<?>> clients = new ArrayList<>();
+            for (int client = 0; client < 16; client++)
+            {
+                final Random random = new Random(client);
+                clients.add(executor.submit(() ->
+                {
+                    final List<String> games = new ArrayList<>();
+                    final StringBuilder requests = new StringBuilder();
+                    for (int i = 0; i < 5_000; i++)
+                    {
+                        final String game = TestGames.randomGame(random);
+                        games.add(game);
+                        requests.append(game).append('\n');
+                    }
+                    try (Socket socket = connect())
+                    {
+                        final Thread writer = new Thread(() ->
+                        {
+                            try
+                            {
+                                socket.getOutputStream().write(requests.toString().getBytes(StandardCharsets.US_ASCII));
+                            }
+                            catch (final IOException e)
+                            {
+                                throw new IllegalStateException(e);
+                            }
+                        });
+                        writer.start();
+                        final BufferedReader input = reader(socket);
+                        for (final String game : games)
+                        {
+                            assertThat(input.readLine()).isEqualTo(String.valueOf(bowlingGame.calculateScore(game)));
+                        }
+                        writer.join();
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> client : clients)
+            {
+                client.get();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Ensures that an event loop that fails closes its connections instead of leaving them waiting, that the other
+     * event loop keeps serving its connections and new ones, and that the failure is reported.
+     * @throws IOException If a connection fails.
+     */
+    @Test
+    public void testServe_EventLoopFails() throws IOException
+    {
+        try (Socket first = connect(); Socket second = connect())
+        {
+            first.setSoTimeout(10_000);
+            second.setSoTimeout(10_000);
+            assertThat(request(first, "X|X|X|X|X|X|X|X|X|X||XX")).isEqualTo("300");
+            assertThat(request(second, "X|X|X|X|X|X|X|X|X|X||XX")).isEqualTo("300");
+            assertThat(server.isRunning()).isTrue();
+
+            server.failEventLoop(1, new IOException("selector failed."));
+
+            assertThat(reader(second).readLine()).isNull();
+            assertThat(server.isRunning()).isFalse();
+            assertThat(request(first, "9-|9-|9-|9-|9-|9-|9-|9-|9-|9-||")).isEqualTo("90");
+            for (int i = 0; i < 2; i++)
+            {
+                try (Socket socket = connect())
+                {
+                    socket.setSoTimeout(10_000);
+                    assertThat(request(socket, "X|X|X|X|X|X|X|X|X|X||XX")).isEqualTo("300");
+                }
+            }
+        }
+        assertThatThrownBy(() -> server.close()).isInstanceOf(IOException.class).hasMessage("scoring-server-1 failed.")
+                .hasRootCauseMessage("selector failed.");
+        assertThat(server.isRunning()).isFalse();
+    }
+
+    /**
+     * Ensures that when the event loop that accepts connections fails, the server stops listening, so that clients are
+     * refused instead of waiting in the backlog.
+     * @throws IOException If a connection fails.
+     */
+    @Test
+    public void testServe_AcceptingEventLoopFails() throws IOException
+    {
+        final InetSocketAddress address = server.getLocalAddress();
+        try (Socket socket = connect())
+        {
+            socket.setSoTimeout(10_000);
+            assertThat(request(socket, "X|X|X|X|X|X|X|X|X|X||XX")).isEqualTo("300");
+
+            server.failEventLoop(0, new IOException("selector failed."));
+
+            assertThat(reader(socket).readLine()).isNull();
+        }
+        assertThatThrownBy(() -> new Socket(address.getAddress(), address.getPort()).close()).isInstanceOf(ConnectException.class);
+        assertThatThrownBy(() -> server.close()).isInstanceOf(IOException.class).hasMessage("scoring-server-0 failed.");
+    }
+
+    /**
+     * Ensures that an {@link IllegalStateException} is thrown with the correct message when the server is started twice.
+     */
+    @Test
+    public void testStart_AlreadyStarted()
+    {
+        assertThatThrownBy(() -> server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)))
+                .isInstanceOf(IllegalStateException.class).hasMessage("server is already started.");
+    }
+
+    /**
+     * @return The non-null {@link Socket} connected to the server.
+     * @throws IOException If the connection fails.
+     */
+    private Socket connect() throws IOException
+    {
+        return new Socket(server.getLocalAddress().getAddress(), server.getLocalAddress().getPort());
+    }
+
+    /**
+     * Sends a request and reads its response, on a connection without other requests in flight.
+     * @param socket The {@link Socket}.
+     * @param game The game.
+     * @return The response.
+     * @throws IOException If the connection fails.
+     */
+    private static String request(final Socket socket, final String game) throws IOException
+    {
+        socket.getOutputStream().write((game + "\n").getBytes(StandardCharsets.US_ASCII));
+        final StringBuilder response = new StringBuilder();
+        int character;
+        while ((character = socket.getInputStream().read()) != '\n' && character != -1)
+        {
+            response.append((char) character);
+        }
+        return response.toString();
+    }
+
+    /**
+     * @param socket The {@link Socket}.
+     * @return The non-null {@link BufferedReader} of the responses.
+     * @throws IOException If the input cannot be read.
+     */
+    private static BufferedReader reader(final Socket socket) throws IOException
+    {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+    }
+}
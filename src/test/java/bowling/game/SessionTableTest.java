@@ -0,0 +1,234 @@
+package bowling.game;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SessionTable}.
+ */
+public class SessionTableTest
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Ensures that every lane restored from a reopened table matches a session that replays the rolls of the lane, and
+     * keeps matching it through the rest of the game, for several configurations.
+     */
+    @Test
+    public void testRestore_MatchesReplay() throws IOException
+    {
+        final BowlingGame[] bowlingGames = {
+                BowlingGame.createStandardGame(),
+                BowlingGame.newBuilder().withSpareBonusRolls(2).build(),
+                BowlingGame.newBuilder().withNumberOfFrames(5).withNumberOfPins(5).withStrikeBonusRolls(1).build(),
+                BowlingGame.newBuilder().withStrikeBonusRolls(0).withSpareBonusRolls(0).build()};
+        final Random random = new Random(24L);
+        for (int i = 0; i < bowlingGames.length; i++)
+        {
+            final BowlingGame bowlingGame = bowlingGames[i];
+            final Path path = temporaryFolder.getRoot().toPath().resolve("lanes-" + i);
+            final int lanes = 300;
+            final List<List<Integer>> games = new ArrayList<>();
+            final int[] savedRolls = new int[lanes];
+            try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, lanes))
+            {
+                for (int lane = 0; lane < lanes; lane++)
+                {
+                    final List<Integer> rolls = playRandomRolls(bowlingGame, random);
+                    games.add(rolls);
+                    // Some lanes are saved after every roll and the others only once, some never.
+                    savedRolls[lane] = random.nextInt(rolls.size() + 2) - 1;
+                    final GameSession session = bowlingGame.newSession();
+                    for (int roll = 0; roll < savedRolls[lane]; roll++)
+                    {
+                        session.roll(rolls.get(roll));
+                        if (lane % 2 == 0)
+                        {
+                            sessionTable.save(lane, session);
+                        }
+                    }
+                    if (savedRolls[lane] >= 0)
+                    {
+                        sessionTable.save(lane, session);
+                    }
+                }
+                sessionTable.force();
+            }
+
+            try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, lanes))
+            {
+                for (int lane = 0; lane < lanes; lane++)
+                {
+                    final GameSession restored = sessionTable.restore(lane);
+                    if (savedRolls[lane] < 0)
+                    {
+                        assertThat(restored).isNull();
+                        continue;
+                    }
+                    final List<Integer> rolls = games.get(lane);
+                    final GameSession replayed = replay(bowlingGame, rolls, savedRolls[lane]);
+                    assertSameState(bowlingGame, restored, replayed);
+                    for (int roll = savedRolls[lane]; roll < rolls.size(); roll++)
+                    {
+                        restored.roll(rolls.get(roll));
+                        replayed.roll(rolls.get(roll));
+                        assertSameState(bowlingGame, restored, replayed);
+                    }
+                    assertThat(restored.isComplete()).isTrue();
+                }
+            }
+        }
+    }
+
+    /**
+     * Ensures that a save torn by a crash, with a checksum that does not match, leaves the state saved before it, and
+     * that the next save overwrites it.
+     */
+    @Test
+    public void testOpen_TornSave() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Path path = temporaryFolder.getRoot().toPath().resolve("lanes");
+        final List<Integer> rolls = playRandomRolls(bowlingGame, new Random(7L));
+        final int tornOffset;
+        try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, 4))
+        {
+            sessionTable.save(2, replay(bowlingGame, rolls, 5));
+            sessionTable.save(2, replay(bowlingGame, rolls, 6));
+            tornOffset = sessionTable.getLatestRecordOffset(2);
+        }
+        TestGames.corrupt(path, tornOffset + 12);
+
+        try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, 4))
+        {
+            assertSameState(bowlingGame, sessionTable.restore(2), replay(bowlingGame, rolls, 5));
+            assertThat(sessionTable.getLatestRecordOffset(2)).isNotEqualTo(tornOffset);
+            sessionTable.save(2, replay(bowlingGame, rolls, 7));
+            assertThat(sessionTable.getLatestRecordOffset(2)).isEqualTo(tornOffset);
+        }
+        try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, 4))
+        {
+            assertSameState(bowlingGame, sessionTable.restore(2), replay(bowlingGame, rolls, 7));
+            assertThat(sessionTable.restore(1)).isNull();
+        }
+    }
+
+    /**
+     * Ensures that a cleared lane has no saved state, also after the table is reopened, and can be saved again.
+     */
+    @Test
+    public void testClear_NoSavedState() throws IOException
+    {
+        final BowlingGame bowlingGame = BowlingGame.createStandardGame();
+        final Path path = temporaryFolder.getRoot().toPath().resolve("lanes");
+        final List<Integer> rolls = playRandomRolls(bowlingGame, new Random(11L));
+        try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, 2))
+        {
+            sessionTable.save(0, replay(bowlingGame, rolls, 3));
+            sessionTable.save(0, replay(bowlingGame, rolls, 4));
+            sessionTable.save(1, replay(bowlingGame, rolls, 2));
+            sessionTable.clear(0);
+            sessionTable.clear(0);
+            assertThat(sessionTable.restore(0)).isNull();
+        }
+        try (SessionTable sessionTable = SessionTable.open(path, bowlingGame, 2))
+        {
+            assertThat(sessionTable.restore(0)).isNull();
+            assertSameState(bowlingGame, sessionTable.restore(1), replay(bowlingGame, rolls, 2));
+            sessionTable.save(0, replay(bowlingGame, rolls, 1));
+            assertSameState(bowlingGame, sessionTable.restore(0), replay(bowlingGame, rolls, 1));
+        }
+    }
+
+    /**
+     * Ensures that a table cannot be opened with another configuration than it was written with, and that sessions
+     * of another configuration, unknown lanes and a closed table are rejected.
+     */
+    @Test
+    public void testOpen_OtherConfiguration() throws IOException
+    {
+        final Path path = temporaryFolder.getRoot().toPath().resolve("lanes");
+        final SessionTable sessionTable = SessionTable.open(path, BowlingGame.createStandardGame(), 4);
+        assertThatThrownBy(() -> sessionTable.save(1, BowlingGame.newBuilder().withNumberOfPins(9).build().newSession()))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("session must be of the configuration of the table.");
+        assertThatThrownBy(() -> sessionTable.restore(4))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("lane must be between 0 and 3.");
+        sessionTable.close();
+        assertThatThrownBy(() -> sessionTable.restore(0)).isInstanceOf(IllegalStateException.class).hasMessage("table is closed.");
+
+        assertThatThrownBy(() -> SessionTable.open(path, BowlingGame.createStandardGame(), 8))
+                .isInstanceOf(IOException.class).hasMessageEndingWith("is not a session table of this configuration.");
+        assertThatThrownBy(() -> SessionTable.open(path, BowlingGame.newBuilder().withSpareBonusRolls(2).build(), 4))
+                .isInstanceOf(IOException.class).hasMessageEndingWith("is not a session table of this configuration.");
+        assertThatThrownBy(() -> SessionTable.open(path, BowlingGame.createStandardGame(), 0))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("lanes must be positive.");
+    }
+
+    /**
+     * Asserts that the sessions are in the same state, as seen through every query.
+     * @param bowlingGame The {@link BowlingGame} of the sessions.
+     * @param actual The restored {@link GameSession}.
+     * @param expected The replayed {@link GameSession}.
+     */
+    private static void assertSameState(final BowlingGame bowlingGame, final GameSession actual, final GameSession expected)
+    {
+        assertThat(actual).isNotNull();
+        assertThat(actual.getScore()).isEqualTo(expected.getScore());
+        assertThat(actual.getFrameIndex()).isEqualTo(expected.getFrameIndex());
+        assertThat(actual.getStandingPins()).isEqualTo(expected.getStandingPins());
+        assertThat(actual.isComplete()).isEqualTo(expected.isComplete());
+        for (int frame = 0; frame < bowlingGame.getNumberOfFrames(); frame++)
+        {
+            assertThat(actual.getFrameScore(frame)).isEqualTo(expected.getFrameScore(frame));
+        }
+        assertThat(actual.getMinimumScore()).isEqualTo(expected.getMinimumScore());
+        assertThat(actual.getMaximumScore()).isEqualTo(expected.getMaximumScore());
+        final int target = (expected.getMinimumScore() + expected.getMaximumScore() + 1) / 2;
+        assertThat(actual.getRollsToReach(target)).isEqualTo(expected.getRollsToReach(target));
+    }
+
+    /**
+     * @param bowlingGame The {@link BowlingGame}.
+     * @param random The {@link Random}.
+     * @return The non-null rolls of a random complete game.
+     */
+    private static List<Integer> playRandomRolls(final BowlingGame bowlingGame, final Random random)
+    {
+        final GameSession session = bowlingGame.newSession();
+        final List<Integer> rolls = new ArrayList<>();
+        while (!session.isComplete())
+        {
+            final int pins = random.nextInt(session.getStandingPins() + 1);
+            session.roll(pins);
+            rolls.add(pins);
+        }
+        return rolls;
+    }
+
+    /**
+     * @param bowlingGame The {@link BowlingGame}.
+     * @param rolls The rolls of the game.
+     * @param count The number of rolls to replay.
+     * @return The non-null {@link GameSession} after the first count rolls.
+     */
+    private static GameSession replay(final BowlingGame bowlingGame, final List<Integer> rolls, final int count)
+    {
+        final GameSession session = bowlingGame.newSession();
+        for (int roll = 0; roll < count; roll++)
+        {
+            session.roll(rolls.get(roll));
+        }
+        return session;
+    }
+}
@@ -0,0 +1,134 @@
+package bowling.game;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The corpora of standard games and the file corruption shared by the tests, like {@code GameCorpus} for the
+ * benchmarks.
+ */
+final class TestGames
+{
+    /**
+     * Constructor for {@link TestGames}. Declared private to prevent instantiation.
+     */
+    private TestGames()
+    {
+    }
+
+    /**
+     * Creates random standard games, every so many of them corrupted by {@link #corruptGame}.
+     * @param random The {@link Random}.
+     * @param count The number of games.
+     * @param corruptEvery The interval of the corrupted games, starting with the first game.
+     * @return The non-null list of games.
+     */
+    @NonNull
+    static List<String> mixedGames(@NonNull final Random random, final int count, final int corruptEvery)
+    {
+        final List<String> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            games.add(i % corruptEvery == 0 ? corruptGame(random, randomGame(random)) : randomGame(random));
+        }
+        return games;
+    }
+
+    /**
+     * Creates a random valid standard game.
+     * @param random The {@link Random}.
+     * @return The random game.
+     */
+    @NonNull
+    static String randomGame(@NonNull final Random random)
+    {
+        final StringBuilder game = new StringBuilder();
+        int bonusRolls = 0;
+        for (int frame = 0; frame < 10; frame++)
+        {
+            final int firstRoll = random.nextInt(11);
+            if (firstRoll == 10)
+            {
+                game.append('X');
+                bonusRolls = 2;
+            }
+            else
+            {
+                final int secondRoll = random.nextInt(11 - firstRoll);
+                game.append(toSymbol(firstRoll));
+                game.append(firstRoll + secondRoll == 10 ? '/' : toSymbol(secondRoll));
+                bonusRolls = firstRoll + secondRoll == 10 ? 1 : 0;
+            }
+            game.append('|');
+        }
+        game.append('|');
+        for (int roll = 0; roll < bonusRolls; roll++)
+        {
+            final int bonusRoll = random.nextInt(11);
+            game.append(bonusRoll == 10 ? 'X' : toSymbol(bonusRoll));
+        }
+        return game.toString();
+    }
+
+    /**
+     * Corrupts the game by replacing, inserting or deleting a random character.
+     * @param random The {@link Random}.
+     * @param game The game to corrupt.
+     * @return The corrupted game.
+     */
+    @NonNull
+    static String corruptGame(@NonNull final Random random, @NonNull final String game)
+    {
+        final String alphabet = "X/-0123456789|G ";
+        final StringBuilder corrupted = new StringBuilder(game);
+        final int position = random.nextInt(game.length());
+        final char symbol = alphabet.charAt(random.nextInt(alphabet.length()));
+        switch (random.nextInt(3))
+        {
+            case 0:
+                corrupted.setCharAt(position, symbol);
+                break;
+            case 1:
+                corrupted.insert(position, symbol);
+                break;
+            default:
+                corrupted.deleteCharAt(position);
+                break;
+        }
+        return corrupted.toString();
+    }
+
+    /**
+     * @param pins The number of pins knocked down, less than ten.
+     * @return The symbol of the roll.
+     */
+    private static char toSymbol(final int pins)
+    {
+        return pins == 0 ? '-' : (char) ('0' + pins);
+    }
+
+    /**
+     * Flips a byte of the file, as a write torn by a crash would.
+     * @param path The path of the file.
+     * @param position The position of the byte.
+     * @throws IOException If the file cannot be read or written.
+     */
+    static void corrupt(@NonNull final Path path, final long position) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            final ByteBuffer value = ByteBuffer.allocate(1);
+            channel.read(value, position);
+            value.put(0, (byte) ~value.get(0));
+            channel.write(value.flip(), position);
+        }
+    }
+}